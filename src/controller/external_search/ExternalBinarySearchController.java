@@ -1,5 +1,6 @@
 package controller.external_search;
 
+import model.internal_search.RadixSort;
 import view.external_search.ExternalBinarySearchView;
 import view.menu.ExternalSearchMenuView;
 
@@ -767,17 +768,21 @@ public class ExternalBinarySearchController {
 
     private void sortAllBlocks() {
         // Collect all valid values
-        List<Integer> allValues = new ArrayList<>();
+        int[] allValues = new int[blocks.size() * blockSize];
+        int valueCount = 0;
         for (List<Integer> block : blocks) {
             for (Integer value : block) {
                 if (value != null && value != -1) {
-                    allValues.add(value);
+                    if (valueCount == allValues.length) {
+                        allValues = Arrays.copyOf(allValues, valueCount * 2 + 1);
+                    }
+                    allValues[valueCount++] = value;
                 }
             }
         }
 
         // Sort all values
-        Collections.sort(allValues);
+        RadixSort.sort(allValues, 0, valueCount);
 
         // Clear all blocks
         for (List<Integer> block : blocks) {
@@ -786,10 +791,10 @@ public class ExternalBinarySearchController {
 
         // Redistribute sorted values across blocks to maintain sorted order between blocks
         int valueIndex = 0;
-        for (int blockIndex = 0; blockIndex < blocks.size() && valueIndex < allValues.size(); blockIndex++) {
+        for (int blockIndex = 0; blockIndex < blocks.size() && valueIndex < valueCount; blockIndex++) {
             List<Integer> block = blocks.get(blockIndex);
-            for (int recordIndex = 0; recordIndex < blockSize && valueIndex < allValues.size(); recordIndex++) {
-                block.set(recordIndex, allValues.get(valueIndex));
+            for (int recordIndex = 0; recordIndex < blockSize && valueIndex < valueCount; recordIndex++) {
+                block.set(recordIndex, allValues[valueIndex]);
                 valueIndex++;
             }
         }
@@ -1,29 +1,72 @@
 package controller.internal_search;
 
+import model.internal_search.BatchLookup;
+import model.internal_search.EytzingerLayout;
+import model.internal_search.KarySearchTree;
+import model.internal_search.LearnedIndex;
+import model.internal_search.LookupCache;
+import model.internal_search.IntKeyStore;
+import model.internal_search.SortedBlockList;
+import model.internal_search.SortedSearchEngine;
+import model.internal_search.TombstoneSortedArray;
+import model.internal_search.VanEmdeBoasLayout;
+import model.internal_search.SortedSearchSelector;
 import view.menu.AlgorithmMenuView;
 import view.internal_search.BinarySearchView;
 
 import javax.swing.*;
 import javax.swing.filechooser.FileNameExtensionFilter;
-import java.io.BufferedReader;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 public class BinarySearchController {
 
+    // Modos de búsqueda disponibles cuando no se visualiza el proceso
+    private static final String MODE_CLASSIC = "Binaria clásica";
+    private static final String MODE_EYTZINGER = "Disposición Eytzinger";
+    private static final String MODE_INTERPOLATION = "Interpolación";
+    private static final String MODE_EXPONENTIAL = "Exponencial";
+    private static final String MODE_AUTO = "Automática";
+    private static final String MODE_LEARNED = "Índice aprendido";
+    private static final String MODE_KARY = "Árbol 16-ario estático";
+    private static final String MODE_VEB = "Disposición van Emde Boas";
+
     private BinarySearchView view;
-    private List<Integer> dataArray;
+    private IntKeyStore dataArray;
     private AlgorithmMenuView algorithmMenuView;
     private int digitLimit = 2; // Límite de dígitos por defecto
     private String currentFilePath = "src/utilities/datos-busqueda-binaria.txt";
+    // Estructura ordenada para insertar y eliminar sin reordenar; null si las claves no están ordenadas
+    private SortedBlockList sortedKeys;
+    // Indica que dataArray no refleja aún los últimos cambios de sortedKeys
+    private boolean flatArrayStale;
+    // Indica que el archivo no tiene aún los últimos cambios; se escriben al volver o al cerrar
+    private boolean unsavedChanges;
+    // Copia en orden Eytzinger; se reconstruye bajo demanda tras cada cambio
+    private EytzingerLayout eytzingerLayout;
+    // Modelo lineal por tramos; se reconstruye bajo demanda tras cada cambio
+    private LearnedIndex learnedIndex;
+    // Árbol 16-ario para datos de solo lectura; se reconstruye bajo demanda tras cada cambio
+    private KarySearchTree karyTree;
+    // Copia en orden van Emde Boas; se reconstruye bajo demanda tras cada cambio
+    private VanEmdeBoasLayout vebLayout;
+    // Selector automático; analiza la distribución de las claves bajo demanda
+    private SortedSearchSelector searchSelector = new SortedSearchSelector();
+    private boolean selectorAnalyzed;
+    // Última posición encontrada, punto de partida de la búsqueda exponencial
+    private int lastFoundPosition = 0;
+    // Eliminaciones pendientes de compactar; null cuando no hay lápidas
+    private TombstoneSortedArray tombstones;
+    private double compactionThreshold = TombstoneSortedArray.DEFAULT_COMPACTION_THRESHOLD;
+    // Caché de claves frecuentes (clave -> posición)
+    private final LookupCacheSupport lookupCache = new LookupCacheSupport();
 
     public BinarySearchController(BinarySearchView view) {
         this.view = view;
-        this.dataArray = new ArrayList<>();
+        this.dataArray = new IntKeyStore(0);
 
         // Initialize components
         initComponents();
@@ -40,7 +83,28 @@ public class BinarySearchController {
         this.algorithmMenuView = algorithmMenuView;
     }
 
+    // Setter for the tombstone ratio (0-1] that triggers a background compaction
+    public void setCompactionThreshold(double compactionThreshold) {
+        if (compactionThreshold <= 0 || compactionThreshold > 1) {
+            throw new IllegalArgumentException("El umbral debe estar entre 0 y 1");
+        }
+        this.compactionThreshold = compactionThreshold;
+        if (tombstones != null) {
+            tombstones.setCompactionThreshold(compactionThreshold);
+        }
+    }
+
+    // Getter for the active lookup cache and its hit/miss counters (null when disabled)
+    public LookupCache getLookupCache() {
+        return lookupCache.getLookupCache();
+    }
+
     private void initComponents() {
+        view.setSearchModes(new String[]{MODE_CLASSIC, MODE_EYTZINGER, MODE_INTERPOLATION,
+                MODE_EXPONENTIAL, MODE_AUTO, MODE_LEARNED, MODE_KARY, MODE_VEB});
+        view.setCachePolicies(LookupCacheSupport.POLICIES);
+        view.addCachePolicyListener(e -> lookupCache.changePolicy(view.getCachePolicy()));
+
         // Add action listeners to buttons
         view.addSearchListener(e -> performSearch());
         view.addGenerateArrayListener(e -> {
@@ -106,6 +170,12 @@ public class BinarySearchController {
         });
         view.addLoadFromFileListener(e -> loadFromExternalFile());
         view.addBackListener(e -> goBack());
+        view.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                saveIfChanged();
+            }
+        });
     }
 
     // Método para cargar archivo externo
@@ -130,12 +200,15 @@ public class BinarySearchController {
 
             try {
                 // Intentar cargar datos del archivo seleccionado
-                List<Integer> newData = loadDataFromExternalFile(selectedFile);
+                IntKeyStore newData = IntKeyStore.readFrom(selectedFile);
+
+                if (newData.capacity() > 0) {
+                    // Los cambios pendientes van al archivo anterior antes de reemplazarlo
+                    saveIfChanged();
 
-                if (!newData.isEmpty()) {
                     // Actualizar el array de datos
-                    dataArray.clear();
-                    dataArray.addAll(newData);
+                    dataArray.replaceWith(newData);
+                    rebuildSortedKeys();
 
                     // Actualizar el archivo actual
                     currentFilePath = selectedFile.getAbsolutePath();
@@ -147,7 +220,7 @@ public class BinarySearchController {
                     view.clearHighlights();
 
                     view.setResultMessage("Datos cargados desde: " + selectedFile.getName() +
-                            " (" + dataArray.size() + " elementos)", true);
+                            " (" + dataArray.capacity() + " elementos)", true);
                 } else {
                     view.setResultMessage("El archivo seleccionado está vacío o no contiene datos válidos", false);
                 }
@@ -160,51 +233,6 @@ public class BinarySearchController {
         }
     }
 
-    // Método para cargar datos desde un archivo externo específico
-    private List<Integer> loadDataFromExternalFile(File file) throws IOException {
-        List<Integer> data = new ArrayList<>();
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-
-            while ((line = reader.readLine()) != null) {
-                line = line.trim();
-
-                if (line.isEmpty()) {
-                    continue; // Saltar líneas vacías
-                }
-
-                // Si la línea contiene corchetes, procesarla como array
-                if (line.contains("[") && line.contains("]")) {
-                    line = line.replace("[", "").replace("]", "");
-                }
-
-                // Dividir por comas, espacios o ambos
-                String[] values = line.split("[,\\s]+");
-
-                for (String value : values) {
-                    value = value.trim();
-
-                    if (!value.isEmpty()) {
-                        try {
-                            int num = Integer.parseInt(value);
-                            data.add(num);
-                        } catch (NumberFormatException e) {
-                            // Si no es un número válido, agregar como -1 (vacío)
-                            if (!value.equals("-1")) {
-                                System.err.println("Valor no numérico ignorado: " + value);
-                            } else {
-                                data.add(-1);
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
-        return data;
-    }
-
     // Método para validar la cantidad de dígitos
     private boolean isValidDigitCount(int value, int digitLimit) {
         String valueStr = String.valueOf(Math.abs(value));
@@ -222,31 +250,10 @@ public class BinarySearchController {
         return (int) Math.pow(10, digitLimit) - 1;
     }
 
-    // Método para ordenar el arreglo manteniendo los -1 al final
+    // Método para ordenar las claves (las posiciones libres quedan al final)
     private void sortArray() {
-        List<Integer> validValues = new ArrayList<>();
-        int emptyCount = 0;
-
-        // Separar valores válidos de los -1
-        for (Integer value : dataArray) {
-            if (value != null && value != -1) {
-                validValues.add(value);
-            } else {
-                emptyCount++;
-            }
-        }
-
-        // Ordenar solo los valores válidos
-        Collections.sort(validValues);
-
-        // Reconstruir el arreglo
-        dataArray.clear();
-        dataArray.addAll(validValues);
-
-        // Agregar los -1 al final
-        for (int i = 0; i < emptyCount; i++) {
-            dataArray.add(-1);
-        }
+        dataArray.sort();
+        rebuildSortedKeys();
 
         // Guardar en el archivo actual
         saveArrayToFile();
@@ -255,6 +262,31 @@ public class BinarySearchController {
         displayDataInTable();
     }
 
+    // Reconstruye la lista por bloques a partir del arreglo, si está ordenado
+    private void rebuildSortedKeys() {
+        // Las claves se reemplazan por completo: las lápidas pendientes ya no aplican
+        discardTombstones();
+        sortedKeys = dataArray.isSorted()
+                ? SortedBlockList.fromSorted(dataArray.rawKeys(), dataArray.size())
+                : null;
+        flatArrayStale = false;
+        invalidateLayouts();
+    }
+
+    // Vuelca en dataArray los cambios pendientes de la lista por bloques
+    private void ensureFlatArray() {
+        flushTombstones();
+        if (flatArrayStale) {
+            dataArray.copyFrom(sortedKeys);
+            flatArrayStale = false;
+        }
+    }
+
+    // Cantidad de claves almacenadas
+    private int keyCount() {
+        return sortedKeys != null ? sortedKeys.size() : dataArray.size();
+    }
+
     // Método para guardar el arreglo en el archivo actual
     private void saveArrayToFile() {
         try {
@@ -263,18 +295,23 @@ public class BinarySearchController {
             // Crear directorios padre si no existen
             file.getParentFile().mkdirs();
 
-            try (java.io.PrintWriter writer = new java.io.PrintWriter(file)) {
-                writer.println(dataArray.toString());
-            }
+            ensureFlatArray();
+            dataArray.writeTo(file);
+            unsavedChanges = false;
         } catch (IOException e) {
             System.err.println("Error al escribir en el archivo: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
-    private void loadDataFromFile() {
-        dataArray.clear();
+    // Escribe el archivo solo si quedaron inserciones o eliminaciones sin guardar
+    private void saveIfChanged() {
+        if (unsavedChanges || tombstones != null) {
+            saveArrayToFile();
+        }
+    }
 
+    private void loadDataFromFile() {
         try {
             // Path to the default file
             File file = new File(currentFilePath);
@@ -282,30 +319,39 @@ public class BinarySearchController {
             if (!file.exists()) {
                 System.err.println("El archivo de datos no existe: " + file.getAbsolutePath());
                 // Crear un array vacío por defecto
-                dataArray.add(-1);
+                dataArray.reset(1);
                 return;
             }
 
-            List<Integer> loadedData = loadDataFromExternalFile(file);
-            dataArray.addAll(loadedData);
+            dataArray.replaceWith(IntKeyStore.readFrom(file));
+            rebuildSortedKeys();
 
         } catch (IOException e) {
             System.err.println("Error al leer el archivo: " + e.getMessage());
             e.printStackTrace();
             // Crear un array vacío por defecto en caso de error
-            dataArray.add(-1);
+            dataArray.reset(1);
         }
     }
 
     private void displayDataInTable() {
+        // Con lápidas se muestran las posiciones físicas sin forzar la compactación
+        if (tombstones != null) {
+            displayTombstonesInTable();
+            return;
+        }
+
+        ensureFlatArray();
+
         // Create data for table with position and value columns
-        Object[][] tableData = new Object[dataArray.size()][2];
+        Object[][] tableData = new Object[dataArray.capacity()][2];
+        int[] keys = dataArray.rawKeys();
+        int size = dataArray.size();
 
-        for (int i = 0; i < dataArray.size(); i++) {
+        for (int i = 0; i < tableData.length; i++) {
             tableData[i][0] = i + 1;  // Position (starting from 1)
-            // Si el valor es -1, mostramos una celda vacía
-            Integer value = dataArray.get(i);
-            tableData[i][1] = (value != null && value == -1) ? "" : value;
+            // Las posiciones libres se muestran como celdas vacías
+            tableData[i][1] = i < size ? (Object) keys[i] : "";
         }
 
         // Set data to table
@@ -314,7 +360,10 @@ public class BinarySearchController {
 
     // Método principal de búsqueda que decide si animar o no
     private void performSearch() {
-        if (view.isVisualizationEnabled()) {
+        // Varias claves separadas por comas o espacios se resuelven en lote
+        if (view.getSearchValue().matches(".*\\d[,\\s]+-?\\d.*")) {
+            performBatchSearch();
+        } else if (view.isVisualizationEnabled()) {
             performAnimatedSearch();
         } else {
             performNormalSearch();
@@ -344,10 +393,12 @@ public class BinarySearchController {
                 if (position != -1) {
                     // Encontrado
                     view.highlightFoundItem(position);
-                    view.setResultMessage("Clave " + valueToSearch + " encontrada en la posición " + (position + 1), true);
+                    view.setResultMessage("Clave " + valueToSearch + " encontrada en la posición " + (position + 1)
+                            + describeSearchMethod() + describeCache(), true);
                 } else {
                     // No encontrado
-                    view.setResultMessage("Clave " + valueToSearch + " no encontrada en el arreglo", false);
+                    view.setResultMessage("Clave " + valueToSearch + " no encontrada en el arreglo"
+                            + describeSearchMethod() + describeCache(), false);
                 }
             } catch (IllegalStateException e) {
                 view.setResultMessage(e.getMessage(), false);
@@ -358,6 +409,52 @@ public class BinarySearchController {
         }
     }
 
+    // Búsqueda de varias claves en una sola pasada
+    private void performBatchSearch() {
+        String[] values = view.getSearchValue().split("[,\\s]+");
+        int[] queries = new int[values.length];
+
+        try {
+            for (int i = 0; i < values.length; i++) {
+                queries[i] = Integer.parseInt(values[i]);
+            }
+        } catch (NumberFormatException e) {
+            view.setResultMessage("Por favor ingrese claves numéricas válidas", false);
+            return;
+        }
+
+        if (!isArraySorted()) {
+            view.setResultMessage("El arreglo debe estar ordenado para realizar una búsqueda binaria", false);
+            return;
+        }
+
+        view.clearHighlights();
+
+        // Con lápidas se consulta una copia de las claves vivas sin salir del modo
+        int[] keys;
+        int size;
+        if (tombstones != null) {
+            keys = tombstones.toLiveArray();
+            size = keys.length;
+        } else {
+            ensureFlatArray();
+            keys = dataArray.rawKeys();
+            size = dataArray.size();
+        }
+        BatchLookup.Stats stats = new BatchLookup.Stats();
+        int[] positions = BatchLookup.lookup(keys, size, queries, stats);
+
+        int found = 0;
+        for (int position : positions) {
+            if (position != -1) {
+                found++;
+            }
+        }
+
+        view.setResultMessage(found + " de " + queries.length + " claves encontradas. Comparaciones: "
+                + stats.getBatchComparisons() + " (una a una: " + stats.getSingleComparisons() + ")", found > 0);
+    }
+
     // Búsqueda animada con visualización del proceso
     private void performAnimatedSearch() {
         String input = view.getSearchValue();
@@ -380,54 +477,41 @@ public class BinarySearchController {
             // Limpiar highlights anteriores
             view.clearHighlights();
 
+            // Con lápidas se recorren las posiciones físicas que muestra la tabla
+            TombstoneSortedArray pending = tombstones;
+            if (pending == null) {
+                ensureFlatArray();
+            }
+
             // Crear un SwingWorker para la animación
             SwingWorker<Integer, int[]> worker = new SwingWorker<Integer, int[]>() {
                 @Override
                 protected Integer doInBackground() throws Exception {
                     int left = 0;
-                    int right = dataArray.size() - 1;
+                    int right = (pending != null ? pending.size() : dataArray.size()) - 1;
 
                     while (left <= right) {
                         int mid = left + (right - left) / 2;
 
-                        // Manejar valores -1 en el medio
-                        if (dataArray.get(mid) == -1) {
-                            // Buscar a la izquierda un valor válido
-                            int tempMid = mid;
-                            while (tempMid >= left && dataArray.get(tempMid) == -1) {
-                                tempMid--;
-                            }
-
-                            // Si no hay valores válidos en la izquierda, buscar a la derecha
-                            if (tempMid < left) {
-                                tempMid = mid + 1;
-                                while (tempMid <= right && dataArray.get(tempMid) == -1) {
-                                    tempMid++;
-                                }
-
-                                // Si no hay valores válidos en el rango
-                                if (tempMid > right) {
-                                    return -1;
-                                }
-
-                                mid = tempMid;
-                            } else {
-                                mid = tempMid;
-                            }
-                        }
-
                         // Publicar el rango actual para visualizar
                         publish(new int[]{left, right, mid});
 
                         // Pausa para visualizar la búsqueda
                         Thread.sleep(800); // 800ms de pausa para búsqueda binaria
 
+                        // Una compactación en curso pudo acortar el arreglo: se resuelve sin animar
+                        if (pending != null && mid >= pending.size()) {
+                            return pending.search(valueToSearch);
+                        }
+
                         // Comparar el valor del medio con el objetivo
-                        if (dataArray.get(mid) == valueToSearch) {
-                            return mid; // Encontrado
+                        int midKey = pending != null ? pending.get(mid) : dataArray.get(mid);
+                        if (midKey == valueToSearch) {
+                            // Una clave con lápida no cuenta; una compactación pudo moverla durante la animación
+                            return pending != null ? pending.search(valueToSearch) : mid; // Encontrado
                         }
 
-                        if (dataArray.get(mid) < valueToSearch) {
+                        if (midKey < valueToSearch) {
                             left = mid + 1;
                         } else {
                             right = mid - 1;
@@ -483,83 +567,132 @@ public class BinarySearchController {
             throw new IllegalStateException("El arreglo debe estar ordenado para realizar una búsqueda binaria");
         }
 
-        int left = 0;
-        int right = dataArray.size() - 1;
-
-        while (left <= right) {
-            int mid = left + (right - left) / 2;
+        // Con lápidas pendientes la compactación en segundo plano puede mover las claves: no se usa la caché
+        if (!lookupCache.isEnabled() || tombstones != null) {
+            return searchWithSelectedMode(target);
+        }
 
-            // If the middle value is -1, we need to find a valid value
-            if (dataArray.get(mid) == -1) {
-                // Buscar a la izquierda un valor válido
-                int tempMid = mid;
-                while (tempMid >= left && dataArray.get(tempMid) == -1) {
-                    tempMid--;
-                }
+        // Las claves frecuentes se resuelven en la caché sin pasar por el motor
+        int position = lookupCache.get(target);
+        if (position != -1) {
+            lastFoundPosition = position;
+            return position;
+        }
 
-                // If there are no valid values in the current range
-                if (tempMid < left) {
-                    tempMid = mid + 1;
-                    while (tempMid <= right && dataArray.get(tempMid) == -1) {
-                        tempMid++;
-                    }
+        position = searchWithSelectedMode(target);
+        lookupCache.put(target, position);
+        return position;
+    }
 
-                    // If there are no valid values in the current range
-                    if (tempMid > right) {
-                        return -1;
-                    }
+    // Resuelve la búsqueda con la estructura del modo seleccionado
+    private int searchWithSelectedMode(int target) {
+        // Con lápidas pendientes la búsqueda binaria descarta las posiciones eliminadas
+        if (tombstones != null) {
+            return tombstones.search(target);
+        }
 
-                    mid = tempMid;
-                } else {
-                    mid = tempMid;
-                }
+        // La búsqueda clásica se resuelve sobre la lista por bloques sin volcarla
+        if (MODE_CLASSIC.equals(view.getSearchMode()) && sortedKeys != null) {
+            int position = sortedKeys.indexOf(target);
+            if (position != -1) {
+                lastFoundPosition = position;
             }
+            return position;
+        }
 
-            // Compare the middle value with the target
-            if (dataArray.get(mid) == target) {
-                return mid;
-            }
+        ensureFlatArray();
+        int[] keys = dataArray.rawKeys();
+        int size = dataArray.size();
+        int position;
 
-            if (dataArray.get(mid) < target) {
-                left = mid + 1;
-            } else {
-                right = mid - 1;
-            }
+        switch (view.getSearchMode()) {
+            case MODE_EYTZINGER:
+                if (eytzingerLayout == null) {
+                    eytzingerLayout = EytzingerLayout.build(keys, size);
+                }
+                position = eytzingerLayout.search(target);
+                break;
+            case MODE_INTERPOLATION:
+                position = SortedSearchEngine.interpolationSearch(keys, size, target);
+                break;
+            case MODE_EXPONENTIAL:
+                position = SortedSearchEngine.exponentialSearch(keys, size, target, lastFoundPosition);
+                break;
+            case MODE_LEARNED:
+                if (learnedIndex == null) {
+                    learnedIndex = LearnedIndex.build(keys, size);
+                }
+                position = learnedIndex.search(target);
+                break;
+            case MODE_KARY:
+                if (karyTree == null) {
+                    karyTree = KarySearchTree.build(keys, size);
+                }
+                position = karyTree.search(target);
+                break;
+            case MODE_VEB:
+                if (vebLayout == null) {
+                    vebLayout = VanEmdeBoasLayout.build(keys, size);
+                }
+                position = vebLayout.search(target);
+                break;
+            case MODE_AUTO:
+                if (!selectorAnalyzed) {
+                    searchSelector.analyze(keys, size);
+                    selectorAnalyzed = true;
+                }
+                position = searchSelector.search(keys, size, target);
+                break;
+            default:
+                position = SortedSearchEngine.binarySearch(keys, size, target);
         }
 
-        return -1;  // Not found
+        if (position != -1) {
+            lastFoundPosition = position;
+        }
+        return position;
     }
 
-    private boolean isArraySorted() {
-        Integer prevValue = null;
-        boolean foundNonEmpty = false;
-
-        for (Integer value : dataArray) {
-            // Ignorar valores -1
-            if (value == -1) {
-                continue;
-            }
+    // Indica qué método eligió el modo automático
+    private String describeSearchMethod() {
+        if (tombstones != null) {
+            return String.format(" (lápidas: %d, %.0f%% del arreglo)",
+                    tombstones.getTombstoneCount(), tombstones.getTombstoneRatio() * 100);
+        }
+        if (MODE_LEARNED.equals(view.getSearchMode()) && learnedIndex != null) {
+            return String.format(" (%d segmentos, %d bytes, ventana promedio: %.1f)",
+                    learnedIndex.getSegmentCount(), learnedIndex.getModelBytes(),
+                    learnedIndex.getAverageWindow());
+        }
+        if (!MODE_AUTO.equals(view.getSearchMode())) {
+            return "";
+        }
+        return " (método: " + searchSelector.getLastMethod() + ")";
+    }
 
-            if (!foundNonEmpty) {
-                foundNonEmpty = true;
-                prevValue = value;
-                continue;
-            }
+    // Aciertos y fallos de la caché de consultas
+    private String describeCache() {
+        return tombstones != null ? "" : lookupCache.describe();
+    }
 
-            if (prevValue > value) {
-                return false;
-            }
-            prevValue = value;
-        }
+    // Las disposiciones derivadas y las posiciones cacheadas se descartan cada vez que cambian las claves
+    private void invalidateLayouts() {
+        lookupCache.clear();
+        eytzingerLayout = null;
+        learnedIndex = null;
+        karyTree = null;
+        vebLayout = null;
+        selectorAnalyzed = false;
+        lastFoundPosition = 0;
+    }
 
-        return true;
+    private boolean isArraySorted() {
+        return sortedKeys != null || dataArray.isSorted();
     }
 
     private void generateNewArray(int newSize) {
-        dataArray.clear();
-        for (int i = 0; i < newSize; i++) {
-            dataArray.add(-1);
-        }
+        dataArray.reset(newSize);
+        rebuildSortedKeys();
 
         // Save the new array to the current file
         saveArrayToFile();
@@ -575,60 +708,162 @@ public class BinarySearchController {
 
     // Method to insert values
     public void insertValue(int value) throws IllegalArgumentException {
-        // Primero verificar si el valor ya existe
-        for (Integer num : dataArray) {
-            if (num != null && num != -1 && num == value) {
+        // Insertar sobre el arreglo compactado
+        flushTombstones();
+
+        // Claves sin ordenar: se agregan y se ordena el arreglo completo una vez
+        if (sortedKeys == null) {
+            if (dataArray.contains(value)) {
                 throw new IllegalArgumentException("La clave " + value + " ya existe en el arreglo");
             }
-        }
-
-        // Buscar la primera posición disponible (-1)
-        int index = -1;
-        for (int i = 0; i < dataArray.size(); i++) {
-            if (dataArray.get(i) == -1) { // -1 indica posición vacía
-                index = i;
-                break;
+            if (dataArray.add(value)) {
+                sortArray();
+                view.setResultMessage("Clave " + value + " insertada correctamente", true);
+            } else {
+                view.setResultMessage("El arreglo está lleno", false);
             }
+            return;
         }
 
-        // Si encontramos una posición disponible
-        if (index != -1) {
-            dataArray.set(index, value);
-
-            // Ordenar el arreglo después de insertar
-            sortArray();
-
-            view.setResultMessage("Clave " + value + " insertada correctamente", true);
-        } else {
+        if (keyCount() >= dataArray.capacity()) {
             view.setResultMessage("El arreglo está lleno", false);
+            return;
+        }
+
+        // Inserción ordenada en O(log n + tamaño de bloque); rechaza duplicados
+        if (!sortedKeys.insert(value)) {
+            throw new IllegalArgumentException("La clave " + value + " ya existe en el arreglo");
         }
+
+        // Desde la nueva clave hasta el final las filas se corren un lugar
+        onSortedKeysChanged(sortedKeys.indexOf(value), sortedKeys.size());
+        view.setResultMessage("Clave " + value + " insertada correctamente", true);
     }
 
     // Method to delete a value
     public void deleteValue(int value) {
-        // Buscar el valor en el arreglo
-        int index = -1;
-        for (int i = 0; i < dataArray.size(); i++) {
-            if (dataArray.get(i) != null && dataArray.get(i) == value) {
-                index = i;
-                break;
-            }
+        if (view.isTombstoneDeleteEnabled() && sortedKeys != null) {
+            deleteWithTombstone(value);
+            return;
         }
 
-        // Si encontramos el valor
-        if (index != -1) {
-            dataArray.set(index, -1); // Marcar como vacío
+        // Eliminar sin lápida sobre el arreglo ya compactado
+        flushTombstones();
+        boolean removed;
 
-            // Ordenar el arreglo después de eliminar
-            sortArray();
+        if (sortedKeys != null) {
+            int position = sortedKeys.indexOf(value);
+            removed = sortedKeys.remove(value);
+            if (removed) {
+                // Desde la clave eliminada las filas suben un lugar y la última queda libre
+                onSortedKeysChanged(position, sortedKeys.size() + 1);
+            }
+        } else {
+            int index = dataArray.indexOf(value);
+            removed = index != -1;
+            if (removed) {
+                dataArray.removeAt(index);
+                sortArray();
+            }
+        }
 
+        if (removed) {
             view.setResultMessage("Clave " + value + " eliminada correctamente", true);
         } else {
             view.setResultMessage("Clave " + value + " no encontrada en el arreglo", false);
         }
     }
 
+    // Marca la clave con una lápida; la compactación ocurre en segundo plano al pasar el umbral
+    private void deleteWithTombstone(int value) {
+        if (tombstones == null) {
+            ensureFlatArray();
+            TombstoneSortedArray array = new TombstoneSortedArray(dataArray.rawKeys(), dataArray.size());
+            array.setCompactionThreshold(compactionThreshold);
+            array.setCompactionListener(() -> SwingUtilities.invokeLater(() -> onCompacted(array)));
+            tombstones = array;
+        }
+
+        if (tombstones.delete(value)) {
+            // La caché no se consulta mientras haya lápidas; igual se descarta la clave eliminada
+            lookupCache.invalidate(value);
+            view.clearHighlights();
+            displayDataInTable();
+            view.setResultMessage("Clave " + value + " marcada como eliminada" + describeSearchMethod(), true);
+        } else {
+            view.setResultMessage("Clave " + value + " no encontrada en el arreglo", false);
+        }
+    }
+
+    // Llega al hilo de la interfaz cuando termina una compactación en segundo plano. El arreglo
+    // ya quedó compactado en su lugar: solo se redibujan las posiciones y se sigue con lápidas
+    private void onCompacted(TombstoneSortedArray source) {
+        // Aviso de un arreglo que ya se aplicó o se descartó
+        if (source != tombstones) {
+            return;
+        }
+
+        displayDataInTable();
+        view.setResultMessage(String.format("Compactación: %d lápidas retiradas en %.2f ms (total: %d compactaciones, %.2f ms)",
+                source.getLastCompactionRemoved(), source.getLastCompactionNanos() / 1e6,
+                source.getCompactionCount(), source.getTotalCompactionNanos() / 1e6), true);
+    }
+
+    // Aplica las lápidas a la lista por bloques y vuelve al modo sin lápidas (al guardar, volver o insertar)
+    private void flushTombstones() {
+        if (tombstones == null) {
+            return;
+        }
+
+        int[] live = tombstones.toLiveArray();
+        int shownRows = tombstones.size();
+        discardTombstones();
+        sortedKeys = SortedBlockList.fromSorted(live, live.length);
+        onSortedKeysChanged(0, shownRows);
+    }
+
+    private void discardTombstones() {
+        if (tombstones != null) {
+            tombstones.shutdown();
+            tombstones = null;
+        }
+    }
+
+    private void displayTombstonesInTable() {
+        Object[][] tableData = new Object[dataArray.capacity()][2];
+        int size = tombstones.size();
+
+        for (int i = 0; i < tableData.length; i++) {
+            tableData[i][0] = i + 1;  // Position (starting from 1)
+            if (i >= size) {
+                tableData[i][1] = "";
+            } else {
+                tableData[i][1] = tombstones.isDeleted(i) ? "(eliminada)" : (Object) tombstones.get(i);
+            }
+        }
+
+        view.setTableData(tableData);
+    }
+
+    // Tras insertar o eliminar en la lista por bloques. El arreglo plano y el archivo se
+    // actualizan recién cuando se necesitan; la tabla solo rehace las filas [fromRow, toRow)
+    private void onSortedKeysChanged(int fromRow, int toRow) {
+        flatArrayStale = true;
+        unsavedChanges = true;
+        invalidateLayouts();
+
+        int size = sortedKeys.size();
+        Object[] rows = new Object[Math.min(toRow, dataArray.capacity()) - fromRow];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = fromRow + i < size ? (Object) sortedKeys.get(fromRow + i) : "";
+        }
+        view.setKeyRows(fromRow, rows);
+    }
+
     private void goBack() {
+        // Aplicar y guardar las inserciones y eliminaciones pendientes
+        saveIfChanged();
+
         // Close current view
         view.dispose();
 
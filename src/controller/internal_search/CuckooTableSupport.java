@@ -0,0 +1,219 @@
+package controller.internal_search;
+
+import model.internal_search.CuckooHashTable;
+import model.internal_search.HashFunction;
+
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Modo cuckoo de los controladores hash (módulo, plegamiento, truncamiento y
+ * cuadrado medio): arma la tabla de 4 vías con la función del controlador
+ * primero y las otras tres después, y resuelve inserción, búsqueda, borrado y
+ * la tabla que se muestra. La vista puede tener una fila por cubeta o, como
+ * en cuadrado medio, una fila por vía en el orden del archivo.
+ */
+class CuckooTableSupport {
+
+    // Funciones disponibles, en el orden en que siguen a la del controlador
+    private static final String[] FUNCTION_NAMES = {"módulo", "plegamiento", "cuadrado medio", "truncamiento"};
+
+    private final String functionName;
+    private final HashFunction hashFunction;
+    private final boolean slotRows;
+    private final Runnable onTableChanged;
+    private final BiConsumer<String, Boolean> resultMessage;
+    private final IntConsumer highlightRow;
+
+    // null mientras se usa otra organización de la tabla
+    private CuckooHashTable cuckooTable;
+    // Nombres de las funciones de la tabla actual, en el mismo orden
+    private String[] functionNames;
+
+    CuckooTableSupport(String functionName, HashFunction hashFunction, boolean slotRows, Runnable onTableChanged,
+                       BiConsumer<String, Boolean> resultMessage, IntConsumer highlightRow) {
+        this.functionName = functionName;
+        this.hashFunction = hashFunction;
+        this.slotRows = slotRows;
+        this.onTableChanged = onTableChanged;
+        this.resultMessage = resultMessage;
+        this.highlightRow = highlightRow;
+    }
+
+    boolean isEnabled() {
+        return cuckooTable != null;
+    }
+
+    // Pasa a la tabla cuckoo con las claves de la tabla abierta; el controlador la muestra sin guardarla
+    void enable(int[] keys, int tableSize, int digitLimit) {
+        rebuild(keys, tableSize, digitLimit);
+        resultMessage.accept("Tabla cuckoo con " + cuckooTable.size() + " claves" + describe(), true);
+    }
+
+    void disable() {
+        cuckooTable = null;
+    }
+
+    // Rehace la tabla con otras claves o tamaño (tabla nueva o archivo cargado)
+    void rebuild(int[] keys, int tableSize, int digitLimit) {
+        cuckooTable = CuckooHashTable.of(keys, bucketCount(tableSize), functions(digitLimit));
+    }
+
+    // La función del controlador primero; el truncamiento toma los dos últimos dígitos del límite actual
+    private HashFunction[] functions(int digitLimit) {
+        int[] positions = digitLimit > 1 ? new int[]{digitLimit - 1, digitLimit} : new int[]{1};
+        HashFunction[] all = {HashFunction.modulo(), HashFunction.folding(), HashFunction.middleSquare(),
+                HashFunction.truncation(() -> positions)};
+
+        HashFunction[] functions = new HashFunction[all.length];
+        functionNames = new String[all.length];
+        functions[0] = hashFunction;
+        functionNames[0] = functionName;
+        for (int i = 0, next = 1; i < all.length; i++) {
+            if (!FUNCTION_NAMES[i].equals(functionName)) {
+                functions[next] = all[i];
+                functionNames[next++] = FUNCTION_NAMES[i];
+            }
+        }
+        return functions;
+    }
+
+    // Con una fila por vía el archivo conserva el tamaño de la tabla; si no, una cubeta por fila
+    private int bucketCount(int tableSize) {
+        return slotRows ? (tableSize + CuckooHashTable.WAYS - 1) / CuckooHashTable.WAYS : tableSize;
+    }
+
+    // Fila de la vista donde se muestra una clave de la cubeta
+    private int rowOf(int bucket, int value) {
+        return slotRows ? bucket * CuckooHashTable.WAYS + cuckooTable.wayOf(bucket, value) : bucket;
+    }
+
+    // Claves de la tabla cuckoo, para llevarlas a la tabla abierta
+    int[] keys() {
+        return cuckooTable.keys();
+    }
+
+    // Encabezados de la tabla con una fila por cubeta y una columna por vía
+    String[] headers() {
+        String[] headers = new String[CuckooHashTable.WAYS + 1];
+        headers[0] = "Cubeta";
+        for (int i = 1; i <= CuckooHashTable.WAYS; i++) {
+            headers[i] = "Vía " + i;
+        }
+        return headers;
+    }
+
+    Object[][] tableData() {
+        if (slotRows) {
+            // Una fila por vía, cubeta tras cubeta, en el mismo orden que el archivo
+            int cells = cuckooTable.bucketCount() * CuckooHashTable.WAYS;
+            Object[][] tableData = new Object[cells][2];
+            for (int i = 0; i < cells; i++) {
+                int value = cuckooTable.get(i / CuckooHashTable.WAYS, i % CuckooHashTable.WAYS);
+                tableData[i][0] = i + 1;
+                tableData[i][1] = value == CuckooHashTable.EMPTY_SLOT ? "" : (Object) value;
+            }
+            return tableData;
+        }
+
+        int buckets = cuckooTable.bucketCount();
+        Object[][] tableData = new Object[buckets][CuckooHashTable.WAYS + 1];
+        for (int i = 0; i < buckets; i++) {
+            tableData[i][0] = i + 1;
+            int columns = cuckooTable.columnCount(i);
+            for (int j = 1; j <= CuckooHashTable.WAYS; j++) {
+                tableData[i][j] = j <= columns ? (Object) cuckooTable.get(i, j - 1) : "";
+            }
+        }
+        return tableData;
+    }
+
+    // Sin colisiones que resolver: la tabla desaloja claves y, ante un ciclo, se rehace sola
+    void insertValues(int[] values) {
+        long evictions = cuckooTable.getEvictions();
+        int rehashes = cuckooTable.getRehashes();
+        int inserted = 0;
+        int lastBucket = CuckooHashTable.NOT_FOUND;
+
+        for (int value : values) {
+            int bucket = cuckooTable.insert(value);
+            if (bucket != CuckooHashTable.NOT_FOUND) {
+                inserted++;
+                lastBucket = bucket;
+            }
+        }
+
+        onTableChanged.run();
+
+        String summary;
+        if (values.length > 1) {
+            summary = inserted + " de " + values.length + " claves insertadas";
+        } else if (inserted == 1) {
+            summary = "Clave " + values[0] + " insertada en la cubeta " + (lastBucket + 1);
+        } else {
+            summary = "La clave " + values[0] + " ya existe en la tabla hash";
+        }
+        resultMessage.accept(summary + describeChanges(evictions, rehashes), inserted > 0);
+    }
+
+    // Cada clave está en una de dos cubetas: no hace falta animar la búsqueda
+    void search(int[] values) {
+        int[] buckets = cuckooTable.findAll(values);
+
+        if (values.length == 1) {
+            int value = values[0];
+            int bucket = buckets[0];
+            if (bucket != CuckooHashTable.NOT_FOUND) {
+                highlightRow.accept(rowOf(bucket, value));
+                resultMessage.accept("Clave " + value + " encontrada en la cubeta " + (bucket + 1) + ", vía " + (cuckooTable.wayOf(bucket, value) + 1) +
+                        (bucket == cuckooTable.firstBucket(value) ? " (primera cubeta)" : " (segunda cubeta)"), true);
+            } else {
+                resultMessage.accept("Clave " + value + " no encontrada. Se revisaron las cubetas " +
+                        (cuckooTable.firstBucket(value) + 1) + " y " + (cuckooTable.secondBucket(value) + 1), false);
+            }
+            return;
+        }
+
+        int found = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (buckets[i] != CuckooHashTable.NOT_FOUND) {
+                if (found == 0) {
+                    highlightRow.accept(rowOf(buckets[i], values[i]));
+                }
+                found++;
+            }
+        }
+
+        resultMessage.accept(found + " de " + values.length + " claves encontradas", found > 0);
+    }
+
+    void delete(int value) {
+        int bucket = cuckooTable.find(value);
+
+        if (bucket == CuckooHashTable.NOT_FOUND) {
+            resultMessage.accept("Clave " + value + " no encontrada en la tabla hash", false);
+            return;
+        }
+
+        // La última clave de la cubeta pasa a la vía que queda libre
+        int way = cuckooTable.wayOf(bucket, value);
+        cuckooTable.remove(value);
+
+        onTableChanged.run();
+        resultMessage.accept("Clave " + value + " eliminada de la cubeta " + (bucket + 1) + ", vía " + (way + 1), true);
+    }
+
+    // Desalojos y rehash provocados por las últimas inserciones
+    private String describeChanges(long evictionsBefore, int rehashesBefore) {
+        String changes = ". Desalojos: " + (cuckooTable.getEvictions() - evictionsBefore);
+        int rehashes = cuckooTable.getRehashes() - rehashesBefore;
+        return rehashes == 0 ? changes : changes + ", rehash: " + rehashes + describe();
+    }
+
+    // Par de funciones en uso, cubetas y carga de la tabla cuckoo
+    private String describe() {
+        return String.format(" (funciones: %s y %s; %d cubetas, carga %.2f)",
+                functionNames[cuckooTable.firstFunction()], functionNames[cuckooTable.secondFunction()],
+                cuckooTable.bucketCount(), cuckooTable.loadFactor());
+    }
+}
@@ -0,0 +1,196 @@
+package controller.internal_search;
+
+import model.internal_search.IntHashTable;
+import view.colision.ColisionView;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Inserción con colisiones de los controladores hash (módulo, plegamiento,
+ * truncamiento y cuadrado medio): la ventana de colisión para una clave, la
+ * inserción por lotes y los mensajes de cada solución. Cada controlador
+ * aporta su tabla, su caché de consultas, cómo guardar y redibujar, y la
+ * solución que aplica el botón "Solución Tablas".
+ */
+class HashCollisionSupport {
+
+    private final Supplier<IntHashTable> table;
+    private final LookupCacheSupport lookupCache;
+    private final String tableSolution;
+    private final Runnable onTableChanged;
+    private final BiConsumer<String, Boolean> resultMessage;
+
+    HashCollisionSupport(Supplier<IntHashTable> table, LookupCacheSupport lookupCache, String tableSolution,
+                         Runnable onTableChanged, BiConsumer<String, Boolean> resultMessage) {
+        this.table = table;
+        this.lookupCache = lookupCache;
+        this.tableSolution = tableSolution;
+        this.onTableChanged = onTableChanged;
+        this.resultMessage = resultMessage;
+    }
+
+    // Pregunta qué solución aplicar a una clave cuya posición hash está ocupada
+    void handleCollision(int valueToInsert, int hashPosition) {
+        int currentValue = table.get().get(hashPosition);
+
+        resultMessage.accept("Colisión detectada: Clave " + valueToInsert +
+                " debería ir en la posición " + (hashPosition + 1) +
+                " que ya está ocupada por " + currentValue, false);
+
+        showCollisionView(valueToInsert, hashPosition,
+                strategy -> solveCollision(valueToInsert, hashPosition, strategy),
+                () -> resultMessage.accept("Inserción cancelada: colisión en posición " + (hashPosition + 1), false));
+    }
+
+    /**
+     * Inserta varias claves: las posiciones base se calculan en un solo lote,
+     * las que caen en una posición libre se colocan de inmediato y para las
+     * colisiones se pregunta una sola vez qué solución aplicar a todas.
+     */
+    void insertValues(int[] values) {
+        IntHashTable hashTable = table.get();
+        int[] homes = hashTable.homeSlots(values);
+        int[] colliding = new int[values.length];
+        int collisions = 0;
+        int firstCollisionHome = -1;
+        int inserted = 0;
+        int skipped = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            int value = values[i];
+            lookupCache.invalidate(value);
+
+            if (hashTable.contains(value) || !hashTable.isInRange(homes[i])) {
+                skipped++;
+            } else if (hashTable.insertAtHome(value, homes[i])) {
+                inserted++;
+            } else {
+                if (collisions == 0) {
+                    firstCollisionHome = homes[i];
+                }
+                colliding[collisions++] = value;
+            }
+        }
+
+        onTableChanged.run();
+
+        String summary = inserted + " de " + values.length + " claves insertadas en su posición hash"
+                + (skipped > 0 ? ", " + skipped + " repetidas o fuera de rango" : "");
+        if (collisions == 0) {
+            resultMessage.accept(summary, inserted > 0);
+            return;
+        }
+
+        int[] pending = Arrays.copyOf(colliding, collisions);
+        resultMessage.accept(summary + ". " + collisions + " colisión(es): la solución elegida se aplicará a todas", false);
+
+        showCollisionView(pending[0], firstCollisionHome,
+                strategy -> solveBatchCollisions(pending, strategy, summary),
+                () -> resultMessage.accept(summary + ". Inserción cancelada para " + pending.length + " claves con colisión", false));
+    }
+
+    // Cada botón de la ventana aplica su solución; cancelar solo informa
+    private void showCollisionView(int value, int hashPosition, Consumer<String> solve, Runnable cancel) {
+        ColisionView colisionView = new ColisionView();
+        colisionView.setCollisionInfo(value, hashPosition);
+
+        colisionView.addSequentialSolutionListener(e -> {
+            solve.accept(IntHashTable.LINEAR_PROBING);
+            colisionView.dispose();
+        });
+
+        colisionView.addExponentialSolutionListener(e -> {
+            solve.accept(IntHashTable.QUADRATIC_PROBING);
+            colisionView.dispose();
+        });
+
+        colisionView.addTableSolutionListener(e -> {
+            solve.accept(tableSolution);
+            colisionView.dispose();
+        });
+
+        colisionView.addRobinHoodSolutionListener(e -> {
+            solve.accept(IntHashTable.ROBIN_HOOD);
+            colisionView.dispose();
+        });
+
+        colisionView.addDoubleHashSolutionListener(e -> {
+            solve.accept(IntHashTable.DOUBLE_HASHING);
+            colisionView.dispose();
+        });
+
+        colisionView.addCancelListener(e -> {
+            colisionView.dispose();
+            cancel.run();
+        });
+
+        colisionView.showWindow();
+    }
+
+    private void solveCollision(int valueToInsert, int originalHashPos, String strategy) {
+        IntHashTable hashTable = table.get();
+        int position = hashTable.resolveCollision(valueToInsert, originalHashPos, strategy);
+
+        if (position == IntHashTable.NOT_FOUND) {
+            resultMessage.accept("No se pudo insertar " + valueToInsert + " mediante " + describeSolution(strategy)
+                    + ": no quedan posiciones libres", false);
+            return;
+        }
+
+        if (IntHashTable.ROBIN_HOOD.equals(strategy)) {
+            // Robin Hood puede haber corrido otras claves: sus posiciones cacheadas ya no sirven
+            lookupCache.clear();
+        }
+        onTableChanged.run();
+
+        if (IntHashTable.EXTRA_COLUMNS.equals(strategy)) {
+            resultMessage.accept("Clave " + valueToInsert + " insertada en posición " + (originalHashPos + 1) +
+                    ", columna " + hashTable.columnCount(originalHashPos) + " (" + describeSolution(strategy) + ")", true);
+        } else {
+            resultMessage.accept("Clave " + valueToInsert + " insertada en posición " + (position + 1) +
+                    " mediante " + describeSolution(strategy) + " (colisión en posición " + (originalHashPos + 1) + ")"
+                    + describeProbeLengths(), true);
+        }
+    }
+
+    private void solveBatchCollisions(int[] values, String strategy, String summary) {
+        IntHashTable hashTable = table.get();
+        int[] positions = new int[values.length];
+        int resolved = hashTable.insertAll(values, strategy, positions);
+        if (IntHashTable.ROBIN_HOOD.equals(strategy)) {
+            lookupCache.clear();
+        }
+
+        onTableChanged.run();
+        resultMessage.accept(summary + ". " + resolved + " de " + values.length +
+                " colisiones resueltas (" + strategy + ")" + describeProbeLengths(), resolved > 0);
+    }
+
+    // Nombre de la solución como aparece en los botones de la ventana de colisión
+    private static String describeSolution(String strategy) {
+        switch (strategy) {
+            case IntHashTable.LINEAR_PROBING:
+                return "solución secuencial";
+            case IntHashTable.QUADRATIC_PROBING:
+                return "solución exponencial";
+            case IntHashTable.EXTRA_COLUMNS:
+                return "solución por columnas adicionales";
+            case IntHashTable.OVERFLOW_AREA:
+                return "solución de tabla";
+            case IntHashTable.ROBIN_HOOD:
+                return "Robin Hood";
+            default:
+                return "doble hash";
+        }
+    }
+
+    // Sondeos con que se ubicaron las claves de la tabla, para comparar soluciones
+    private String describeProbeLengths() {
+        IntHashTable hashTable = table.get();
+        return String.format(". Sondeos por clave: máx %d, promedio %.2f",
+                hashTable.maxProbeLength(), hashTable.averageProbeLength());
+    }
+}
@@ -0,0 +1,80 @@
+package controller.internal_search;
+
+import model.internal_search.LookupCache;
+
+/**
+ * Caché de consultas (clave -> posición) de los controladores de búsqueda
+ * interna: la política elegida en la vista, las consultas e invalidaciones y
+ * el resumen de aciertos y fallos que se agrega a los mensajes.
+ */
+class LookupCacheSupport {
+
+    static final String CACHE_NONE = "Sin caché";
+    // Opciones del combo de la vista, en orden
+    static final String[] POLICIES = {CACHE_NONE, LookupCache.LRU, LookupCache.CLOCK, LookupCache.W_TINY_LFU};
+
+    // null cuando no se usa
+    private LookupCache lookupCache;
+
+    // Política elegida en la vista; cada caché nueva empieza con sus contadores en cero
+    void changePolicy(String policy) {
+        lookupCache = policy == null || CACHE_NONE.equals(policy)
+                ? null
+                : new LookupCache(policy, LookupCache.DEFAULT_CAPACITY);
+    }
+
+    // Caché activa con sus contadores de aciertos y fallos, o null
+    LookupCache getLookupCache() {
+        return lookupCache;
+    }
+
+    boolean isEnabled() {
+        return lookupCache != null;
+    }
+
+    // Posición guardada, o -1 si no hay caché o la clave no está
+    int get(int key) {
+        return lookupCache != null ? lookupCache.get(key) : -1;
+    }
+
+    void put(int key, int position) {
+        if (lookupCache != null && position != -1) {
+            lookupCache.put(key, position);
+        }
+    }
+
+    // Como get, con null para una clave que no está
+    Integer cachedPosition(int key) {
+        int position = get(key);
+        return position == -1 ? null : position;
+    }
+
+    void remember(int key, Integer position) {
+        if (position != null) {
+            put(key, position);
+        }
+    }
+
+    // Insertar o eliminar una clave descarta su posición cacheada
+    void invalidate(int key) {
+        if (lookupCache != null) {
+            lookupCache.invalidate(key);
+        }
+    }
+
+    // Una tabla nueva o claves reubicadas invalidan todas las posiciones cacheadas
+    void clear() {
+        if (lookupCache != null) {
+            lookupCache.clear();
+        }
+    }
+
+    // Resultado de la última consulta y contadores, o "" sin caché
+    String describe() {
+        if (lookupCache == null) {
+            return "";
+        }
+        return String.format(" [caché %s: %s; %d aciertos, %d fallos]", lookupCache.getPolicy(),
+                lookupCache.isLastLookupHit() ? "acierto" : "fallo", lookupCache.getHits(), lookupCache.getMisses());
+    }
+}
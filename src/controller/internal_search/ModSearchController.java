@@ -1,31 +1,45 @@
 package controller.internal_search;
 
+import model.internal_search.HashFunction;
+import model.internal_search.IntHashTable;
+import model.internal_search.LookupCache;
+import model.internal_search.SwissHashTable;
 import view.menu.HashAlgorithmView;
 import view.internal_search.ModSearchView;
-import view.colision.ColisionView;
 
 import javax.swing.*;
 import javax.swing.filechooser.FileNameExtensionFilter;
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 public class ModSearchController {
 
+    private static final String TABLE_OPEN = "Direccionamiento abierto";
+    private static final String TABLE_CUCKOO = "Cuckoo (4 vías)";
+    private static final String TABLE_SWISS = "SwissTable (grupos de 16)";
+
     private final ModSearchView view;
-    private final List<List<Integer>> hashTable;
+    private final HashFunction hashFunction = HashFunction.modulo();
+    private IntHashTable hashTable;
     private HashAlgorithmView hashAlgorithmView;
-    private int tableSize;
+    // Caché de claves frecuentes (clave -> posición)
+    private final LookupCacheSupport lookupCache = new LookupCacheSupport();
+    // Ventana de colisión e inserción por lotes sobre hashTable
+    private final HashCollisionSupport collisionHandler;
+    // Tabla cuckoo con las claves de la tabla, en lugar del direccionamiento abierto cuando se elige
+    private final CuckooTableSupport cuckooTable;
+    // Tabla con bytes de control y sondeo por grupos; null mientras no se usa
+    private SwissHashTable swissTable;
     private int digitLimit = 2;
-    private int maxColumns = 1;
     private String currentFilePath = "src/utilities/datos-hash-modulo.txt";
 
     public ModSearchController(ModSearchView view) {
         this.view = view;
-        this.hashTable = new ArrayList<>();
+        this.collisionHandler = new HashCollisionSupport(() -> hashTable, lookupCache, IntHashTable.EXTRA_COLUMNS,
+                this::saveAndDisplay, view::setResultMessage);
+        this.cuckooTable = new CuckooTableSupport("módulo", hashFunction, false, this::saveAndDisplay,
+                view::setResultMessage, view::highlightFoundItem);
 
         // Initialize components
         initComponents();
@@ -33,20 +47,6 @@ public class ModSearchController {
         // Load data from file when creating the controller
         loadDataFromFile();
 
-        if (hashTable.isEmpty()) {
-            this.tableSize = 10;
-            initializeEmptyHashTable();
-        } else {
-            this.tableSize = Math.max(10, hashTable.size());
-
-            // Ensure the table has exactly tableSize rows
-            while (hashTable.size() < this.tableSize) {
-                List<Integer> row = new ArrayList<>();
-                row.add(-1);
-                hashTable.add(row);
-            }
-        }
-
         // Display data in the table
         displayDataInTable();
     }
@@ -55,7 +55,17 @@ public class ModSearchController {
         this.hashAlgorithmView = hashAlgorithmView;
     }
 
+    // Caché activa con sus contadores de aciertos y fallos, o null
+    public LookupCache getLookupCache() {
+        return lookupCache.getLookupCache();
+    }
+
     private void initComponents() {
+        view.setCachePolicies(LookupCacheSupport.POLICIES);
+        view.addCachePolicyListener(e -> lookupCache.changePolicy(view.getCachePolicy()));
+        view.setTableModes(new String[]{TABLE_OPEN, TABLE_CUCKOO, TABLE_SWISS});
+        view.addTableModeListener(e -> changeTableMode());
+
         view.addSearchListener(e -> performSearch());
         view.addGenerateArrayListener(e -> {
             String input = view.getArraySize();
@@ -85,15 +95,26 @@ public class ModSearchController {
 
             if (!input.isEmpty() && !digitLimitInput.isEmpty()) {
                 try {
-                    int value = Integer.parseInt(input);
+                    int[] values = parseKeys(input);
                     digitLimit = Integer.parseInt(digitLimitInput);
 
-                    if (!isValidDigitCount(value, digitLimit)) {
-                        view.setResultMessage("La clave debe tener exactamente " + digitLimit + " dígito(s)", false);
-                        return;
+                    for (int value : values) {
+                        if (!isValidDigitCount(value, digitLimit)) {
+                            view.setResultMessage("La clave debe tener exactamente " + digitLimit + " dígito(s)"
+                                    + (values.length > 1 ? " (" + value + ")" : ""), false);
+                            return;
+                        }
                     }
 
-                    insertValue(value);
+                    if (cuckooTable.isEnabled()) {
+                        cuckooTable.insertValues(values);
+                    } else if (swissTable != null) {
+                        insertSwissValues(values);
+                    } else if (values.length == 1) {
+                        insertValue(values[0]);
+                    } else {
+                        collisionHandler.insertValues(values);
+                    }
                 } catch (NumberFormatException ex) {
                     view.setResultMessage("Por favor ingrese valores numéricos válidos", false);
                 }
@@ -124,6 +145,16 @@ public class ModSearchController {
         return valueStr.length() == digitLimit;
     }
 
+    // Una o varias claves separadas por comas o espacios
+    private int[] parseKeys(String input) {
+        String[] tokens = input.trim().split("[,\\s]+");
+        int[] keys = new int[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            keys[i] = Integer.parseInt(tokens[i]);
+        }
+        return keys;
+    }
+
     // Method to get the minimum range based on the digit limit
     private int getMinValue(int digitLimit) {
         if (digitLimit == 1) return 0;
@@ -137,44 +168,23 @@ public class ModSearchController {
 
     // Method to load data from file
     private void loadDataFromFile() {
-        hashTable.clear();
+        hashTable = new IntHashTable(10, hashFunction);
 
-        try {
-            File file = new File(currentFilePath);
+        File file = new File(currentFilePath);
 
-            if (!file.exists()) {
-                System.err.println("Data file does not exist: " + file.getAbsolutePath());
-                return;
-            }
-
-            System.out.println("=== FILE LOADING DEBUG ===");
-            System.out.println("File found: " + file.getAbsolutePath());
-
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                String firstLine = reader.readLine();
-                System.out.println("First line: " + firstLine);
-
-                if (firstLine == null || firstLine.trim().isEmpty()) {
-                    System.out.println("First line empty, nothing to load");
-                    return;
-                }
+        if (!file.exists()) {
+            System.err.println("Data file does not exist: " + file.getAbsolutePath());
+            return;
+        }
 
-                if (firstLine.startsWith("[") && firstLine.endsWith("]") && !firstLine.contains("],")) {
-                    System.out.println("Old format detected");
-                    loadOldFormat(firstLine);
-                } else {
-                    System.out.println("New format detected");
-                    loadNewFormat(firstLine, reader);
-                }
-            }
+        try {
+            IntHashTable loaded = IntHashTable.readRows(file, hashFunction);
 
-            System.out.println("Total rows loaded: " + hashTable.size());
-            System.out.println("Loaded content:");
-            for (int i = 0; i < hashTable.size(); i++) {
-                System.out.println("  Row " + i + ": " + hashTable.get(i));
+            if (loaded.tableSize() > 0) {
+                // Ensure the table has at least 10 rows
+                loaded.ensureTableSize(10);
+                hashTable = loaded;
             }
-            System.out.println("=== END LOADING DEBUG ===");
-
         } catch (IOException e) {
             System.err.println("Error reading the file: " + e.getMessage());
             e.printStackTrace();
@@ -203,30 +213,23 @@ public class ModSearchController {
 
             try {
                 // Intentar cargar datos del archivo seleccionado
-                List<List<Integer>> newData = loadDataFromExternalFile(selectedFile);
-
-                if (!newData.isEmpty()) {
-                    // Actualizar la tabla hash
-                    hashTable.clear();
-                    hashTable.addAll(newData);
-
-                    // Actualizar el archivo actual y tamaño de tabla
-                    currentFilePath = selectedFile.getAbsolutePath();
-                    tableSize = Math.max(10, hashTable.size());
-
-                    // Asegurar que la tabla tenga exactamente tableSize filas
-                    while (hashTable.size() < tableSize) {
-                        List<Integer> row = new ArrayList<>();
-                        row.add(-1);
-                        hashTable.add(row);
+                IntHashTable newTable = IntHashTable.readRows(selectedFile, hashFunction);
+
+                if (newTable.tableSize() > 0) {
+                    // Asegurar que la tabla tenga al menos 10 filas
+                    newTable.ensureTableSize(10);
+                    hashTable = newTable;
+                    if (cuckooTable.isEnabled()) {
+                        cuckooTable.rebuild(hashTable.keys(), hashTable.tableSize(), digitLimit);
                     }
-
-                    // Recalcular maxColumns
-                    maxColumns = 1;
-                    for (List<Integer> row : hashTable) {
-                        maxColumns = Math.max(maxColumns, row.size());
+                    if (swissTable != null) {
+                        swissTable = SwissHashTable.of(hashTable.keys(), hashTable.tableSize(), hashFunction);
                     }
 
+                    // Actualizar el archivo actual
+                    currentFilePath = selectedFile.getAbsolutePath();
+                    lookupCache.clear();
+
                     // Mostrar datos en la tabla
                     displayDataInTable();
 
@@ -234,7 +237,7 @@ public class ModSearchController {
                     view.clearHighlights();
 
                     view.setResultMessage("Datos cargados desde: " + selectedFile.getName() +
-                            " (" + hashTable.size() + " filas, " + maxColumns + " columnas)", true);
+                            " (" + hashTable.tableSize() + " filas, " + hashTable.maxColumns() + " columnas)", true);
                 } else {
                     view.setResultMessage("El archivo seleccionado está vacío o no contiene datos válidos", false);
                 }
@@ -247,177 +250,18 @@ public class ModSearchController {
         }
     }
 
-    // Método para cargar datos desde un archivo externo específico
-    private List<List<Integer>> loadDataFromExternalFile(File file) throws IOException {
-        List<List<Integer>> data = new ArrayList<>();
-        int localMaxColumns = 1;
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-
-            while ((line = reader.readLine()) != null) {
-                line = line.trim();
-
-                if (line.isEmpty() || line.startsWith("#")) {
-                    continue; // Saltar líneas vacías y comentarios
-                }
-
-                List<Integer> row = new ArrayList<>();
-
-                // Si la línea contiene corchetes, procesarla como lista
-                if (line.contains("[") && line.contains("]")) {
-                    line = line.replace("[", "").replace("]", "");
-                }
-
-                // Dividir por comas
-                String[] values = line.split(",");
-
-                for (String value : values) {
-                    value = value.trim();
-
-                    if (!value.isEmpty()) {
-                        try {
-                            int num = Integer.parseInt(value);
-                            row.add(num);
-                        } catch (NumberFormatException e) {
-                            // Si no es un número válido, agregar como -1 (vacío)
-                            if (!value.equals("-1")) {
-                                System.err.println("Valor no numérico ignorado: " + value);
-                            } else {
-                                row.add(-1);
-                            }
-                        }
-                    }
-                }
-
-                // Si la fila está vacía, agregar -1
-                if (row.isEmpty()) {
-                    row.add(-1);
-                }
-
-                localMaxColumns = Math.max(localMaxColumns, row.size());
-                data.add(row);
-            }
-        }
-
-        // Actualizar maxColumns
-        maxColumns = localMaxColumns;
-
-        return data;
-    }
-
-    private void loadOldFormat(String line) {
-        System.out.println("Loading old format: " + line);
-        line = line.replace("[", "").replace("]", "");
-        String[] values = line.split(",");
-
-        maxColumns = 1;
-
-        for (String value : values) {
-            try {
-                int num = Integer.parseInt(value.trim());
-                List<Integer> row = new ArrayList<>();
-                row.add(num);
-                hashTable.add(row);
-                System.out.println("  Added row: [" + num + "]");
-            } catch (NumberFormatException e) {
-                System.err.println("Non-numeric value found: " + value);
-                List<Integer> row = new ArrayList<>();
-                row.add(-1);
-                hashTable.add(row);
-            }
-        }
-
-        System.out.println("Loaded " + hashTable.size() + " rows from old format");
-    }
-
-    private void loadNewFormat(String firstLine, BufferedReader reader) throws IOException {
-        maxColumns = 1;
-        int lineNumber = 1;
-
-        // Process first line
-        if (!firstLine.startsWith("#")) {
-            System.out.println("Processing line " + lineNumber + ": " + firstLine);
-            processRowLine(firstLine);
-        } else {
-            System.out.println("Skipping comment line " + lineNumber + ": " + firstLine);
-        }
-
-        // Process remaining lines
-        String line;
-        while ((line = reader.readLine()) != null) {
-            lineNumber++;
-            if (!line.trim().isEmpty() && !line.startsWith("#")) {
-                System.out.println("Processing line " + lineNumber + ": " + line);
-                processRowLine(line);
-            } else if (line.startsWith("#")) {
-                System.out.println("Skipping comment line " + lineNumber + ": " + line);
-            } else {
-                System.out.println("Skipping empty line " + lineNumber);
-            }
-        }
-
-        System.out.println("Total lines processed: " + lineNumber);
-        System.out.println("Rows added to hashTable: " + hashTable.size());
-    }
-
-    private void processRowLine(String line) {
-        System.out.println("Processing line: '" + line + "'");
-        List<Integer> row = new ArrayList<>();
-
-        // Remove brackets if present
-        line = line.replace("[", "").replace("]", "");
-
-        if (!line.trim().isEmpty()) {
-            // Split by comma
-            String[] values = line.split(",");
-
-            // Convert to integers and add to row
-            for (String value : values) {
-                try {
-                    int num = Integer.parseInt(value.trim());
-                    row.add(num);
-                    System.out.println("  Added value: " + num);
-                } catch (NumberFormatException e) {
-                    System.err.println("Non-numeric value found: " + value);
-                    row.add(-1);
-                }
-            }
-        }
-
-        // If the row is empty, add -1
-        if (row.isEmpty()) {
-            row.add(-1);
-            System.out.println("  Empty row, adding -1");
+    private void displayDataInTable() {
+        if (cuckooTable.isEnabled()) {
+            view.setTableData(cuckooTable.tableData(), cuckooTable.headers());
+            return;
         }
-
-        maxColumns = Math.max(maxColumns, row.size());
-        hashTable.add(row);
-        System.out.println("  Fila agregada: " + row + ", maxColumns=" + maxColumns);
-    }
-
-    private void initializeEmptyHashTable() {
-        hashTable.clear();
-        maxColumns = 1;
-
-        for (int i = 0; i < tableSize; i++) {
-            List<Integer> row = new ArrayList<>();
-            row.add(-1); // Posición vacía
-            hashTable.add(row);
+        if (swissTable != null) {
+            displaySwissTable();
+            return;
         }
-        System.out.println("Tabla hash inicializada con " + tableSize + " filas vacías");
-    }
 
-    private void displayDataInTable() {
-        System.out.println("=== DEBUGGING TABLA ===");
-        System.out.println("tableSize=" + tableSize);
-        System.out.println("hashTable.size()=" + hashTable.size());
-        System.out.println("maxColumns=" + maxColumns);
-
-        // Mostrar contenido de hashTable
-        for (int i = 0; i < hashTable.size(); i++) {
-            System.out.println("Fila " + i + ": " + hashTable.get(i));
-        }
+        int tableSize = hashTable.tableSize();
+        int maxColumns = hashTable.maxColumns();
 
         // Crear encabezados dinámicos basados en el número máximo de columnas
         String[] headers = new String[maxColumns + 1]; // +1 para la columna de posición
@@ -426,38 +270,34 @@ public class ModSearchController {
             headers[i] = "Clave " + i;
         }
 
-        System.out.println("Headers: " + java.util.Arrays.toString(headers));
-
         // Crear datos de la tabla
         Object[][] tableData = new Object[tableSize][maxColumns + 1];
 
         for (int i = 0; i < tableSize; i++) {
             tableData[i][0] = i + 1; // Posición (empezando desde 1)
+            int columns = hashTable.columnCount(i);
 
-            List<Integer> row = i < hashTable.size() ? hashTable.get(i) : null;
-
-            // Llenar las columnas de claves
+            // Llenar las columnas de claves; las celdas sin clave quedan vacías
             for (int j = 1; j <= maxColumns; j++) {
-                int valueIndex = j - 1;
-                if (row != null && valueIndex < row.size()) {
-                    Integer value = row.get(valueIndex);
-                    tableData[i][j] = (value != null && value == -1) ? "" : value;
-                } else {
-                    tableData[i][j] = "";
-                }
+                tableData[i][j] = j <= columns ? (Object) hashTable.get(i, j - 1) : "";
             }
-
-            System.out.println("TableData fila " + i + ": " + java.util.Arrays.toString(tableData[i]));
         }
 
-        System.out.println("Enviando a vista: " + tableData.length + " filas");
         view.setTableData(tableData, headers);
-        System.out.println("=== FIN DEBUGGING ===");
     }
 
     // Method to perform search
     private void performSearch() {
-        if (view.isVisualizationEnabled()) {
+        // Varias claves separadas por comas o espacios se resuelven en lote; en la tabla
+        // cuckoo cada clave está en una de dos cubetas y no hace falta animar la búsqueda,
+        // ni en SwissTable, que revisa grupos enteros de 16 posiciones a la vez
+        if (cuckooTable.isEnabled()) {
+            performCuckooSearch();
+        } else if (swissTable != null) {
+            performSwissSearch();
+        } else if (view.getSearchValue().matches(".*\\d[,\\s]+-?\\d.*")) {
+            performBatchSearch();
+        } else if (view.isVisualizationEnabled()) {
             performAnimatedSearch();
         } else {
             performNormalSearch();
@@ -475,24 +315,20 @@ public class ModSearchController {
 
         try {
             int valueToSearch = Integer.parseInt(input);
-            int originalHashPosition = valueToSearch % tableSize;
+            int tableSize = hashTable.tableSize();
+            int originalHashPosition = hashTable.homeSlot(valueToSearch);
 
             // Limpiar highlights anteriores
             view.clearHighlights();
 
-            Integer foundPosition = searchInOriginalPosition(valueToSearch, originalHashPosition);
-
-            if (foundPosition == null) {
-                foundPosition = searchSequential(valueToSearch, originalHashPosition);
-            }
+            Integer foundPosition = lookupCache.cachedPosition(valueToSearch);
 
             if (foundPosition == null) {
-                foundPosition = searchExponential(valueToSearch, originalHashPosition);
+                int position = hashTable.find(valueToSearch);
+                foundPosition = position == IntHashTable.NOT_FOUND ? null : position;
             }
 
-            if (foundPosition == null) {
-                foundPosition = searchInExtendedTable(valueToSearch, originalHashPosition);
-            }
+            lookupCache.remember(valueToSearch, foundPosition);
 
             if (foundPosition != null) {
                 view.highlightFoundItem(foundPosition);
@@ -500,12 +336,13 @@ public class ModSearchController {
                                 (foundPosition + 1) +
                                 (foundPosition == originalHashPosition ?
                                         " (posición hash original)" :
-                                        " (reubicada por colisión, hash original: " + (originalHashPosition + 1) + ")"),
+                                        " (reubicada por colisión" + describePlacement(foundPosition, valueToSearch) + ", hash original: " + (originalHashPosition + 1) + ")") +
+                                lookupCache.describe(),
                         true);
             } else {
                 view.setResultMessage("Clave " + valueToSearch + " no encontrada. Función hash: " +
                         valueToSearch + " % " + tableSize + " = " + (originalHashPosition + 1) +
-                        ". Se buscó en todas las posiciones posibles.", false);
+                        ". Se buscó en todas las posiciones posibles." + lookupCache.describe(), false);
             }
 
         } catch (NumberFormatException e) {
@@ -513,6 +350,33 @@ public class ModSearchController {
         }
     }
 
+    // Búsqueda de varias claves: las posiciones base del lote se calculan de una vez
+    private void performBatchSearch() {
+        int[] values;
+        try {
+            values = parseKeys(view.getSearchValue());
+        } catch (NumberFormatException e) {
+            view.setResultMessage("Por favor ingrese claves numéricas válidas", false);
+            return;
+        }
+
+        view.clearHighlights();
+        int[] positions = hashTable.findAll(values);
+
+        int found = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (positions[i] != IntHashTable.NOT_FOUND) {
+                if (found == 0) {
+                    view.highlightFoundItem(positions[i]);
+                }
+                lookupCache.remember(values[i], positions[i]);
+                found++;
+            }
+        }
+
+        view.setResultMessage(found + " de " + values.length + " claves encontradas", found > 0);
+    }
+
     // Animation for search
     private void performAnimatedSearch() {
         String input = view.getSearchValue();
@@ -524,7 +388,9 @@ public class ModSearchController {
 
         try {
             int valueToSearch = Integer.parseInt(input);
-            int originalHashPosition = valueToSearch % tableSize;
+            IntHashTable table = hashTable;
+            int tableSize = table.tableSize();
+            int originalHashPosition = table.homeSlot(valueToSearch);
 
             view.clearHighlights();
 
@@ -534,9 +400,8 @@ public class ModSearchController {
                     publish(originalHashPosition);
                     Thread.sleep(500);
 
-                    Integer foundPosition = searchInOriginalPosition(valueToSearch, originalHashPosition);
-                    if (foundPosition != null) {
-                        return foundPosition;
+                    if (table.isInRange(originalHashPosition) && table.rowContains(originalHashPosition, valueToSearch)) {
+                        return originalHashPosition;
                     }
 
                     int position = (originalHashPosition + 1) % tableSize;
@@ -546,13 +411,8 @@ public class ModSearchController {
                         publish(position);
                         Thread.sleep(400);
 
-                        if (position < hashTable.size()) {
-                            List<Integer> row = hashTable.get(position);
-                            for (Integer value : row) {
-                                if (value == valueToSearch) {
-                                    return position;
-                                }
-                            }
+                        if (table.isInRange(position) && table.rowContains(position, valueToSearch)) {
+                            return position;
                         }
                         position = (position + 1) % tableSize;
                         attempts++;
@@ -562,17 +422,12 @@ public class ModSearchController {
                     attempts = 0;
 
                     while (attempts < tableSize) {
-                        int expPosition = (originalHashPosition + (i * i)) % tableSize;
+                        int expPosition = (int) ((originalHashPosition + (long) i * i) % tableSize);
                         publish(expPosition);
                         Thread.sleep(400);
 
-                        if (expPosition >= 0 && expPosition < hashTable.size()) {
-                            List<Integer> row = hashTable.get(expPosition);
-                            for (Integer value : row) {
-                                if (value == valueToSearch) {
-                                    return expPosition;
-                                }
-                            }
+                        if (table.isInRange(expPosition) && table.rowContains(expPosition, valueToSearch)) {
+                            return expPosition;
                         }
 
                         i++;
@@ -580,18 +435,11 @@ public class ModSearchController {
                     }
 
                     for (int j = tableSize - 1; j >= 0; j--) {
-                        if (j >= hashTable.size()) {
-                            continue;
-                        }
-
                         publish(j);
                         Thread.sleep(400);
 
-                        List<Integer> row = hashTable.get(j);
-                        for (Integer value : row) {
-                            if (value == valueToSearch) {
-                                return j;
-                            }
+                        if (table.rowContains(j, valueToSearch)) {
+                            return j;
                         }
                     }
 
@@ -608,7 +456,6 @@ public class ModSearchController {
                 protected void done() {
                     try {
                         int position = get();
-                        int originalHashPosition = valueToSearch % tableSize;
 
                         if (position != -1) {
                             // Encontrado - resaltar en verde
@@ -617,7 +464,7 @@ public class ModSearchController {
                                             (position + 1) +
                                             (position == originalHashPosition ?
                                                     " (posición hash original)" :
-                                                    " (reubicada por colisión, hash original: " + (originalHashPosition + 1) + ")"),
+                                                    " (reubicada por colisión" + describePlacement(position, valueToSearch) + ", hash original: " + (originalHashPosition + 1) + ")"),
                                     true);
                         } else {
                             // No encontrado - limpiar highlights
@@ -637,88 +484,20 @@ public class ModSearchController {
         }
     }
 
-    private Integer searchInOriginalPosition(int valueToSearch, int hashPosition) {
-        if (hashPosition < hashTable.size()) {
-            List<Integer> row = hashTable.get(hashPosition);
-            for (int i = 0; i < row.size(); i++) {
-                if (row.get(i) == valueToSearch) {
-                    return hashPosition;
-                }
-            }
-        }
-        return null;
-    }
-
-    private Integer searchSequential(int valueToSearch, int originalHashPos) {
-        int position = (originalHashPos + 1) % tableSize;
-        int attempts = 0;
-
-        while (position != originalHashPos && attempts < tableSize) {
-            if (position < hashTable.size()) {
-                List<Integer> row = hashTable.get(position);
-                for (Integer value : row) {
-                    if (value == valueToSearch) {
-                        return position;
-                    }
-                }
-            }
-            position = (position + 1) % tableSize;
-            attempts++;
-        }
-
-        return null;
-    }
-
-    private Integer searchExponential(int valueToSearch, int originalHashPos) {
-        int i = 1;
-        int attempts = 0;
-
-        while (attempts < tableSize) {
-            int position = (originalHashPos + (i * i)) % tableSize;
-
-            if (position >= 0 && position < hashTable.size()) {
-                List<Integer> row = hashTable.get(position);
-                for (Integer value : row) {
-                    if (value == valueToSearch) {
-                        return position;
-                    }
-                }
-            }
-
-            i++;
-            attempts++;
+    private void generateNewHashTable(int newSize) {
+        if (newSize < 1) {
+            view.setResultMessage("El tamaño de la tabla debe ser mayor que cero", false);
+            return;
         }
-        return null;
-    }
 
-    private Integer searchInExtendedTable(int valueToSearch, int originalHashPos) {
-        for (int i = tableSize - 1; i >= 0; i--) {
-            if (i >= hashTable.size()) {
-                continue;
-            }
-
-            List<Integer> row = hashTable.get(i);
-            for (Integer value : row) {
-                if (value == valueToSearch) {
-                    return i;
-                }
-            }
+        hashTable = new IntHashTable(newSize, hashFunction);
+        if (cuckooTable.isEnabled()) {
+            cuckooTable.rebuild(hashTable.keys(), newSize, digitLimit);
         }
-
-        return null;
-    }
-
-    private void generateNewHashTable(int newSize) {
-        this.tableSize = newSize;
-
-        hashTable.clear();
-        maxColumns = 1;
-
-        for (int i = 0; i < newSize; i++) {
-            List<Integer> row = new ArrayList<>();
-            row.add(-1);
-            hashTable.add(row);
+        if (swissTable != null) {
+            swissTable = new SwissHashTable(newSize, hashFunction);
         }
+        lookupCache.clear();
 
         saveDataToFile();
         displayDataInTable();
@@ -730,202 +509,273 @@ public class ModSearchController {
 
     // Method to insert values using hash function
     public void insertValue(int value) {
-        for (List<Integer> row : hashTable) {
-            for (Integer existingValue : row) {
-                if (existingValue != null && existingValue != -1 && existingValue == value) {
-                    view.setResultMessage("La clave " + value + " ya existe en la tabla hash", false);
-                    return;
-                }
-            }
-        }
+        lookupCache.invalidate(value);
 
-        int hashPosition = value % tableSize;
+        if (hashTable.contains(value)) {
+            view.setResultMessage("La clave " + value + " ya existe en la tabla hash", false);
+            return;
+        }
 
-        if (hashPosition < hashTable.size()) {
-            List<Integer> row = hashTable.get(hashPosition);
+        int hashPosition = hashTable.homeSlot(value);
 
-            if (row.get(0) == -1) {
-                row.set(0, value);
+        if (hashTable.isInRange(hashPosition)) {
+            if (hashTable.insertAtHome(value)) {
                 saveDataToFile();
                 displayDataInTable();
                 view.setResultMessage("Clave " + value + " insertada en la posición hash " + (hashPosition + 1), true);
             } else {
-                handleCollision(value, hashPosition);
+                collisionHandler.handleCollision(value, hashPosition);
             }
         } else {
             view.setResultMessage("Posición hash " + (hashPosition + 1) + " fuera de rango", false);
         }
     }
 
-    private void handleCollision(int valueToInsert, int hashPosition) {
-        List<Integer> row = hashTable.get(hashPosition);
-        int currentValue = row.get(0);
+    // Cambios hechos por la inserción con colisiones o la tabla cuckoo: se guardan y se redibujan
+    private void saveAndDisplay() {
+        saveDataToFile();
+        displayDataInTable();
+    }
 
-        ColisionView colisionView = new ColisionView();
-        colisionView.setCollisionInfo(valueToInsert, hashPosition);
+    private void saveDataToFile() {
+        try {
+            File file = new File(currentFilePath);
 
-        view.setResultMessage("Colisión detectada: Clave " + valueToInsert +
-                " debería ir en la posición " + (hashPosition + 1) +
-                " que ya está ocupada por " + currentValue, false);
+            // Crear directorios padre si no existen
+            file.getParentFile().mkdirs();
 
-        colisionView.addSequentialSolutionListener(e -> {
-            solveCollisionSequential(valueToInsert, hashPosition);
-            colisionView.dispose();
-        });
+            // El archivo siempre guarda la tabla abierta, con las claves de la organización en uso
+            syncOpenTable();
+            hashTable.writeRows(file);
+        } catch (IOException e) {
+            System.err.println("Error al escribir en el archivo: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
 
-        colisionView.addExponentialSolutionListener(e -> {
-            solveCollisionExponential(valueToInsert, hashPosition);
-            colisionView.dispose();
-        });
+    // Lleva a la tabla abierta las claves de la tabla cuckoo o SwissTable, en el mismo tamaño
+    private void syncOpenTable() {
+        if (cuckooTable.isEnabled()) {
+            hashTable.syncKeys(cuckooTable.keys(), IntHashTable.EXTRA_COLUMNS);
+        } else if (swissTable != null) {
+            hashTable.syncKeys(swissTable.keys(), IntHashTable.EXTRA_COLUMNS);
+        }
+    }
 
-        colisionView.addTableSolutionListener(e -> {
-            solveCollisionWithAdditionalColumn(valueToInsert, hashPosition);
-            colisionView.dispose();
-        });
+    // Method to delete a value
+    public void deleteValue(int value) {
+        lookupCache.invalidate(value);
 
-        colisionView.addCancelListener(e -> {
-            colisionView.dispose();
-            view.setResultMessage("Inserción cancelada: colisión en posición " + (hashPosition + 1), false);
-        });
+        if (cuckooTable.isEnabled()) {
+            cuckooTable.delete(value);
+            return;
+        }
+        if (swissTable != null) {
+            deleteSwissValue(value);
+            return;
+        }
 
-        colisionView.showWindow();
-    }
+        int foundRow = hashTable.find(value);
 
-    private void solveCollisionSequential(int valueToInsert, int originalHashPos) {
-        int position = (originalHashPos + 1) % tableSize;
-        int attempts = 0;
+        if (foundRow != IntHashTable.NOT_FOUND) {
+            // Las claves siguientes de la fila se corren una columna a la izquierda
+            int foundColumn = hashTable.columnOf(foundRow, value);
+            hashTable.remove(value);
+            if (hashTable.isLastRemoveShifted()) {
+                // Otras claves cambiaron de posición: las posiciones cacheadas ya no sirven
+                lookupCache.clear();
+            }
 
-        while (position != originalHashPos && attempts < tableSize) {
-            List<Integer> row = hashTable.get(position);
-            if (row.get(0) == -1) {
-                row.set(0, valueToInsert);
-                saveDataToFile();
-                displayDataInTable();
-                view.setResultMessage("Clave " + valueToInsert + " insertada en posición " + (position + 1) +
-                        " mediante solución secuencial (colisión en posición " + (originalHashPos + 1) + ")", true);
-                return;
+            saveDataToFile();
+            displayDataInTable();
+
+            int hashPosition = hashTable.homeSlot(value);
+            if (foundRow == hashPosition) {
+                view.setResultMessage("Clave " + value + " eliminada de la posición hash original " + (foundRow + 1) +
+                        ", columna " + (foundColumn + 1), true);
+            } else {
+                view.setResultMessage("Clave " + value + " eliminada de la posición " + (foundRow + 1) +
+                        ", columna " + (foundColumn + 1) +
+                        " (hash original: " + (hashPosition + 1) + ")", true);
             }
-            position = (position + 1) % tableSize;
-            attempts++;
+        } else {
+            view.setResultMessage("Clave " + value + " no encontrada en la tabla hash", false);
         }
-        view.setResultMessage("No se pudo insertar " + valueToInsert + ": tabla llena", false);
     }
 
-    private void solveCollisionExponential(int valueToInsert, int originalHashPos) {
-        int i = 1;
-        int attempts = 0;
+    /**
+     * Organización elegida en la vista; la tabla nueva se arma con las claves
+     * de la anterior. Cambiar de organización no escribe el archivo ni cambia
+     * el tamaño de la tabla abierta: al volver, esta recibe las claves de la
+     * otra organización y las que no cambiaron siguen donde estaban.
+     */
+    private void changeTableMode() {
+        String mode = view.getTableMode();
+        boolean cuckoo = TABLE_CUCKOO.equals(mode);
+        boolean swiss = TABLE_SWISS.equals(mode);
+        if (cuckoo == cuckooTable.isEnabled() && swiss == (swissTable != null)) {
+            return;
+        }
 
-        while (attempts < tableSize) {
-            int position = (originalHashPos + (i * i)) % tableSize;
+        lookupCache.clear();
+        view.clearHighlights();
+        syncOpenTable();
+        cuckooTable.disable();
+        swissTable = null;
 
-            if (position >= 0 && position < hashTable.size()) {
-                List<Integer> row = hashTable.get(position);
-                if (row.get(0) == -1) {
-                    row.set(0, valueToInsert);
-                    saveDataToFile();
-                    displayDataInTable();
-                    view.setResultMessage("Clave " + valueToInsert + " insertada en posición " + (position + 1) +
-                            " mediante solución exponencial (colisión en posición " + (originalHashPos + 1) + ")", true);
-                    return;
-                }
-            }
-
-            i++;
-            attempts++;
+        if (cuckoo) {
+            cuckooTable.enable(hashTable.keys(), hashTable.tableSize(), digitLimit);
+            displayDataInTable();
+        } else if (swiss) {
+            swissTable = SwissHashTable.of(hashTable.keys(), hashTable.tableSize(), hashFunction);
+            displayDataInTable();
+            view.setResultMessage("SwissTable con " + swissTable.size() + " claves" + describeSwiss(), true);
+        } else {
+            displayDataInTable();
+            view.setResultMessage("Direccionamiento abierto: " + hashTable.size() + " claves en " +
+                    hashTable.tableSize() + " posiciones", true);
         }
-        view.setResultMessage("No se pudo insertar " + valueToInsert + " usando prueba cuadrática", false);
     }
 
-    private void solveCollisionWithAdditionalColumn(int valueToInsert, int originalHashPos) {
-        List<Integer> row = hashTable.get(originalHashPos);
-
-        row.add(valueToInsert);
+    private void performCuckooSearch() {
+        String input = view.getSearchValue();
 
-        maxColumns = Math.max(maxColumns, row.size());
+        if (input.isEmpty()) {
+            view.setResultMessage("Por favor ingrese una clave para buscar", false);
+            return;
+        }
 
-        saveDataToFile();
-        displayDataInTable();
+        int[] values;
+        try {
+            values = parseKeys(input);
+        } catch (NumberFormatException e) {
+            view.setResultMessage("Por favor ingrese claves numéricas válidas", false);
+            return;
+        }
 
-        view.setResultMessage("Clave " + valueToInsert + " insertada en posición " + (originalHashPos + 1) +
-                ", columna " + row.size() + " (solución por columnas adicionales)", true);
+        view.clearHighlights();
+        cuckooTable.search(values);
     }
 
-    private void saveDataToFile() {
-        try {
-            File file = new File(currentFilePath);
+    // Una fila por posición con su grupo y su byte de control (80 vacía, FE borrada)
+    private void displaySwissTable() {
+        int capacity = swissTable.capacity();
+        String[] headers = {"Posición", "Grupo", "Clave", "Control"};
+        Object[][] tableData = new Object[capacity][4];
+
+        for (int i = 0; i < capacity; i++) {
+            tableData[i][0] = i + 1;
+            tableData[i][1] = i / SwissHashTable.GROUP_SIZE + 1;
+            tableData[i][2] = swissTable.isOccupied(i) ? (Object) swissTable.get(i) : "";
+            tableData[i][3] = swissTable.controlByte(i);
+        }
 
-            // Crear directorios padre si no existen
-            file.getParentFile().mkdirs();
+        view.setTableData(tableData, headers);
+    }
 
-            try (java.io.PrintWriter writer = new java.io.PrintWriter(file)) {
-                for (List<Integer> row : hashTable) {
-                    writer.println(row.toString());
-                }
+    // Sin colisiones que resolver: la clave va a la primera posición libre de su secuencia de grupos
+    private void insertSwissValues(int[] values) {
+        int inserted = 0;
+        int lastPosition = SwissHashTable.NOT_FOUND;
 
-                writer.println("# Formato: cada línea representa una fila de la tabla hash");
-                writer.println("# [valor1, valor2, ...] para múltiples valores en la misma posición");
-                writer.println("# [-1] para posiciones vacías");
+        for (int value : values) {
+            int position = swissTable.insert(value);
+            if (position != SwissHashTable.NOT_FOUND) {
+                inserted++;
+                lastPosition = position;
             }
-        } catch (IOException e) {
-            System.err.println("Error al escribir en el archivo: " + e.getMessage());
-            e.printStackTrace();
         }
+
+        saveDataToFile();
+        displayDataInTable();
+
+        String summary;
+        if (values.length > 1) {
+            summary = inserted + " de " + values.length + " claves insertadas";
+        } else if (inserted == 1) {
+            summary = "Clave " + values[0] + " insertada en la posición " + (lastPosition + 1) +
+                    " (grupo " + (lastPosition / SwissHashTable.GROUP_SIZE + 1) + ", " +
+                    swissTable.getLastProbeGroups() + " grupo(s) revisado(s))";
+        } else {
+            summary = "La clave " + values[0] + " ya existe en la tabla hash";
+        }
+        view.setResultMessage(summary + describeSwiss(), inserted > 0);
     }
 
-    // Method to delete a value
-    public void deleteValue(int value) {
-        boolean found = false;
-        int foundRow = -1;
-        int foundColumn = -1;
-
-        for (int i = 0; i < hashTable.size(); i++) {
-            List<Integer> row = hashTable.get(i);
-            for (int j = 0; j < row.size(); j++) {
-                if (row.get(j) != null && row.get(j) == value) {
-                    found = true;
-                    foundRow = i;
-                    foundColumn = j;
-                    break;
-                }
-            }
-            if (found) break;
+    private void performSwissSearch() {
+        String input = view.getSearchValue();
+
+        if (input.isEmpty()) {
+            view.setResultMessage("Por favor ingrese una clave para buscar", false);
+            return;
         }
 
-        if (found) {
-            List<Integer> row = hashTable.get(foundRow);
+        int[] values;
+        try {
+            values = parseKeys(input);
+        } catch (NumberFormatException e) {
+            view.setResultMessage("Por favor ingrese claves numéricas válidas", false);
+            return;
+        }
 
-            if (foundColumn == 0 && row.size() > 1) {
-                row.remove(0);
-            } else if (foundColumn == row.size() - 1) {
-                row.remove(foundColumn);
+        view.clearHighlights();
+        int[] positions = swissTable.findAll(values);
+
+        if (values.length == 1) {
+            int value = values[0];
+            int position = positions[0];
+            if (position != SwissHashTable.NOT_FOUND) {
+                view.highlightFoundItem(position);
+                view.setResultMessage("Clave " + value + " encontrada en la posición " + (position + 1) +
+                        " (grupo " + (position / SwissHashTable.GROUP_SIZE + 1) + ", " +
+                        swissTable.getLastProbeGroups() + " grupo(s) revisado(s))", true);
             } else {
-                row.set(foundColumn, -1);
+                view.setResultMessage("Clave " + value + " no encontrada tras revisar " +
+                        swissTable.getLastProbeGroups() + " grupo(s) de " + SwissHashTable.GROUP_SIZE + " posiciones", false);
             }
+            return;
+        }
 
-            if (row.isEmpty()) {
-                row.add(-1);
+        int found = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (positions[i] != SwissHashTable.NOT_FOUND) {
+                if (found == 0) {
+                    view.highlightFoundItem(positions[i]);
+                }
+                found++;
             }
+        }
 
-            maxColumns = 1;
-            for (List<Integer> tableRow : hashTable) {
-                maxColumns = Math.max(maxColumns, tableRow.size());
-            }
+        view.setResultMessage(found + " de " + values.length + " claves encontradas", found > 0);
+    }
 
-            saveDataToFile();
-            displayDataInTable();
+    private void deleteSwissValue(int value) {
+        int position = swissTable.find(value);
 
-            int hashPosition = value % tableSize;
-            if (foundRow == hashPosition) {
-                view.setResultMessage("Clave " + value + " eliminada de la posición hash original " + (foundRow + 1) +
-                        ", columna " + (foundColumn + 1), true);
-            } else {
-                view.setResultMessage("Clave " + value + " eliminada de la posición " + (foundRow + 1) +
-                        ", columna " + (foundColumn + 1) +
-                        " (hash original: " + (hashPosition + 1) + ")", true);
-            }
-        } else {
+        if (position == SwissHashTable.NOT_FOUND) {
             view.setResultMessage("Clave " + value + " no encontrada en la tabla hash", false);
+            return;
         }
+
+        swissTable.remove(value);
+
+        saveDataToFile();
+        displayDataInTable();
+        view.setResultMessage("Clave " + value + " eliminada de la posición " + (position + 1) +
+                (swissTable.isDeleted(position) ? " (queda una lápida: su grupo estaba lleno)" : "") + describeSwiss(), true);
+    }
+
+    // Capacidad, carga, lápidas y rehash de la SwissTable
+    private String describeSwiss() {
+        return String.format(" (%d posiciones en grupos de %d, carga %.2f; %d lápida(s), %d crecimiento(s), %d rehash sin lápidas)",
+                swissTable.capacity(), SwissHashTable.GROUP_SIZE, swissTable.loadFactor(), swissTable.tombstones(),
+                swissTable.getGrowths(), swissTable.getInPlaceRehashes());
+    }
+
+    // Solución de colisión que ubicó la clave encontrada, según la marca de su posición
+    private String describePlacement(int position, int value) {
+        String placement = hashTable.placementOf(position, hashTable.columnOf(position, value));
+        return placement == null || IntHashTable.HOME_SLOT.equals(placement) ? "" : ": " + placement;
     }
 
     private void goBack() {
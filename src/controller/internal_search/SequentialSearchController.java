@@ -1,29 +1,54 @@
 package controller.internal_search;
 
+import model.internal_search.CrackerIndex;
+import model.internal_search.IntKeyStore;
+import model.internal_search.LookupCache;
+import model.internal_search.ParallelSequentialSearch;
+import model.internal_search.SelfOrganizingSearch;
+import model.internal_search.SequentialSearchEngine;
+import model.internal_search.VectorSequentialSearch;
 import view.menu.AlgorithmMenuView;
 import view.internal_search.SequentialSearchView;
 
 import javax.swing.*;
 import javax.swing.filechooser.FileNameExtensionFilter;
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class SequentialSearchController {
 
+    // Modos de búsqueda disponibles cuando no se visualiza el proceso
+    private static final String MODE_NORMAL = "Normal";
+    private static final String MODE_PARALLEL = "Paralela (Fork/Join)";
+    private static final String MODE_VECTOR = "Vectorial (IntVector)";
+    private static final String MODE_MOVE_TO_FRONT = SelfOrganizingSearch.MOVE_TO_FRONT;
+    private static final String MODE_TRANSPOSE = SelfOrganizingSearch.TRANSPOSE;
+    private static final String MODE_FREQUENCY_COUNT = SelfOrganizingSearch.FREQUENCY_COUNT;
+    private static final String MODE_CRACKING = "Cracking (índice adaptativo)";
+    private static final int MAX_PARALLEL_THREADS = 64;
+
     private SequentialSearchView view;
-    private List<Integer> dataArray;
+    private IntKeyStore dataArray;
     private AlgorithmMenuView algorithmMenuView;
     private int digitLimit = 2; // Límite de dígitos por defecto
     private String currentFilePath = "src/utilities/datos-busqueda-secuencial.txt"; // Archivo por defecto
+    private ParallelSequentialSearch parallelSearch;
+    // Una instancia por política para comparar sus sondeos promedio
+    private Map<String, SelfOrganizingSearch> selfOrganizingSearches = new HashMap<>();
+    // Puntos de corte acumulados por las consultas en modo cracking
+    private CrackerIndex crackerIndex = new CrackerIndex();
+    // Caché de claves frecuentes (clave -> posición)
+    private final LookupCacheSupport lookupCache = new LookupCacheSupport();
 
     public SequentialSearchController(SequentialSearchView view) {
         this.view = view;
-        this.dataArray = new ArrayList<>();
+        this.dataArray = new IntKeyStore(0);
+        this.parallelSearch = new ParallelSequentialSearch(Runtime.getRuntime().availableProcessors());
 
         // Initialize components
         initComponents();
@@ -40,7 +65,49 @@ public class SequentialSearchController {
         this.algorithmMenuView = algorithmMenuView;
     }
 
+    // Getter for the active lookup cache and its hit/miss counters (null when disabled)
+    public LookupCache getLookupCache() {
+        return lookupCache.getLookupCache();
+    }
+
+    // Rehace la búsqueda paralela con la cantidad de hilos indicada en la vista
+    private void changeParallelThreads() {
+        String input = view.getParallelThreads();
+        if (input.isEmpty()) {
+            view.setResultMessage("Por favor ingrese la cantidad de hilos", false);
+            return;
+        }
+
+        try {
+            int threads = Integer.parseInt(input);
+            if (threads < 1 || threads > MAX_PARALLEL_THREADS) {
+                view.setResultMessage("Los hilos deben estar entre 1 y " + MAX_PARALLEL_THREADS, false);
+                return;
+            }
+
+            parallelSearch.shutdown();
+            parallelSearch = new ParallelSequentialSearch(threads);
+            view.setResultMessage("Búsqueda paralela con " + threads + " hilo(s)", true);
+        } catch (NumberFormatException ex) {
+            view.setResultMessage("Por favor ingrese un valor numérico válido", false);
+        }
+    }
+
     private void initComponents() {
+        // El modo vectorial solo aparece si la JVM se inició con la Vector API
+        List<String> modes = new ArrayList<>(Arrays.asList(MODE_NORMAL, MODE_PARALLEL,
+                MODE_MOVE_TO_FRONT, MODE_TRANSPOSE, MODE_FREQUENCY_COUNT, MODE_CRACKING));
+        if (VectorSequentialSearch.isAvailable()) {
+            modes.add(1, MODE_VECTOR);
+        }
+        view.setSearchModes(modes.toArray(new String[0]));
+        for (String policy : new String[]{MODE_MOVE_TO_FRONT, MODE_TRANSPOSE, MODE_FREQUENCY_COUNT}) {
+            selfOrganizingSearches.put(policy, new SelfOrganizingSearch(policy));
+        }
+        view.setCachePolicies(LookupCacheSupport.POLICIES);
+        view.addCachePolicyListener(e -> lookupCache.changePolicy(view.getCachePolicy()));
+        view.addParallelThreadsListener(e -> changeParallelThreads());
+
         // Add action listeners to buttons
         view.addSearchListener(e -> performSearch());
         view.addGenerateArrayListener(e -> {
@@ -130,12 +197,12 @@ public class SequentialSearchController {
 
             try {
                 // Intentar cargar datos del archivo seleccionado
-                List<Integer> newData = loadDataFromExternalFile(selectedFile);
+                IntKeyStore newData = IntKeyStore.readFrom(selectedFile);
 
-                if (!newData.isEmpty()) {
+                if (newData.capacity() > 0) {
                     // Actualizar el array de datos
-                    dataArray.clear();
-                    dataArray.addAll(newData);
+                    dataArray.replaceWith(newData);
+                    resetSelfOrganizingCounts();
 
                     // Actualizar el archivo actual
                     currentFilePath = selectedFile.getAbsolutePath();
@@ -147,7 +214,7 @@ public class SequentialSearchController {
                     view.clearHighlights();
 
                     view.setResultMessage("Datos cargados desde: " + selectedFile.getName() +
-                            " (" + dataArray.size() + " elementos)", true);
+                            " (" + dataArray.capacity() + " elementos)", true);
                 } else {
                     view.setResultMessage("El archivo seleccionado está vacío o no contiene datos válidos", false);
                 }
@@ -160,51 +227,6 @@ public class SequentialSearchController {
         }
     }
 
-    // Método para cargar datos desde un archivo externo específico
-    private List<Integer> loadDataFromExternalFile(File file) throws IOException {
-        List<Integer> data = new ArrayList<>();
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-
-            while ((line = reader.readLine()) != null) {
-                line = line.trim();
-
-                if (line.isEmpty()) {
-                    continue; // Saltar líneas vacías
-                }
-
-                // Si la línea contiene corchetes, procesarla como array
-                if (line.contains("[") && line.contains("]")) {
-                    line = line.replace("[", "").replace("]", "");
-                }
-
-                // Dividir por comas, espacios o ambos
-                String[] values = line.split("[,\\s]+");
-
-                for (String value : values) {
-                    value = value.trim();
-
-                    if (!value.isEmpty()) {
-                        try {
-                            int num = Integer.parseInt(value);
-                            data.add(num);
-                        } catch (NumberFormatException e) {
-                            // Si no es un número válido, agregar como -1 (vacío)
-                            if (!value.equals("-1")) {
-                                System.err.println("Valor no numérico ignorado: " + value);
-                            } else {
-                                data.add(-1);
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
-        return data;
-    }
-
     // Método para validar la cantidad de dígitos
     private boolean isValidDigitCount(int value, int digitLimit) {
         String valueStr = String.valueOf(Math.abs(value));
@@ -222,31 +244,10 @@ public class SequentialSearchController {
         return (int) Math.pow(10, digitLimit) - 1;
     }
 
-    // Método para ordenar el arreglo manteniendo los -1 al final
+    // Método para ordenar las claves (las posiciones libres quedan al final)
     private void sortArray() {
-        List<Integer> validValues = new ArrayList<>();
-        int emptyCount = 0;
-
-        // Separar valores válidos de los -1
-        for (Integer value : dataArray) {
-            if (value != null && value != -1) {
-                validValues.add(value);
-            } else {
-                emptyCount++;
-            }
-        }
-
-        // Ordenar solo los valores válidos
-        Collections.sort(validValues);
-
-        // Reconstruir el arreglo
-        dataArray.clear();
-        dataArray.addAll(validValues);
-
-        // Agregar los -1 al final
-        for (int i = 0; i < emptyCount; i++) {
-            dataArray.add(-1);
-        }
+        dataArray.sort();
+        resetSelfOrganizingCounts();
 
         // Guardar en el archivo actual
         saveArrayToFile();
@@ -255,6 +256,29 @@ public class SequentialSearchController {
         displayDataInTable();
     }
 
+    // Los contadores de frecuencia, los cortes y las posiciones cacheadas dejan de corresponder cuando las claves se reubican
+    private void resetSelfOrganizingCounts() {
+        for (SelfOrganizingSearch search : selfOrganizingSearches.values()) {
+            search.resetCounts();
+        }
+        crackerIndex.reset();
+        lookupCache.clear();
+    }
+
+    // Un modo que reordena reubicó claves: los contadores de las otras políticas, los cortes del
+    // cracking y las posiciones cacheadas ya no corresponden; los del propio modo siguen alineados
+    private void keysMovedBy(String mode) {
+        for (Map.Entry<String, SelfOrganizingSearch> entry : selfOrganizingSearches.entrySet()) {
+            if (!entry.getKey().equals(mode)) {
+                entry.getValue().resetCounts();
+            }
+        }
+        if (!MODE_CRACKING.equals(mode)) {
+            crackerIndex.reset();
+        }
+        lookupCache.clear();
+    }
+
     // Método para guardar el arreglo en el archivo actual
     private void saveArrayToFile() {
         try {
@@ -263,9 +287,7 @@ public class SequentialSearchController {
             // Crear directorios padre si no existen
             file.getParentFile().mkdirs();
 
-            try (java.io.PrintWriter writer = new java.io.PrintWriter(file)) {
-                writer.println(dataArray.toString());
-            }
+            dataArray.writeTo(file);
         } catch (IOException e) {
             System.err.println("Error al escribir en el archivo: " + e.getMessage());
             e.printStackTrace();
@@ -273,8 +295,6 @@ public class SequentialSearchController {
     }
 
     private void loadDataFromFile() {
-        dataArray.clear();
-
         try {
             // Path to the default file
             File file = new File(currentFilePath);
@@ -282,30 +302,30 @@ public class SequentialSearchController {
             if (!file.exists()) {
                 System.err.println("El archivo de datos no existe: " + file.getAbsolutePath());
                 // Crear un array vacío por defecto
-                dataArray.add(-1);
+                dataArray.reset(1);
                 return;
             }
 
-            List<Integer> loadedData = loadDataFromExternalFile(file);
-            dataArray.addAll(loadedData);
+            dataArray.replaceWith(IntKeyStore.readFrom(file));
 
         } catch (IOException e) {
             System.err.println("Error al leer el archivo: " + e.getMessage());
             e.printStackTrace();
             // Crear un array vacío por defecto en caso de error
-            dataArray.add(-1);
+            dataArray.reset(1);
         }
     }
 
     private void displayDataInTable() {
         // Create data for table with position and value columns
-        Object[][] tableData = new Object[dataArray.size()][2];
+        Object[][] tableData = new Object[dataArray.capacity()][2];
+        int[] keys = dataArray.rawKeys();
+        int size = dataArray.size();
 
-        for (int i = 0; i < dataArray.size(); i++) {
+        for (int i = 0; i < tableData.length; i++) {
             tableData[i][0] = i + 1;  // Position (starting from 1)
-            // Si el valor es -1, mostramos una celda vacía
-            Integer value = dataArray.get(i);
-            tableData[i][1] = (value != null && value == -1) ? "" : value;
+            // Las posiciones libres se muestran como celdas vacías
+            tableData[i][1] = i < size ? (Object) keys[i] : "";
         }
 
         // Set data to table
@@ -331,6 +351,12 @@ public class SequentialSearchController {
             return;
         }
 
+        // En modo cracking se aceptan rangos "desde..hasta"
+        if (MODE_CRACKING.equals(view.getSearchMode()) && input.contains("..")) {
+            performRangeSearch(input);
+            return;
+        }
+
         try {
             int valueToSearch = Integer.parseInt(input);
 
@@ -343,10 +369,12 @@ public class SequentialSearchController {
             if (position != -1) {
                 // Encontrado
                 view.highlightFoundItem(position);
-                view.setResultMessage("Clave " + valueToSearch + " encontrada en la posición " + (position + 1), true);
+                view.setResultMessage("Clave " + valueToSearch + " encontrada en la posición " + (position + 1)
+                        + describeProbes() + describeCache(), true);
             } else {
                 // No encontrado
-                view.setResultMessage("Clave " + valueToSearch + " no encontrada en el arreglo", false);
+                view.setResultMessage("Clave " + valueToSearch + " no encontrada en el arreglo"
+                        + describeProbes() + describeCache(), false);
             }
 
         } catch (NumberFormatException e) {
@@ -354,6 +382,57 @@ public class SequentialSearchController {
         }
     }
 
+    // Consulta de rango con cracking: las claves del rango quedan contiguas
+    private void performRangeSearch(String input) {
+        String[] bounds = input.split("\\.\\.", 2);
+        try {
+            int low = Integer.parseInt(bounds[0].trim());
+            int high = Integer.parseInt(bounds[1].trim());
+            if (low > high) {
+                view.setResultMessage("El inicio del rango debe ser menor o igual al final", false);
+                return;
+            }
+
+            view.clearHighlights();
+            int[] range = crackerIndex.rangeQuery(dataArray, low, high);
+            lookupCache.clear();
+            displayDataInTable();
+
+            int count = range[1] - range[0];
+            if (count > 0) {
+                view.highlightFoundItem(range[0]);
+                view.setResultMessage(count + " claves en [" + low + ", " + high + "], posiciones "
+                        + (range[0] + 1) + " a " + range[1] + describeProbes(), true);
+            } else {
+                view.setResultMessage("No hay claves en [" + low + ", " + high + "]" + describeProbes(), false);
+            }
+        } catch (NumberFormatException e) {
+            view.setResultMessage("Por favor ingrese un rango válido, por ejemplo 10..20", false);
+        }
+    }
+
+    // Sondeos promedio de la política autoorganizada seleccionada
+    private String describeProbes() {
+        if (MODE_CRACKING.equals(view.getSearchMode())) {
+            return String.format(" (claves recorridas en promedio: %.2f, cortes: %d)",
+                    crackerIndex.getAverageScannedKeys(), crackerIndex.getPivotCount());
+        }
+        SelfOrganizingSearch search = selfOrganizingSearches.get(view.getSearchMode());
+        if (search == null) {
+            return "";
+        }
+        return String.format(" (sondeos promedio: %.2f)", search.getAverageProbeLength());
+    }
+
+    // Aciertos y fallos de la caché; los modos que reubican claves no la consultan
+    private String describeCache() {
+        return usesLookupCache(view.getSearchMode()) ? lookupCache.describe() : "";
+    }
+
+    private boolean usesLookupCache(String mode) {
+        return !selfOrganizingSearches.containsKey(mode) && !MODE_CRACKING.equals(mode);
+    }
+
     // Búsqueda animada con visualización del proceso
     private void performAnimatedSearch() {
         String input = view.getSearchValue();
@@ -425,19 +504,49 @@ public class SequentialSearchController {
 
     // Sequential search algorithm implementation
     private int sequentialSearch(int target) {
-        for (int i = 0; i < dataArray.size(); i++) {
-            if (dataArray.get(i) != null && dataArray.get(i) == target) {
-                return i;
+        int[] keys = dataArray.rawKeys();
+        int size = dataArray.size();
+
+        String mode = view.getSearchMode();
+        SelfOrganizingSearch selfOrganizing = selfOrganizingSearches.get(mode);
+        if (selfOrganizing != null) {
+            // La clave encontrada cambia de lugar: se actualiza la tabla
+            int position = selfOrganizing.search(dataArray, target);
+            if (position != -1) {
+                keysMovedBy(mode);
+                displayDataInTable();
             }
+            return position;
+        }
+        if (MODE_CRACKING.equals(mode)) {
+            // Particionar reubica claves: se actualiza la tabla
+            int position = crackerIndex.search(dataArray, target);
+            keysMovedBy(mode);
+            displayDataInTable();
+            return position;
+        }
+
+        // En los demás modos las claves no se mueven: la caché responde antes del recorrido
+        int position = lookupCache.get(target);
+        if (position != -1) {
+            return position;
+        }
+
+        if (MODE_PARALLEL.equals(mode)) {
+            position = parallelSearch.search(keys, size, target);
+        } else if (MODE_VECTOR.equals(mode)) {
+            position = VectorSequentialSearch.search(keys, size, target);
+        } else {
+            position = SequentialSearchEngine.scalarSearch(keys, size, target);
         }
-        return -1;  // Not found
+
+        lookupCache.put(target, position);
+        return position;
     }
 
     private void generateNewArray(int newSize) {
-        dataArray.clear();
-        for (int i = 0; i < newSize; i++) {
-            dataArray.add(-1);
-        }
+        dataArray.reset(newSize);
+        resetSelfOrganizingCounts();
 
         // Save the new array to the current file
         saveArrayToFile();
@@ -454,25 +563,12 @@ public class SequentialSearchController {
     // Method to insert values
     public void insertValue(int value) throws IllegalArgumentException {
         // Primero verificar si el valor ya existe
-        for (Integer num : dataArray) {
-            if (num != null && num != -1 && num == value) {
-                throw new IllegalArgumentException("La clave " + value + " ya existe en el arreglo");
-            }
-        }
-
-        // Buscar la primera posición disponible (-1)
-        int index = -1;
-        for (int i = 0; i < dataArray.size(); i++) {
-            if (dataArray.get(i) == -1) { // -1 indica posición vacía
-                index = i;
-                break;
-            }
+        if (dataArray.contains(value)) {
+            throw new IllegalArgumentException("La clave " + value + " ya existe en el arreglo");
         }
 
-        // Si encontramos una posición disponible
-        if (index != -1) {
-            dataArray.set(index, value);
-
+        // Agregar en la primera posición disponible
+        if (dataArray.add(value)) {
             // Ordenar el arreglo después de insertar
             sortArray();
 
@@ -485,17 +581,11 @@ public class SequentialSearchController {
     // Method to delete a value
     public void deleteValue(int value) {
         // Buscar el valor en el arreglo
-        int index = -1;
-        for (int i = 0; i < dataArray.size(); i++) {
-            if (dataArray.get(i) != null && dataArray.get(i) == value) {
-                index = i;
-                break;
-            }
-        }
+        int index = dataArray.indexOf(value);
 
         // Si encontramos el valor
         if (index != -1) {
-            dataArray.set(index, -1); // Marcar como vacío
+            dataArray.removeAt(index);
 
             // Ordenar el arreglo después de eliminar
             sortArray();
@@ -507,6 +597,9 @@ public class SequentialSearchController {
     }
 
     private void goBack() {
+        // Release the parallel search threads
+        parallelSearch.shutdown();
+
         // Close current view
         view.dispose();
 
@@ -0,0 +1,268 @@
+package controller.internal_search;
+
+import model.internal_search.ConcurrentIntSkipList;
+import view.menu.AlgorithmMenuView;
+import view.internal_search.SkipListView;
+
+import javax.swing.*;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class SkipListController {
+
+    // Límites para que la tabla siga siendo manejable
+    private static final int MAX_KEYS = 1_000_000;
+    private static final int MAX_THREADS = 64;
+
+    private SkipListView view;
+    private ConcurrentIntSkipList skipList;
+    private AlgorithmMenuView algorithmMenuView;
+    // Evita lanzar una generación mientras otra sigue insertando
+    private boolean generating;
+
+    public SkipListController(SkipListView view) {
+        this.view = view;
+        this.skipList = new ConcurrentIntSkipList();
+
+        // Initialize components
+        initComponents();
+
+        // Display data in the table
+        displayDataInTable();
+    }
+
+    // Setter for the menu view to return to
+    public void setAlgorithmMenuView(AlgorithmMenuView algorithmMenuView) {
+        this.algorithmMenuView = algorithmMenuView;
+    }
+
+    private void initComponents() {
+        // Add action listeners to buttons
+        view.addSearchListener(e -> performSearch());
+        view.addGenerateKeysListener(e -> {
+            String countInput = view.getKeyCount();
+            String threadsInput = view.getWriterThreads();
+
+            if (!countInput.isEmpty() && !threadsInput.isEmpty()) {
+                try {
+                    int count = Integer.parseInt(countInput);
+                    int threads = Integer.parseInt(threadsInput);
+
+                    if (count < 1 || count > MAX_KEYS) {
+                        view.setResultMessage("La cantidad de claves debe estar entre 1 y " + MAX_KEYS, false);
+                        return;
+                    }
+                    if (threads < 1 || threads > MAX_THREADS) {
+                        view.setResultMessage("Los hilos escritores deben estar entre 1 y " + MAX_THREADS, false);
+                        return;
+                    }
+
+                    generateConcurrently(count, threads);
+                } catch (NumberFormatException ex) {
+                    view.setResultMessage("Por favor ingrese valores numéricos válidos", false);
+                }
+            } else {
+                view.setResultMessage("Por favor ingrese la cantidad de claves y los hilos escritores", false);
+            }
+        });
+        view.addInsertValueListener(e -> {
+            String input = view.getInsertValue();
+            if (!input.isEmpty()) {
+                try {
+                    insertValue(Integer.parseInt(input));
+                } catch (NumberFormatException ex) {
+                    view.setResultMessage("Por favor ingrese una clave numérica válida", false);
+                }
+            } else {
+                view.setResultMessage("Por favor ingrese una clave para insertar", false);
+            }
+        });
+        view.addDeleteValueListener(e -> {
+            String input = view.getDeleteValue();
+            if (!input.isEmpty()) {
+                try {
+                    deleteValue(Integer.parseInt(input));
+                } catch (NumberFormatException ex) {
+                    view.setResultMessage("Por favor ingrese una clave numérica válida", false);
+                }
+            } else {
+                view.setResultMessage("Por favor ingrese una clave para eliminar", false);
+            }
+        });
+        view.addBackListener(e -> goBack());
+    }
+
+    // Varios hilos insertan a la vez claves aleatorias en la misma skip list; la espera y el
+    // armado de la tabla ocurren fuera del hilo de la interfaz
+    private void generateConcurrently(int count, int threads) {
+        if (generating) {
+            view.setResultMessage("Ya hay una generación en curso", false);
+            return;
+        }
+        generating = true;
+        view.clearHighlights();
+        view.setResultMessage("Insertando " + count + " claves con " + threads + " hilo(s)...", true);
+
+        SwingWorker<Object[][], Void> worker = new SwingWorker<Object[][], Void>() {
+            private long elapsedMillis;
+
+            @Override
+            protected Object[][] doInBackground() throws Exception {
+                skipList.clear();
+                int upperBound = count * 10;
+                Thread[] writers = new Thread[threads];
+
+                long start = System.nanoTime();
+                for (int t = 0; t < threads; t++) {
+                    int share = count / threads + (t < count % threads ? 1 : 0);
+                    writers[t] = new Thread(() -> {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        int inserted = 0;
+                        while (inserted < share) {
+                            if (skipList.insert(random.nextInt(upperBound))) {
+                                inserted++;
+                            }
+                        }
+                    });
+                    writers[t].start();
+                }
+
+                for (Thread writer : writers) {
+                    writer.join();
+                }
+                elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+                return buildTableData();
+            }
+
+            @Override
+            protected void done() {
+                generating = false;
+                try {
+                    view.setTableData(get());
+                    view.setResultMessage(skipList.size() + " claves insertadas por " + threads + " hilo(s) en "
+                            + elapsedMillis + " ms", true);
+                } catch (InterruptedException | ExecutionException ex) {
+                    displayDataInTable();
+                    view.setResultMessage("La generación fue interrumpida", false);
+                }
+            }
+        };
+
+        worker.execute();
+    }
+
+    private void displayDataInTable() {
+        view.setTableData(buildTableData());
+    }
+
+    // Create data for table with position and value columns, in key order
+    private Object[][] buildTableData() {
+        Object[][] tableData = new Object[skipList.size()][2];
+        PrimitiveIterator.OfInt keys = skipList.iterator();
+
+        int row = 0;
+        while (keys.hasNext() && row < tableData.length) {
+            tableData[row][0] = row + 1;  // Position (starting from 1)
+            tableData[row][1] = keys.nextInt();
+            row++;
+        }
+        return tableData;
+    }
+
+    // Búsqueda puntual o por rango "desde..hasta"
+    private void performSearch() {
+        String input = view.getSearchValue();
+
+        // Validate input
+        if (input.isEmpty()) {
+            view.setResultMessage("Por favor ingrese una clave o un rango para buscar", false);
+            return;
+        }
+
+        try {
+            view.clearHighlights();
+
+            if (input.contains("..")) {
+                String[] bounds = input.split("\\.\\.", 2);
+                int low = Integer.parseInt(bounds[0].trim());
+                int high = Integer.parseInt(bounds[1].trim());
+                searchRange(low, high);
+                return;
+            }
+
+            int valueToSearch = Integer.parseInt(input);
+            if (skipList.contains(valueToSearch)) {
+                int position = positionOf(valueToSearch);
+                view.highlightFoundRange(position, position + 1);
+                view.setResultMessage("Clave " + valueToSearch + " encontrada en la posición " + (position + 1), true);
+            } else {
+                view.setResultMessage("Clave " + valueToSearch + " no encontrada", false);
+            }
+        } catch (NumberFormatException e) {
+            view.setResultMessage("Por favor ingrese una clave o un rango válido, por ejemplo 10..20", false);
+        }
+    }
+
+    private void searchRange(int low, int high) {
+        if (low > high) {
+            view.setResultMessage("El inicio del rango debe ser menor o igual al final", false);
+            return;
+        }
+
+        int[] keys = skipList.range(low, high);
+        if (keys.length == 0) {
+            view.setResultMessage("No hay claves en [" + low + ", " + high + "]", false);
+            return;
+        }
+
+        int first = positionOf(keys[0]);
+        view.highlightFoundRange(first, first + keys.length);
+        view.setResultMessage(keys.length + " claves en [" + low + ", " + high + "]", true);
+    }
+
+    // Fila de la tabla donde se muestra la clave (claves menores que ella)
+    private int positionOf(int key) {
+        return key == Integer.MIN_VALUE ? 0 : skipList.range(Integer.MIN_VALUE, key - 1).length;
+    }
+
+    // Method to insert values
+    public void insertValue(int value) {
+        if (skipList.insert(value)) {
+            displayDataInTable();
+            view.setResultMessage("Clave " + value + " insertada correctamente", true);
+        } else {
+            view.setResultMessage("La clave " + value + " ya existe", false);
+        }
+    }
+
+    // Method to delete a value
+    public void deleteValue(int value) {
+        if (skipList.remove(value)) {
+            view.clearHighlights();
+            displayDataInTable();
+            view.setResultMessage("Clave " + value + " eliminada correctamente", true);
+        } else {
+            view.setResultMessage("Clave " + value + " no encontrada", false);
+        }
+    }
+
+    private void goBack() {
+        // Close current view
+        view.dispose();
+
+        // Show algorithm menu view if available
+        if (algorithmMenuView != null) {
+            algorithmMenuView.setVisible(true);
+        }
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        javax.swing.SwingUtilities.invokeLater(() -> {
+            SkipListView newView = new SkipListView();
+            SkipListController controller = new SkipListController(newView);
+            newView.showWindow();
+        });
+    }
+}
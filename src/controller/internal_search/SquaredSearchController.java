@@ -1,30 +1,41 @@
 package controller.internal_search;
 
+import model.internal_search.HashFunction;
+import model.internal_search.IntHashTable;
+import model.internal_search.LookupCache;
 import view.menu.HashAlgorithmView;
-import view.colision.ColisionView;
 import view.internal_search.SquaredSearchView;
 
 import javax.swing.*;
 import javax.swing.filechooser.FileNameExtensionFilter;
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 public class SquaredSearchController {
 
+    private static final String TABLE_OPEN = "Direccionamiento abierto";
+    private static final String TABLE_CUCKOO = "Cuckoo (4 vías)";
+
     private final SquaredSearchView view;
-    private final List<Integer> dataArray;
+    private final HashFunction hashFunction = HashFunction.middleSquare();
+    private IntHashTable hashTable;
     private HashAlgorithmView hashAlgorithmView;
-    private int tableSize;
+    // Caché de claves frecuentes (clave -> posición)
+    private final LookupCacheSupport lookupCache = new LookupCacheSupport();
+    // Ventana de colisión e inserción por lotes sobre hashTable
+    private final HashCollisionSupport collisionHandler;
+    // Tabla cuckoo con las claves de la tabla, en lugar del direccionamiento abierto cuando se elige
+    private final CuckooTableSupport cuckooTable;
     private int digitLimit = 2;
     private String currentFilePath = "src/utilities/datos-hash-cuadrado.txt";
 
     public SquaredSearchController(SquaredSearchView view) {
         this.view = view;
-        this.dataArray = new ArrayList<>();
+        this.collisionHandler = new HashCollisionSupport(() -> hashTable, lookupCache, IntHashTable.OVERFLOW_AREA,
+                this::saveAndDisplay, view::setResultMessage);
+        this.cuckooTable = new CuckooTableSupport("cuadrado medio", hashFunction, true, this::saveAndDisplay,
+                view::setResultMessage, view::highlightFoundItem);
 
         // Initialize components
         initComponents();
@@ -32,9 +43,6 @@ public class SquaredSearchController {
         // Load data from file when creating the controller
         loadDataFromFile();
 
-        // Create hash table
-        this.tableSize = dataArray.isEmpty() ? 10 : dataArray.size();
-
         // Display data in the table
         displayDataInTable();
     }
@@ -43,7 +51,17 @@ public class SquaredSearchController {
         this.hashAlgorithmView = hashAlgorithmView;
     }
 
+    // Caché activa con sus contadores de aciertos y fallos, o null
+    public LookupCache getLookupCache() {
+        return lookupCache.getLookupCache();
+    }
+
     private void initComponents() {
+        view.setCachePolicies(LookupCacheSupport.POLICIES);
+        view.addCachePolicyListener(e -> lookupCache.changePolicy(view.getCachePolicy()));
+        view.setTableModes(new String[]{TABLE_OPEN, TABLE_CUCKOO});
+        view.addTableModeListener(e -> changeTableMode());
+
         // Add action listeners to buttons
         view.addSearchListener(e -> performSearch());
 
@@ -76,15 +94,24 @@ public class SquaredSearchController {
 
             if (!input.isEmpty() && !digitLimitInput.isEmpty()) {
                 try {
-                    int value = Integer.parseInt(input);
+                    int[] values = parseKeys(input);
                     digitLimit = Integer.parseInt(digitLimitInput);
 
-                    if (!isValidDigitCount(value, digitLimit)) {
-                        view.setResultMessage("El valor debe tener exactamente " + digitLimit + " dígito(s)", false);
-                        return;
+                    for (int value : values) {
+                        if (!isValidDigitCount(value, digitLimit)) {
+                            view.setResultMessage("El valor debe tener exactamente " + digitLimit + " dígito(s)"
+                                    + (values.length > 1 ? " (" + value + ")" : ""), false);
+                            return;
+                        }
                     }
 
-                    insertValue(value);
+                    if (cuckooTable.isEnabled()) {
+                        cuckooTable.insertValues(values);
+                    } else if (values.length == 1) {
+                        insertValue(values[0]);
+                    } else {
+                        collisionHandler.insertValues(values);
+                    }
                 } catch (NumberFormatException ex) {
                     view.setResultMessage("Por favor ingrese valores numéricos válidos", false);
                 }
@@ -117,6 +144,16 @@ public class SquaredSearchController {
         return valueStr.length() == digitLimit;
     }
 
+    // Uno o varios valores separados por comas o espacios
+    private int[] parseKeys(String input) {
+        String[] tokens = input.trim().split("[,\\s]+");
+        int[] keys = new int[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            keys[i] = Integer.parseInt(tokens[i]);
+        }
+        return keys;
+    }
+
     // Obtener valor mínimo basado en el límite de dígitos
     private int getMinValue(int digitLimit) {
         if (digitLimit == 1) return 0;
@@ -129,50 +166,24 @@ public class SquaredSearchController {
     }
 
     private void loadDataFromFile() {
-        dataArray.clear();
+        hashTable = new IntHashTable(10, hashFunction);
 
-        try {
-            File file = new File(currentFilePath);
-
-            if (!file.exists()) {
-                System.err.println("El archivo de datos no existe: " + file.getAbsolutePath());
-                for (int i = 0; i < tableSize; i++) {
-                    dataArray.add(-1);
-                }
-                return;
-            }
-
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                String line = reader.readLine();
+        File file = new File(currentFilePath);
 
-                if (line != null) {
-                    // Remove brackets if present
-                    line = line.replace("[", "").replace("]", "");
-
-                    // Split by comma
-                    String[] values = line.split(",");
+        if (!file.exists()) {
+            System.err.println("El archivo de datos no existe: " + file.getAbsolutePath());
+            return;
+        }
 
-                    // Convert to integers and add to array
-                    for (String value : values) {
-                        try {
-                            int num = Integer.parseInt(value.trim());
-                            dataArray.add(num);
-                        } catch (NumberFormatException e) {
-                            System.err.println("Valor no numérico encontrado: " + value);
-                        }
-                    }
-                }
+        try {
+            IntHashTable loaded = IntHashTable.readSlots(file, hashFunction);
+            if (loaded.tableSize() > 0) {
+                hashTable = loaded;
             }
         } catch (IOException e) {
             System.err.println("Error al leer el archivo: " + e.getMessage());
             e.printStackTrace();
         }
-
-        if (dataArray.isEmpty()) {
-            for (int i = 0; i < tableSize; i++) {
-                dataArray.add(-1);
-            }
-        }
     }
 
     // Método para cargar archivo externo
@@ -197,21 +208,19 @@ public class SquaredSearchController {
 
             try {
                 // Intentar cargar datos del archivo seleccionado
-                List<Integer> newData = loadDataFromExternalFile(selectedFile);
-
-                if (!newData.isEmpty()) {
-                    // Actualizar el array de datos
-                    dataArray.clear();
-                    dataArray.addAll(newData);
+                IntHashTable newTable = IntHashTable.readSlots(selectedFile, hashFunction);
+
+                if (newTable.tableSize() > 0) {
+                    // Asegurar que la tabla tenga al menos 10 posiciones
+                    newTable.ensureTableSize(10);
+                    hashTable = newTable;
+                    if (cuckooTable.isEnabled()) {
+                        cuckooTable.rebuild(hashTable.keys(), hashTable.tableSize(), digitLimit);
+                    }
 
-                    // Actualizar el archivo actual y tamaño de tabla
+                    // Actualizar el archivo actual
                     currentFilePath = selectedFile.getAbsolutePath();
-                    tableSize = Math.max(10, dataArray.size());
-
-                    // Asegurar que la tabla tenga exactamente tableSize elementos
-                    while (dataArray.size() < tableSize) {
-                        dataArray.add(-1);
-                    }
+                    lookupCache.clear();
 
                     // Mostrar datos en la tabla
                     displayDataInTable();
@@ -220,7 +229,7 @@ public class SquaredSearchController {
                     view.clearHighlights();
 
                     view.setResultMessage("Datos cargados desde: " + selectedFile.getName() +
-                            " (" + dataArray.size() + " elementos)", true);
+                            " (" + hashTable.tableSize() + " elementos)", true);
                 } else {
                     view.setResultMessage("El archivo seleccionado está vacío o no contiene datos válidos", false);
                 }
@@ -233,120 +242,37 @@ public class SquaredSearchController {
         }
     }
 
-    // Método para cargar datos desde un archivo externo específico
-    private List<Integer> loadDataFromExternalFile(File file) throws IOException {
-        List<Integer> data = new ArrayList<>();
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-
-            while ((line = reader.readLine()) != null) {
-                line = line.trim();
-
-                if (line.isEmpty() || line.startsWith("#")) {
-                    continue; // Saltar líneas vacías y comentarios
-                }
-
-                // Si la línea contiene corchetes, procesarla como array
-                if (line.contains("[") && line.contains("]")) {
-                    line = line.replace("[", "").replace("]", "");
-                }
-
-                // Dividir por comas, espacios o ambos
-                String[] values = line.split("[,\\s]+");
-
-                for (String value : values) {
-                    value = value.trim();
-
-                    if (!value.isEmpty()) {
-                        try {
-                            int num = Integer.parseInt(value);
-                            data.add(num);
-                        } catch (NumberFormatException e) {
-                            // Si no es un número válido, agregar como -1 (vacío)
-                            if (!value.equals("-1")) {
-                                System.err.println("Valor no numérico ignorado: " + value);
-                            } else {
-                                data.add(-1);
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
-        return data;
-    }
-
-    private void createHashTable() {
-        if (dataArray.isEmpty()) {
-            for (int i = 0; i < tableSize; i++) {
-                dataArray.add(-1);
-            }
-        }
-
-        if (dataArray.size() < tableSize) {
-            int toAdd = tableSize - dataArray.size();
-            for (int i = 0; i < toAdd; i++) {
-                dataArray.add(-1);
-            }
-        } else if (dataArray.size() > tableSize) {
-            // Reducir el tamaño si es necesario
-            while (dataArray.size() > tableSize) {
-                dataArray.remove(dataArray.size() - 1);
-            }
+    private void displayDataInTable() {
+        if (cuckooTable.isEnabled()) {
+            view.setTableData(cuckooTable.tableData());
+            return;
         }
-    }
 
-    private void displayDataInTable() {
+        int tableSize = hashTable.tableSize();
         Object[][] tableData = new Object[tableSize][2];
 
         for (int i = 0; i < tableSize; i++) {
             tableData[i][0] = i + 1;
-            // Si el valor es -1, mostramos una celda vacía
-            Integer value = i < dataArray.size() ? dataArray.get(i) : -1;
-            tableData[i][1] = (value != null && value == -1) ? "" : value;
+            // Si la posición está vacía, mostramos una celda vacía
+            tableData[i][1] = hashTable.isSlotEmpty(i) ? "" : (Object) hashTable.get(i);
         }
         view.setTableData(tableData);
     }
 
+    // Hash por cuadrado medio de la tabla actual (ver DigitHashes.middleSquare)
     private int calculateMiddleSquareHash(int value) {
-        long squared = (long) value * value;
-
-        String squaredStr = String.valueOf(squared);
-        int len = squaredStr.length();
-
-        if (len < 2) {
-            squaredStr = "0" + squaredStr;
-            len = squaredStr.length();
-        }
-
-        int tableSizeDigits = String.valueOf(tableSize).length();
-
-        int mid = len / 2;
-        int digitsToTake = Math.min(tableSizeDigits, len);
-        int start = Math.max(0, mid - (digitsToTake / 2));
-        int end = Math.min(len, start + digitsToTake);
-
-        if (start >= end) {
-            end = start + 1;
-        }
-
-        String middleDigits = squaredStr.substring(start, end);
-
-        int hashValue;
-        try {
-            hashValue = Integer.parseInt(middleDigits);
-        } catch (NumberFormatException e) {
-            hashValue = 0;
-        }
-
-        return hashValue % tableSize;
+        return hashTable.homeSlot(value);
     }
 
     // Método de búsqueda que decide entre normal o animada
     private void performSearch() {
-        if (view.isVisualizationEnabled()) {
+        // Varias claves separadas por comas o espacios se resuelven en lote; en la tabla
+        // cuckoo cada clave está en una de dos cubetas y no hace falta animar la búsqueda
+        if (cuckooTable.isEnabled()) {
+            performCuckooSearch();
+        } else if (view.getSearchValue().matches(".*\\d[,\\s]+-?\\d.*")) {
+            performBatchSearch();
+        } else if (view.isVisualizationEnabled()) {
             performAnimatedSearch();
         } else {
             performNormalSearch();
@@ -369,27 +295,24 @@ public class SquaredSearchController {
             // Limpiar highlights anteriores
             view.clearHighlights();
 
-            Integer foundPosition = searchInOriginalPosition(valueToSearch, originalHashPosition);
+            Integer foundPosition = lookupCache.cachedPosition(valueToSearch);
 
             if (foundPosition == null) {
-                foundPosition = searchSequential(valueToSearch, originalHashPosition);
+                int position = hashTable.find(valueToSearch);
+                foundPosition = position == IntHashTable.NOT_FOUND ? null : position;
             }
 
-            if (foundPosition == null) {
-                foundPosition = searchExponential(valueToSearch, originalHashPosition);
-            }
-
-            if (foundPosition == null) {
-                foundPosition = searchInExtendedTable(valueToSearch, originalHashPosition);
-            }
+            lookupCache.remember(valueToSearch, foundPosition);
 
             if (foundPosition != null) {
                 view.highlightFoundItem(foundPosition);
                 view.setResultMessage("Valor " + valueToSearch + " encontrado en la posición " + (foundPosition + 1) +
                         (foundPosition == originalHashPosition ? " (posición hash original cuadrado medio)" :
-                                " (reubicado por colisión, hash original cuadrado medio: " + (originalHashPosition + 1) + ")"), true);
+                                " (reubicado por colisión" + describePlacement(foundPosition, valueToSearch) + ", hash original cuadrado medio: " + (originalHashPosition + 1) + ")") +
+                        lookupCache.describe(), true);
             } else {
-                view.setResultMessage("Valor " + valueToSearch + " no encontrado. Función hash cuadrado medio.", false);
+                view.setResultMessage("Valor " + valueToSearch + " no encontrado. Función hash cuadrado medio."
+                        + lookupCache.describe(), false);
             }
 
         } catch (NumberFormatException e) {
@@ -397,6 +320,33 @@ public class SquaredSearchController {
         }
     }
 
+    // Búsqueda de varios valores: las posiciones base del lote se calculan de una vez
+    private void performBatchSearch() {
+        int[] values;
+        try {
+            values = parseKeys(view.getSearchValue());
+        } catch (NumberFormatException e) {
+            view.setResultMessage("Por favor ingrese valores numéricos válidos", false);
+            return;
+        }
+
+        view.clearHighlights();
+        int[] positions = hashTable.findAll(values);
+
+        int found = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (positions[i] != IntHashTable.NOT_FOUND) {
+                if (found == 0) {
+                    view.highlightFoundItem(positions[i]);
+                }
+                lookupCache.remember(values[i], positions[i]);
+                found++;
+            }
+        }
+
+        view.setResultMessage(found + " de " + values.length + " valores encontrados", found > 0);
+    }
+
     // Búsqueda con animación visual
     private void performAnimatedSearch() {
         String input = view.getSearchValue();
@@ -409,6 +359,8 @@ public class SquaredSearchController {
         try {
             int valueToSearch = Integer.parseInt(input);
             int originalHashPosition = calculateMiddleSquareHash(valueToSearch);
+            IntHashTable table = hashTable;
+            int tableSize = table.tableSize();
 
             view.clearHighlights();
 
@@ -419,9 +371,8 @@ public class SquaredSearchController {
                     publish(originalHashPosition);
                     Thread.sleep(500);
 
-                    Integer foundPosition = searchInOriginalPosition(valueToSearch, originalHashPosition);
-                    if (foundPosition != null) {
-                        return foundPosition;
+                    if (table.get(originalHashPosition) == valueToSearch) {
+                        return originalHashPosition;
                     }
 
                     // 2. Búsqueda secuencial
@@ -432,7 +383,7 @@ public class SquaredSearchController {
                         publish(position);
                         Thread.sleep(400);
 
-                        if (position < dataArray.size() && dataArray.get(position) == valueToSearch) {
+                        if (table.get(position) == valueToSearch) {
                             return position;
                         }
                         position = (position + 1) % tableSize;
@@ -444,12 +395,11 @@ public class SquaredSearchController {
                     attempts = 0;
 
                     while (attempts < tableSize) {
-                        int expPosition = (originalHashPosition + (i * i)) % tableSize;
+                        int expPosition = (int) ((originalHashPosition + (long) i * i) % tableSize);
                         publish(expPosition);
                         Thread.sleep(400);
 
-                        if (expPosition >= 0 && expPosition < dataArray.size() &&
-                                dataArray.get(expPosition) == valueToSearch) {
+                        if (table.get(expPosition) == valueToSearch) {
                             return expPosition;
                         }
 
@@ -459,14 +409,10 @@ public class SquaredSearchController {
 
                     // 4. Búsqueda en tabla extendida
                     for (int j = tableSize - 1; j >= 0; j--) {
-                        if (j >= dataArray.size()) {
-                            continue;
-                        }
-
                         publish(j);
                         Thread.sleep(400);
 
-                        if (dataArray.get(j) == valueToSearch) {
+                        if (table.get(j) == valueToSearch) {
                             return j;
                         }
                     }
@@ -493,7 +439,7 @@ public class SquaredSearchController {
                             view.setResultMessage("Valor " + valueToSearch + " encontrado en la posición " +
                                     (position + 1) + (position == originalHashPosition ?
                                     " (posición hash original cuadrado medio)" :
-                                    " (reubicado por colisión, hash original cuadrado medio: " + (originalHashPosition + 1) + ")"), true);
+                                    " (reubicado por colisión" + describePlacement(position, valueToSearch) + ", hash original cuadrado medio: " + (originalHashPosition + 1) + ")"), true);
                         } else {
                             // No encontrado - limpiar highlights
                             view.clearHighlights();
@@ -510,67 +456,17 @@ public class SquaredSearchController {
         }
     }
 
-    private Integer searchInOriginalPosition(int valueToSearch, int hashPosition) {
-        if (hashPosition < dataArray.size() && dataArray.get(hashPosition) == valueToSearch) {
-            return hashPosition;
-        }
-        return null;
-    }
-
-    private Integer searchSequential(int valueToSearch, int originalHashPos) {
-        int position = (originalHashPos + 1) % tableSize;
-        int attempts = 0;
-
-        while (position != originalHashPos && attempts < tableSize) {
-            if (position < dataArray.size() && dataArray.get(position) == valueToSearch) {
-                return position;
-            }
-            position = (position + 1) % tableSize;
-            attempts++;
-        }
-
-        return null;
-    }
-
-    private Integer searchExponential(int valueToSearch, int originalHashPos) {
-        int i = 1;
-        int attempts = 0;
-
-        while (attempts < tableSize) {
-            int position = (originalHashPos + (i * i)) % tableSize;
-
-            if (position >= 0 && position < dataArray.size() && dataArray.get(position) == valueToSearch) {
-                return position;
-            }
-
-            i++;
-            attempts++;
-        }
-
-        return null;
-    }
-
-    private Integer searchInExtendedTable(int valueToSearch, int originalHashPos) {
-        for (int i = tableSize - 1; i >= 0; i--) {
-            if (i >= dataArray.size()) {
-                continue;
-            }
-
-            if (dataArray.get(i) == valueToSearch) {
-                return i;
-            }
-        }
-
-        return null;
-    }
-
     private void generateNewHashTable(int newSize) {
-        this.tableSize = newSize;
+        if (newSize < 1) {
+            view.setResultMessage("El tamaño de la tabla debe ser mayor que cero", false);
+            return;
+        }
 
-        dataArray.clear();
-        for (int i = 0; i < newSize; i++) {
-            dataArray.add(-1);
+        hashTable = new IntHashTable(newSize, hashFunction);
+        if (cuckooTable.isEnabled()) {
+            cuckooTable.rebuild(hashTable.keys(), newSize, digitLimit);
         }
+        lookupCache.clear();
 
         saveDataToFile();
 
@@ -585,113 +481,25 @@ public class SquaredSearchController {
 
     // Method to insert values using hash function
     public void insertValue(int value) {
-        int hashPosition = calculateMiddleSquareHash(value);
+        lookupCache.invalidate(value);
 
-        if (hashPosition >= dataArray.size()) {
-            int oldSize = dataArray.size();
-            while (dataArray.size() <= hashPosition) {
-                dataArray.add(-1);
-            }
-            tableSize = dataArray.size();
-            view.setResultMessage("La tabla hash se ha ampliado de " + oldSize + " a " + tableSize + " posiciones para acomodar el nuevo valor", true);
-            displayDataInTable();
-        }
+        // El cuadrado medio siempre queda dentro de la tabla
+        int hashPosition = calculateMiddleSquareHash(value);
 
-        if (dataArray.get(hashPosition) != -1) {
-            handleCollision(value, hashPosition);
+        if (!hashTable.insertAtHome(value)) {
+            collisionHandler.handleCollision(value, hashPosition);
             return;
         }
 
-        dataArray.set(hashPosition, value);
         saveDataToFile();
         displayDataInTable();
         view.setResultMessage("Valor " + value + " insertado en la posición hash " + (hashPosition + 1) + " (hash cuadrado medio)", true);
     }
 
-    private void handleCollision(int valueToInsert, int hashPosition) {
-        int currentValue = dataArray.get(hashPosition);
-        ColisionView colisionView = new ColisionView();
-        colisionView.setCollisionInfo(valueToInsert, hashPosition);
-
-        view.setResultMessage("Colisión detectada: Valor " + valueToInsert + " debería ir en la posición " + (hashPosition + 1) + " que ya está ocupada por " + currentValue, false);
-
-        colisionView.addSequentialSolutionListener(e -> {
-            solveCollisionSequential(valueToInsert, hashPosition);
-            colisionView.dispose();
-        });
-
-        colisionView.addExponentialSolutionListener(e -> {
-            solveCollisionExponential(valueToInsert, hashPosition);
-            colisionView.dispose();
-        });
-
-        colisionView.addTableSolutionListener(e -> {
-            solveCollisionWithTable(valueToInsert, hashPosition);
-            colisionView.dispose();
-        });
-
-        colisionView.addCancelListener(e -> {
-            colisionView.dispose();
-            view.setResultMessage("Inserción cancelada: colisión en posición " + (hashPosition + 1), false);
-        });
-
-        colisionView.showWindow();
-    }
-
-    private void solveCollisionSequential(int valueToInsert, int originalHashPos) {
-        int position = (originalHashPos + 1) % tableSize;
-        int attempts = 0;
-
-        while (position != originalHashPos && attempts < tableSize) {
-            if (dataArray.get(position) == -1) {
-                dataArray.set(position, valueToInsert);
-                saveDataToFile();
-                displayDataInTable();
-                view.setResultMessage("Valor " + valueToInsert + " insertado en posición " + (position + 1) + " mediante solución secuencial (colisión en posición " + (originalHashPos + 1) + ")", true);
-                return;
-            }
-            position = (position + 1) % tableSize;
-            attempts++;
-        }
-        view.setResultMessage("No se pudo insertar " + valueToInsert + ": tabla llena", false);
-    }
-
-    private void solveCollisionExponential(int valueToInsert, int originalHashPos) {
-        int i = 1;
-        int attempts = 0;
-
-        while (attempts < tableSize) {
-            int position = (originalHashPos + (i * i)) % tableSize;
-
-            if (position >= 0 && position < dataArray.size() && dataArray.get(position) == -1) {
-                dataArray.set(position, valueToInsert);
-                saveDataToFile();
-                displayDataInTable();
-                view.setResultMessage("Valor " + valueToInsert + " insertado en posición " + (position + 1) + " mediante solución exponencial (colisión en posición " + (originalHashPos + 1) + ")", true);
-                return;
-            }
-
-            i++;
-            attempts++;
-        }
-        view.setResultMessage("No se pudo insertar " + valueToInsert + " usando prueba cuadrática", false);
-    }
-
-    private void solveCollisionWithTable(int valueToInsert, int originalHashPos) {
-        int newSize = tableSize + 1;
-
-        while (dataArray.size() < newSize) {
-            dataArray.add(-1);
-        }
-
-        int overflowPosition = tableSize;
-        dataArray.set(overflowPosition, valueToInsert);
-
-        tableSize = newSize;
-
+    // Cambios hechos por la inserción con colisiones o la tabla cuckoo: se guardan y se redibujan
+    private void saveAndDisplay() {
         saveDataToFile();
         displayDataInTable();
-        view.setResultMessage("Valor " + valueToInsert + " insertado en posición " + (overflowPosition + 1) + " mediante solución de tabla (colisión en posición " + (originalHashPos + 1) + ")", true);
     }
 
     private void saveDataToFile() {
@@ -701,30 +509,102 @@ public class SquaredSearchController {
             // Crear directorios padre si no existen
             file.getParentFile().mkdirs();
 
-            try (java.io.PrintWriter writer = new java.io.PrintWriter(file)) {
-                writer.println(dataArray.toString());
-            }
+            // El archivo siempre guarda la tabla abierta, con los valores de la tabla cuckoo si está en uso
+            syncOpenTable();
+            hashTable.writeSlots(file);
         } catch (IOException e) {
             System.err.println("Error al escribir en el archivo: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
+    // Lleva a la tabla abierta los valores de la tabla cuckoo, en el mismo tamaño y sin columnas adicionales
+    private void syncOpenTable() {
+        if (cuckooTable.isEnabled()) {
+            hashTable.syncKeys(cuckooTable.keys(), IntHashTable.LINEAR_PROBING);
+        }
+    }
+
     // Method to delete a value
     public void deleteValue(int value) {
+        lookupCache.invalidate(value);
+
+        if (cuckooTable.isEnabled()) {
+            cuckooTable.delete(value);
+            return;
+        }
+
         int hashPosition = calculateMiddleSquareHash(value);
+        int foundPosition = hashTable.find(value);
 
-        if (hashPosition < dataArray.size() && dataArray.get(hashPosition) == value) {
-            dataArray.set(hashPosition, -1);
+        if (foundPosition != IntHashTable.NOT_FOUND) {
+            hashTable.remove(value);
+            if (hashTable.isLastRemoveShifted()) {
+                // Otras claves cambiaron de posición: las posiciones cacheadas ya no sirven
+                lookupCache.clear();
+            }
 
             saveDataToFile();
             displayDataInTable();
-            view.setResultMessage("Valor " + value + " eliminado de la posición hash cuadrado medio " + (hashPosition + 1), true);
+            if (foundPosition == hashPosition) {
+                view.setResultMessage("Valor " + value + " eliminado de la posición hash cuadrado medio " + (hashPosition + 1), true);
+            } else {
+                view.setResultMessage("Valor " + value + " eliminado de la posición " + (foundPosition + 1) +
+                        " (reubicado por colisión, hash original cuadrado medio: " + (hashPosition + 1) + ")", true);
+            }
         } else {
-            view.setResultMessage("Valor " + value + " no encontrado en la posición hash cuadrado medio calculada " + (hashPosition + 1), false);
+            view.setResultMessage("Valor " + value + " no encontrado en la tabla hash (posición hash cuadrado medio calculada " + (hashPosition + 1) + ")", false);
         }
     }
 
+    // Organización elegida en la vista; la tabla nueva se arma con los valores de la anterior
+    private void changeTableMode() {
+        boolean cuckoo = TABLE_CUCKOO.equals(view.getTableMode());
+        if (cuckoo == cuckooTable.isEnabled()) {
+            return;
+        }
+
+        lookupCache.clear();
+        view.clearHighlights();
+        if (cuckoo) {
+            cuckooTable.enable(hashTable.keys(), hashTable.tableSize(), digitLimit);
+            displayDataInTable();
+        } else {
+            // Cambiar de organización no escribe el archivo: la tabla abierta recibe los valores de la cuckoo en su mismo tamaño
+            syncOpenTable();
+            cuckooTable.disable();
+            displayDataInTable();
+            view.setResultMessage("Direccionamiento abierto: " + hashTable.size() + " valores en " +
+                    hashTable.tableSize() + " posiciones", true);
+        }
+    }
+
+    private void performCuckooSearch() {
+        String input = view.getSearchValue();
+
+        if (input.isEmpty()) {
+            view.setResultMessage("Por favor ingrese un valor para buscar", false);
+            return;
+        }
+
+        int[] values;
+        try {
+            values = parseKeys(input);
+        } catch (NumberFormatException e) {
+            view.setResultMessage("Por favor ingrese valores numéricos válidos", false);
+            return;
+        }
+
+        view.clearHighlights();
+        cuckooTable.search(values);
+    }
+
+    // Solución de colisión que ubicó el valor encontrado, según la marca de su posición
+    private String describePlacement(int position, int value) {
+        String placement = hashTable.placementOf(position, hashTable.columnOf(position, value));
+        return placement == null || IntHashTable.HOME_SLOT.equals(placement) ? "" : ": " + placement;
+    }
+
     private void goBack() {
         // Close current view
         view.dispose();
@@ -1,31 +1,43 @@
 package controller.internal_search;
 
+import model.internal_search.HashFunction;
+import model.internal_search.IntHashTable;
+import model.internal_search.LookupCache;
 import view.menu.HashAlgorithmView;
-import view.colision.ColisionView;
 import view.internal_search.TruncSearchView;
 
 import javax.swing.*;
 import javax.swing.filechooser.FileNameExtensionFilter;
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 public class TruncSearchController {
 
+    private static final String TABLE_OPEN = "Direccionamiento abierto";
+    private static final String TABLE_CUCKOO = "Cuckoo (4 vías)";
+
     private final TruncSearchView view;
-    private final List<List<Integer>> hashTable;
+    private final HashFunction hashFunction;
+    private IntHashTable hashTable;
     private HashAlgorithmView hashAlgorithmView;
-    private int tableSize;
+    // Caché de claves frecuentes (clave -> posición)
+    private final LookupCacheSupport lookupCache = new LookupCacheSupport();
+    // Ventana de colisión e inserción por lotes sobre hashTable
+    private final HashCollisionSupport collisionHandler;
+    // Tabla cuckoo con las claves de la tabla, en lugar del direccionamiento abierto cuando se elige
+    private final CuckooTableSupport cuckooTable;
     private int digitLimit = 2;
-    private int maxColumns = 1;
     private String currentFilePath = "src/utilities/datos-hash-truncamiento.txt";
 
     public TruncSearchController(TruncSearchView view) {
         this.view = view;
-        this.hashTable = new ArrayList<>();
+        // Las posiciones de dígitos se leen de la vista en cada cálculo
+        this.hashFunction = HashFunction.truncation(view::getSelectedDigitPositions);
+        this.collisionHandler = new HashCollisionSupport(() -> hashTable, lookupCache, IntHashTable.EXTRA_COLUMNS,
+                this::saveAndDisplay, view::setResultMessage);
+        this.cuckooTable = new CuckooTableSupport("truncamiento", hashFunction, false, this::saveAndDisplay,
+                view::setResultMessage, view::highlightFoundItem);
 
         // Initialize components
         initComponents();
@@ -33,20 +45,6 @@ public class TruncSearchController {
         // Load data from file when creating the controller
         loadDataFromFile();
 
-        if (hashTable.isEmpty()) {
-            this.tableSize = 10;
-            initializeEmptyHashTable();
-        } else {
-            this.tableSize = Math.max(10, hashTable.size());
-
-            // Ensure the table has exactly tableSize rows
-            while (hashTable.size() < this.tableSize) {
-                List<Integer> row = new ArrayList<>();
-                row.add(-1);
-                hashTable.add(row);
-            }
-        }
-
         // Display data in the table
         displayDataInTable();
     }
@@ -55,7 +53,17 @@ public class TruncSearchController {
         this.hashAlgorithmView = hashAlgorithmView;
     }
 
+    // Caché activa con sus contadores de aciertos y fallos, o null
+    public LookupCache getLookupCache() {
+        return lookupCache.getLookupCache();
+    }
+
     private void initComponents() {
+        view.setCachePolicies(LookupCacheSupport.POLICIES);
+        view.addCachePolicyListener(e -> lookupCache.changePolicy(view.getCachePolicy()));
+        view.setTableModes(new String[]{TABLE_OPEN, TABLE_CUCKOO});
+        view.addTableModeListener(e -> changeTableMode());
+
         view.addSearchListener(e -> performSearch());
         view.addGenerateArrayListener(e -> {
             String input = view.getArraySize();
@@ -85,15 +93,24 @@ public class TruncSearchController {
 
             if (!input.isEmpty() && !digitLimitInput.isEmpty()) {
                 try {
-                    int value = Integer.parseInt(input);
+                    int[] values = parseKeys(input);
                     digitLimit = Integer.parseInt(digitLimitInput);
 
-                    if (!isValidDigitCount(value, digitLimit)) {
-                        view.setResultMessage("La clave debe tener exactamente " + digitLimit + " dígito(s)", false);
-                        return;
+                    for (int value : values) {
+                        if (!isValidDigitCount(value, digitLimit)) {
+                            view.setResultMessage("La clave debe tener exactamente " + digitLimit + " dígito(s)"
+                                    + (values.length > 1 ? " (" + value + ")" : ""), false);
+                            return;
+                        }
                     }
 
-                    insertValue(value);
+                    if (cuckooTable.isEnabled()) {
+                        cuckooTable.insertValues(values);
+                    } else if (values.length == 1) {
+                        insertValue(values[0]);
+                    } else {
+                        collisionHandler.insertValues(values);
+                    }
                 } catch (NumberFormatException ex) {
                     view.setResultMessage("Por favor ingrese valores numéricos válidos", false);
                 }
@@ -124,6 +141,16 @@ public class TruncSearchController {
         return valueStr.length() == digitLimit;
     }
 
+    // Una o varias claves separadas por comas o espacios
+    private int[] parseKeys(String input) {
+        String[] tokens = input.trim().split("[,\\s]+");
+        int[] keys = new int[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            keys[i] = Integer.parseInt(tokens[i]);
+        }
+        return keys;
+    }
+
     // Method to get the minimum range based on the digit limit
     private int getMinValue(int digitLimit) {
         if (digitLimit == 1) return 0;
@@ -137,44 +164,23 @@ public class TruncSearchController {
 
     // Method to load data from file
     private void loadDataFromFile() {
-        hashTable.clear();
+        hashTable = new IntHashTable(10, hashFunction);
 
-        try {
-            File file = new File(currentFilePath);
-
-            if (!file.exists()) {
-                System.err.println("Data file does not exist: " + file.getAbsolutePath());
-                return;
-            }
-
-            System.out.println("=== FILE LOADING DEBUG ===");
-            System.out.println("File found: " + file.getAbsolutePath());
+        File file = new File(currentFilePath);
 
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                String firstLine = reader.readLine();
-                System.out.println("First line: " + firstLine);
-
-                if (firstLine == null || firstLine.trim().isEmpty()) {
-                    System.out.println("First line empty, nothing to load");
-                    return;
-                }
+        if (!file.exists()) {
+            System.err.println("Data file does not exist: " + file.getAbsolutePath());
+            return;
+        }
 
-                if (firstLine.startsWith("[") && firstLine.endsWith("]") && !firstLine.contains("],")) {
-                    System.out.println("Old format detected");
-                    loadOldFormat(firstLine);
-                } else {
-                    System.out.println("New format detected");
-                    loadNewFormat(firstLine, reader);
-                }
-            }
+        try {
+            IntHashTable loaded = IntHashTable.readRows(file, hashFunction);
 
-            System.out.println("Total rows loaded: " + hashTable.size());
-            System.out.println("Loaded content:");
-            for (int i = 0; i < hashTable.size(); i++) {
-                System.out.println("  Row " + i + ": " + hashTable.get(i));
+            if (loaded.tableSize() > 0) {
+                // Ensure the table has at least 10 rows
+                loaded.ensureTableSize(10);
+                hashTable = loaded;
             }
-            System.out.println("=== END LOADING DEBUG ===");
-
         } catch (IOException e) {
             System.err.println("Error reading the file: " + e.getMessage());
             e.printStackTrace();
@@ -203,29 +209,19 @@ public class TruncSearchController {
 
             try {
                 // Intentar cargar datos del archivo seleccionado
-                List<List<Integer>> newData = loadDataFromExternalFile(selectedFile);
-
-                if (!newData.isEmpty()) {
-                    // Actualizar la tabla hash
-                    hashTable.clear();
-                    hashTable.addAll(newData);
-
-                    // Actualizar el archivo actual y tamaño de tabla
-                    currentFilePath = selectedFile.getAbsolutePath();
-                    tableSize = Math.max(10, hashTable.size());
-
-                    // Asegurar que la tabla tenga exactamente tableSize filas
-                    while (hashTable.size() < tableSize) {
-                        List<Integer> row = new ArrayList<>();
-                        row.add(-1);
-                        hashTable.add(row);
+                IntHashTable newTable = IntHashTable.readRows(selectedFile, hashFunction);
+
+                if (newTable.tableSize() > 0) {
+                    // Asegurar que la tabla tenga al menos 10 filas
+                    newTable.ensureTableSize(10);
+                    hashTable = newTable;
+                    if (cuckooTable.isEnabled()) {
+                        cuckooTable.rebuild(hashTable.keys(), hashTable.tableSize(), digitLimit);
                     }
 
-                    // Recalcular maxColumns
-                    maxColumns = 1;
-                    for (List<Integer> row : hashTable) {
-                        maxColumns = Math.max(maxColumns, row.size());
-                    }
+                    // Actualizar el archivo actual
+                    currentFilePath = selectedFile.getAbsolutePath();
+                    lookupCache.clear();
 
                     // Mostrar datos en la tabla
                     displayDataInTable();
@@ -234,7 +230,7 @@ public class TruncSearchController {
                     view.clearHighlights();
 
                     view.setResultMessage("Datos cargados desde: " + selectedFile.getName() +
-                            " (" + hashTable.size() + " filas, " + maxColumns + " columnas)", true);
+                            " (" + hashTable.tableSize() + " filas, " + hashTable.maxColumns() + " columnas)", true);
                 } else {
                     view.setResultMessage("El archivo seleccionado está vacío o no contiene datos válidos", false);
                 }
@@ -247,235 +243,41 @@ public class TruncSearchController {
         }
     }
 
-    // Método para cargar datos desde un archivo externo específico
-    private List<List<Integer>> loadDataFromExternalFile(File file) throws IOException {
-        List<List<Integer>> data = new ArrayList<>();
-        int localMaxColumns = 1;
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-
-            while ((line = reader.readLine()) != null) {
-                line = line.trim();
-
-                if (line.isEmpty() || line.startsWith("#")) {
-                    continue; // Saltar líneas vacías y comentarios
-                }
-
-                List<Integer> row = new ArrayList<>();
-
-                // Si la línea contiene corchetes, procesarla como lista
-                if (line.contains("[") && line.contains("]")) {
-                    line = line.replace("[", "").replace("]", "");
-                }
-
-                // Dividir por comas
-                String[] values = line.split(",");
-
-                for (String value : values) {
-                    value = value.trim();
-
-                    if (!value.isEmpty()) {
-                        try {
-                            int num = Integer.parseInt(value);
-                            row.add(num);
-                        } catch (NumberFormatException e) {
-                            // Si no es un número válido, agregar como -1 (vacío)
-                            if (!value.equals("-1")) {
-                                System.err.println("Valor no numérico ignorado: " + value);
-                            } else {
-                                row.add(-1);
-                            }
-                        }
-                    }
-                }
-
-                // Si la fila está vacía, agregar -1
-                if (row.isEmpty()) {
-                    row.add(-1);
-                }
-
-                localMaxColumns = Math.max(localMaxColumns, row.size());
-                data.add(row);
-            }
-        }
-
-        // Actualizar maxColumns
-        maxColumns = localMaxColumns;
-
-        return data;
-    }
-
-    private void loadOldFormat(String line) {
-        System.out.println("Loading old format: " + line);
-        line = line.replace("[", "").replace("]", "");
-        String[] values = line.split(",");
-
-        maxColumns = 1;
-
-        for (String value : values) {
-            try {
-                int num = Integer.parseInt(value.trim());
-                List<Integer> row = new ArrayList<>();
-                row.add(num);
-                hashTable.add(row);
-                System.out.println("  Added row: [" + num + "]");
-            } catch (NumberFormatException e) {
-                System.err.println("Non-numeric value found: " + value);
-                List<Integer> row = new ArrayList<>();
-                row.add(-1);
-                hashTable.add(row);
-            }
-        }
-
-        System.out.println("Loaded " + hashTable.size() + " rows from old format");
-    }
-
-    private void loadNewFormat(String firstLine, BufferedReader reader) throws IOException {
-        maxColumns = 1;
-        int lineNumber = 1;
-
-        // Process first line
-        if (!firstLine.startsWith("#")) {
-            System.out.println("Processing line " + lineNumber + ": " + firstLine);
-            processRowLine(firstLine);
-        } else {
-            System.out.println("Skipping comment line " + lineNumber + ": " + firstLine);
-        }
-
-        // Process remaining lines
-        String line;
-        while ((line = reader.readLine()) != null) {
-            lineNumber++;
-            if (!line.trim().isEmpty() && !line.startsWith("#")) {
-                System.out.println("Processing line " + lineNumber + ": " + line);
-                processRowLine(line);
-            } else if (line.startsWith("#")) {
-                System.out.println("Skipping comment line " + lineNumber + ": " + line);
-            } else {
-                System.out.println("Skipping empty line " + lineNumber);
-            }
-        }
-
-        System.out.println("Total lines processed: " + lineNumber);
-        System.out.println("Rows added to hashTable: " + hashTable.size());
-    }
-
-    private void processRowLine(String line) {
-        System.out.println("Processing line: '" + line + "'");
-        List<Integer> row = new ArrayList<>();
-
-        // Remove brackets if present
-        line = line.replace("[", "").replace("]", "");
-
-        if (!line.trim().isEmpty()) {
-            // Split by comma
-            String[] values = line.split(",");
-
-            // Convert to integers and add to row
-            for (String value : values) {
-                try {
-                    int num = Integer.parseInt(value.trim());
-                    row.add(num);
-                    System.out.println("  Added value: " + num);
-                } catch (NumberFormatException e) {
-                    System.err.println("Non-numeric value found: " + value);
-                    row.add(-1);
-                }
-            }
-        }
-
-        // If the row is empty, add -1
-        if (row.isEmpty()) {
-            row.add(-1);
-            System.out.println("  Empty row, adding -1");
-        }
-
-        maxColumns = Math.max(maxColumns, row.size());
-        hashTable.add(row);
-        System.out.println("  Fila agregada: " + row + ", maxColumns=" + maxColumns);
-    }
-
-    private void initializeEmptyHashTable() {
-        hashTable.clear();
-        maxColumns = 1;
-
-        for (int i = 0; i < tableSize; i++) {
-            List<Integer> row = new ArrayList<>();
-            row.add(-1);
-            hashTable.add(row);
+    private void displayDataInTable() {
+        if (cuckooTable.isEnabled()) {
+            view.setTableData(cuckooTable.tableData(), cuckooTable.headers());
+            return;
         }
-        System.out.println("Tabla hash inicializada con " + tableSize + " filas vacías");
-    }
 
-    private void displayDataInTable() {
-        System.out.println("=== DEBUGGING TABLA ===");
-        System.out.println("tableSize=" + tableSize);
-        System.out.println("hashTable.size()=" + hashTable.size());
-        System.out.println("maxColumns=" + maxColumns);
+        int tableSize = hashTable.tableSize();
+        int maxColumns = hashTable.maxColumns();
 
-        // Create dynamic headers based on maximum columns
-        String[] headers = new String[maxColumns + 1];
+        // Crear encabezados dinámicos basados en el número máximo de columnas
+        String[] headers = new String[maxColumns + 1]; // +1 para la columna de posición
         headers[0] = "Posición";
         for (int i = 1; i <= maxColumns; i++) {
             headers[i] = "Clave " + i;
         }
 
-        System.out.println("Headers: " + java.util.Arrays.toString(headers));
-
-        // Create table data
+        // Crear datos de la tabla
         Object[][] tableData = new Object[tableSize][maxColumns + 1];
 
         for (int i = 0; i < tableSize; i++) {
-            tableData[i][0] = i + 1;
-
-            List<Integer> row = i < hashTable.size() ? hashTable.get(i) : null;
+            tableData[i][0] = i + 1; // Posición (empezando desde 1)
+            int columns = hashTable.columnCount(i);
 
-            // Fill key columns
+            // Llenar las columnas de claves; las celdas sin clave quedan vacías
             for (int j = 1; j <= maxColumns; j++) {
-                int valueIndex = j - 1;
-                if (row != null && valueIndex < row.size()) {
-                    Integer value = row.get(valueIndex);
-                    tableData[i][j] = (value != null && value == -1) ? "" : value;
-                } else {
-                    tableData[i][j] = "";
-                }
+                tableData[i][j] = j <= columns ? (Object) hashTable.get(i, j - 1) : "";
             }
-
-            System.out.println("TableData fila " + i + ": " + java.util.Arrays.toString(tableData[i]));
         }
 
-        System.out.println("Enviando a vista: " + tableData.length + " filas");
         view.setTableData(tableData, headers);
-        System.out.println("=== FIN DEBUGGING ===");
     }
 
+    // Hash por truncamiento de la tabla actual, o -1 si falta alguna posición (ver DigitHashes.truncation)
     private int getHashByDigitExtraction(int value) {
-        String valueStr = String.valueOf(value);
-        int[] positions = view.getSelectedDigitPositions();
-
-        // Verificar que todas las posiciones existan en el valor
-        for (int position : positions) {
-            int index = position - 1;
-            if (index >= valueStr.length() || index < 0) {
-                return -1; // Valor especial para indicar error
-            }
-        }
-
-        StringBuilder hashBuilder = new StringBuilder();
-        for (int position : positions) {
-            int index = position - 1;
-            hashBuilder.append(valueStr.charAt(index));
-        }
-
-        int hash;
-        try {
-            hash = Integer.parseInt(hashBuilder.toString());
-        } catch (NumberFormatException e) {
-            hash = 0;
-        }
-
-        return hash % tableSize;
+        return hashTable.homeSlot(value);
     }
 
     private String getHashCalculationDescription(int value) {
@@ -506,15 +308,21 @@ public class TruncSearchController {
         }
 
         int extractedNumber = Integer.parseInt(extractedDigits.toString());
-        int hash = extractedNumber % tableSize;
+        int hash = extractedNumber % hashTable.tableSize();
 
         return "Hash de " + value + ": extrayendo dígitos en posiciones [" + positionsDescription +
-                "] = " + extractedDigits + " % " + tableSize + " = " + (hash + 1);
+                "] = " + extractedDigits + " % " + hashTable.tableSize() + " = " + (hash + 1);
     }
 
     // Method to perform search
     private void performSearch() {
-        if (view.isVisualizationEnabled()) {
+        // Varias claves separadas por comas o espacios se resuelven en lote; en la tabla
+        // cuckoo cada clave está en una de dos cubetas y no hace falta animar la búsqueda
+        if (cuckooTable.isEnabled()) {
+            performCuckooSearch();
+        } else if (view.getSearchValue().matches(".*\\d[,\\s]+-?\\d.*")) {
+            performBatchSearch();
+        } else if (view.isVisualizationEnabled()) {
             performAnimatedSearch();
         } else {
             performNormalSearch();
@@ -544,19 +352,14 @@ public class TruncSearchController {
             // Clear previous highlights
             view.clearHighlights();
 
-            Integer foundPosition = searchInOriginalPosition(valueToSearch, originalHashPosition);
+            Integer foundPosition = lookupCache.cachedPosition(valueToSearch);
 
             if (foundPosition == null) {
-                foundPosition = searchSequential(valueToSearch, originalHashPosition);
+                int position = hashTable.find(valueToSearch);
+                foundPosition = position == IntHashTable.NOT_FOUND ? null : position;
             }
 
-            if (foundPosition == null) {
-                foundPosition = searchExponential(valueToSearch, originalHashPosition);
-            }
-
-            if (foundPosition == null) {
-                foundPosition = searchInExtendedTable(valueToSearch, originalHashPosition);
-            }
+            lookupCache.remember(valueToSearch, foundPosition);
 
             String hashDescription = getHashCalculationDescription(valueToSearch);
 
@@ -566,12 +369,12 @@ public class TruncSearchController {
                                 (foundPosition + 1) +
                                 (foundPosition == originalHashPosition ?
                                         " (posición hash original)" :
-                                        " (reubicada por colisión, hash original: " + (originalHashPosition + 1) + ")") +
-                                "\n" + hashDescription,
+                                        " (reubicada por colisión" + describePlacement(foundPosition, valueToSearch) + ", hash original: " + (originalHashPosition + 1) + ")") +
+                                lookupCache.describe() + "\n" + hashDescription,
                         true);
             } else {
                 view.setResultMessage("Clave " + valueToSearch + " no encontrada. " + hashDescription +
-                        ". Se buscó en todas las posiciones posibles.", false);
+                        ". Se buscó en todas las posiciones posibles." + lookupCache.describe(), false);
             }
 
         } catch (NumberFormatException e) {
@@ -579,6 +382,33 @@ public class TruncSearchController {
         }
     }
 
+    // Búsqueda de varias claves: las posiciones base del lote se calculan de una vez
+    private void performBatchSearch() {
+        int[] values;
+        try {
+            values = parseKeys(view.getSearchValue());
+        } catch (NumberFormatException e) {
+            view.setResultMessage("Por favor ingrese claves numéricas válidas", false);
+            return;
+        }
+
+        view.clearHighlights();
+        int[] positions = hashTable.findAll(values);
+
+        int found = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (positions[i] != IntHashTable.NOT_FOUND) {
+                if (found == 0) {
+                    view.highlightFoundItem(positions[i]);
+                }
+                lookupCache.remember(values[i], positions[i]);
+                found++;
+            }
+        }
+
+        view.setResultMessage(found + " de " + values.length + " claves encontradas", found > 0);
+    }
+
     // Animation for search
     private void performAnimatedSearch() {
         String input = view.getSearchValue();
@@ -599,6 +429,9 @@ public class TruncSearchController {
                 return;
             }
 
+            IntHashTable table = hashTable;
+            int tableSize = table.tableSize();
+
             view.clearHighlights();
 
             SwingWorker<Integer, Integer> worker = new SwingWorker<Integer, Integer>() {
@@ -607,9 +440,8 @@ public class TruncSearchController {
                     publish(originalHashPosition);
                     Thread.sleep(500);
 
-                    Integer foundPosition = searchInOriginalPosition(valueToSearch, originalHashPosition);
-                    if (foundPosition != null) {
-                        return foundPosition;
+                    if (table.isInRange(originalHashPosition) && table.rowContains(originalHashPosition, valueToSearch)) {
+                        return originalHashPosition;
                     }
 
                     int position = (originalHashPosition + 1) % tableSize;
@@ -619,13 +451,8 @@ public class TruncSearchController {
                         publish(position);
                         Thread.sleep(400);
 
-                        if (position < hashTable.size()) {
-                            List<Integer> row = hashTable.get(position);
-                            for (Integer value : row) {
-                                if (value == valueToSearch) {
-                                    return position;
-                                }
-                            }
+                        if (table.isInRange(position) && table.rowContains(position, valueToSearch)) {
+                            return position;
                         }
                         position = (position + 1) % tableSize;
                         attempts++;
@@ -635,17 +462,12 @@ public class TruncSearchController {
                     attempts = 0;
 
                     while (attempts < tableSize) {
-                        int expPosition = (originalHashPosition + (i * i)) % tableSize;
+                        int expPosition = (int) ((originalHashPosition + (long) i * i) % tableSize);
                         publish(expPosition);
                         Thread.sleep(400);
 
-                        if (expPosition >= 0 && expPosition < hashTable.size()) {
-                            List<Integer> row = hashTable.get(expPosition);
-                            for (Integer value : row) {
-                                if (value == valueToSearch) {
-                                    return expPosition;
-                                }
-                            }
+                        if (table.isInRange(expPosition) && table.rowContains(expPosition, valueToSearch)) {
+                            return expPosition;
                         }
 
                         i++;
@@ -653,18 +475,11 @@ public class TruncSearchController {
                     }
 
                     for (int j = tableSize - 1; j >= 0; j--) {
-                        if (j >= hashTable.size()) {
-                            continue;
-                        }
-
                         publish(j);
                         Thread.sleep(400);
 
-                        List<Integer> row = hashTable.get(j);
-                        for (Integer value : row) {
-                            if (value == valueToSearch) {
-                                return j;
-                            }
+                        if (table.rowContains(j, valueToSearch)) {
+                            return j;
                         }
                     }
 
@@ -690,7 +505,7 @@ public class TruncSearchController {
                                             (position + 1) +
                                             (position == originalHashPosition ?
                                                     " (posición hash original)" :
-                                                    " (reubicada por colisión, hash original: " + (originalHashPosition + 1) + ")") +
+                                                    " (reubicada por colisión" + describePlacement(position, valueToSearch) + ", hash original: " + (originalHashPosition + 1) + ")") +
                                             "\n" + hashDescription,
                                     true);
                         } else {
@@ -709,88 +524,17 @@ public class TruncSearchController {
         }
     }
 
-    private Integer searchInOriginalPosition(int valueToSearch, int hashPosition) {
-        if (hashPosition < hashTable.size()) {
-            List<Integer> row = hashTable.get(hashPosition);
-            for (int i = 0; i < row.size(); i++) {
-                if (row.get(i) == valueToSearch) {
-                    return hashPosition;
-                }
-            }
-        }
-        return null;
-    }
-
-    private Integer searchSequential(int valueToSearch, int originalHashPos) {
-        int position = (originalHashPos + 1) % tableSize;
-        int attempts = 0;
-
-        while (position != originalHashPos && attempts < tableSize) {
-            if (position < hashTable.size()) {
-                List<Integer> row = hashTable.get(position);
-                for (Integer value : row) {
-                    if (value == valueToSearch) {
-                        return position;
-                    }
-                }
-            }
-            position = (position + 1) % tableSize;
-            attempts++;
-        }
-
-        return null;
-    }
-
-    private Integer searchExponential(int valueToSearch, int originalHashPos) {
-        int i = 1;
-        int attempts = 0;
-
-        while (attempts < tableSize) {
-            int position = (originalHashPos + (i * i)) % tableSize;
-
-            if (position >= 0 && position < hashTable.size()) {
-                List<Integer> row = hashTable.get(position);
-                for (Integer value : row) {
-                    if (value == valueToSearch) {
-                        return position;
-                    }
-                }
-            }
-
-            i++;
-            attempts++;
-        }
-        return null;
-    }
-
-    private Integer searchInExtendedTable(int valueToSearch, int originalHashPos) {
-        for (int i = tableSize - 1; i >= 0; i--) {
-            if (i >= hashTable.size()) {
-                continue;
-            }
-
-            List<Integer> row = hashTable.get(i);
-            for (Integer value : row) {
-                if (value == valueToSearch) {
-                    return i;
-                }
-            }
-        }
-
-        return null;
-    }
-
     private void generateNewHashTable(int newSize) {
-        this.tableSize = newSize;
-
-        hashTable.clear();
-        maxColumns = 1;
+        if (newSize < 1) {
+            view.setResultMessage("El tamaño de la tabla debe ser mayor que cero", false);
+            return;
+        }
 
-        for (int i = 0; i < newSize; i++) {
-            List<Integer> row = new ArrayList<>();
-            row.add(-1);
-            hashTable.add(row);
+        hashTable = new IntHashTable(newSize, hashFunction);
+        if (cuckooTable.isEnabled()) {
+            cuckooTable.rebuild(hashTable.keys(), newSize, digitLimit);
         }
+        lookupCache.clear();
 
         saveDataToFile();
         displayDataInTable();
@@ -802,14 +546,12 @@ public class TruncSearchController {
 
     // Method to insert values using digit extraction hash function
     public void insertValue(int value) {
+        lookupCache.invalidate(value);
+
         // Check if value already exists
-        for (List<Integer> row : hashTable) {
-            for (Integer existingValue : row) {
-                if (existingValue != null && existingValue != -1 && existingValue == value) {
-                    view.setResultMessage("La clave " + value + " ya existe en la tabla hash", false);
-                    return;
-                }
-            }
+        if (hashTable.contains(value)) {
+            view.setResultMessage("La clave " + value + " ya existe en la tabla hash", false);
+            return;
         }
 
         int hashPosition = getHashByDigitExtraction(value);
@@ -821,115 +563,25 @@ public class TruncSearchController {
             return;
         }
 
-        if (hashPosition < hashTable.size()) {
-            List<Integer> row = hashTable.get(hashPosition);
-
-            if (row.get(0) == -1) {
-                row.set(0, value);
+        if (hashTable.isInRange(hashPosition)) {
+            if (hashTable.insertAtHome(value)) {
                 saveDataToFile();
                 displayDataInTable();
 
                 String hashDescription = getHashCalculationDescription(value);
                 view.setResultMessage("Clave " + value + " insertada en la posición hash " + (hashPosition + 1) + "\n" + hashDescription, true);
             } else {
-                handleCollision(value, hashPosition);
+                collisionHandler.handleCollision(value, hashPosition);
             }
         } else {
             view.setResultMessage("Posición hash " + (hashPosition + 1) + " fuera de rango", false);
         }
     }
 
-    private void handleCollision(int valueToInsert, int hashPosition) {
-        List<Integer> row = hashTable.get(hashPosition);
-        int currentValue = row.get(0);
-
-        ColisionView colisionView = new ColisionView();
-        colisionView.setCollisionInfo(valueToInsert, hashPosition);
-
-        view.setResultMessage("Colisión detectada: Clave " + valueToInsert +
-                " debería ir en la posición " + (hashPosition + 1) +
-                " que ya está ocupada por " + currentValue, false);
-
-        colisionView.addSequentialSolutionListener(e -> {
-            solveCollisionSequential(valueToInsert, hashPosition);
-            colisionView.dispose();
-        });
-
-        colisionView.addExponentialSolutionListener(e -> {
-            solveCollisionExponential(valueToInsert, hashPosition);
-            colisionView.dispose();
-        });
-
-        colisionView.addTableSolutionListener(e -> {
-            solveCollisionWithAdditionalColumn(valueToInsert, hashPosition);
-            colisionView.dispose();
-        });
-
-        colisionView.addCancelListener(e -> {
-            colisionView.dispose();
-            view.setResultMessage("Inserción cancelada: colisión en posición " + (hashPosition + 1), false);
-        });
-
-        colisionView.showWindow();
-    }
-
-    private void solveCollisionSequential(int valueToInsert, int originalHashPos) {
-        int position = (originalHashPos + 1) % tableSize;
-        int attempts = 0;
-
-        while (position != originalHashPos && attempts < tableSize) {
-            List<Integer> row = hashTable.get(position);
-            if (row.get(0) == -1) {
-                row.set(0, valueToInsert);
-                saveDataToFile();
-                displayDataInTable();
-                view.setResultMessage("Clave " + valueToInsert + " insertada en posición " + (position + 1) +
-                        " mediante solución secuencial (colisión en posición " + (originalHashPos + 1) + ")", true);
-                return;
-            }
-            position = (position + 1) % tableSize;
-            attempts++;
-        }
-        view.setResultMessage("No se pudo insertar " + valueToInsert + ": tabla llena", false);
-    }
-
-    private void solveCollisionExponential(int valueToInsert, int originalHashPos) {
-        int i = 1;
-        int attempts = 0;
-
-        while (attempts < tableSize) {
-            int position = (originalHashPos + (i * i)) % tableSize;
-
-            if (position >= 0 && position < hashTable.size()) {
-                List<Integer> row = hashTable.get(position);
-                if (row.get(0) == -1) {
-                    row.set(0, valueToInsert);
-                    saveDataToFile();
-                    displayDataInTable();
-                    view.setResultMessage("Clave " + valueToInsert + " insertada en posición " + (position + 1) +
-                            " mediante solución exponencial (colisión en posición " + (originalHashPos + 1) + ")", true);
-                    return;
-                }
-            }
-
-            i++;
-            attempts++;
-        }
-        view.setResultMessage("No se pudo insertar " + valueToInsert + " usando prueba cuadrática", false);
-    }
-
-    private void solveCollisionWithAdditionalColumn(int valueToInsert, int originalHashPos) {
-        List<Integer> row = hashTable.get(originalHashPos);
-
-        row.add(valueToInsert);
-
-        maxColumns = Math.max(maxColumns, row.size());
-
+    // Cambios hechos por la inserción con colisiones o la tabla cuckoo: se guardan y se redibujan
+    private void saveAndDisplay() {
         saveDataToFile();
         displayDataInTable();
-
-        view.setResultMessage("Clave " + valueToInsert + " insertada en posición " + (originalHashPos + 1) +
-                ", columna " + row.size() + " (solución por columnas adicionales)", true);
     }
 
     private void saveDataToFile() {
@@ -939,58 +591,40 @@ public class TruncSearchController {
             // Crear directorios padre si no existen
             file.getParentFile().mkdirs();
 
-            try (java.io.PrintWriter writer = new java.io.PrintWriter(file)) {
-                for (List<Integer> row : hashTable) {
-                    writer.println(row.toString());
-                }
-
-                writer.println("# Formato: cada línea representa una fila de la tabla hash");
-                writer.println("# [valor1, valor2, ...] para múltiples valores en la misma posición");
-                writer.println("# [-1] para posiciones vacías");
-            }
+            // El archivo siempre guarda la tabla abierta, con las claves de la tabla cuckoo si está en uso
+            syncOpenTable();
+            hashTable.writeRows(file);
         } catch (IOException e) {
             System.err.println("Error al escribir en el archivo: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
-    // Method to delete a value
-    public void deleteValue(int value) {
-        boolean found = false;
-        int foundRow = -1;
-        int foundColumn = -1;
-
-        for (int i = 0; i < hashTable.size(); i++) {
-            List<Integer> row = hashTable.get(i);
-            for (int j = 0; j < row.size(); j++) {
-                if (row.get(j) != null && row.get(j) == value) {
-                    found = true;
-                    foundRow = i;
-                    foundColumn = j;
-                    break;
-                }
-            }
-            if (found) break;
+    // Lleva a la tabla abierta las claves de la tabla cuckoo, en el mismo tamaño
+    private void syncOpenTable() {
+        if (cuckooTable.isEnabled()) {
+            hashTable.syncKeys(cuckooTable.keys(), IntHashTable.EXTRA_COLUMNS);
         }
+    }
 
-        if (found) {
-            List<Integer> row = hashTable.get(foundRow);
+    // Method to delete a value
+    public void deleteValue(int value) {
+        lookupCache.invalidate(value);
 
-            if (foundColumn == 0 && row.size() > 1) {
-                row.remove(0);
-            } else if (foundColumn == row.size() - 1) {
-                row.remove(foundColumn);
-            } else {
-                row.set(foundColumn, -1);
-            }
+        if (cuckooTable.isEnabled()) {
+            cuckooTable.delete(value);
+            return;
+        }
 
-            if (row.isEmpty()) {
-                row.add(-1);
-            }
+        int foundRow = hashTable.find(value);
 
-            maxColumns = 1;
-            for (List<Integer> tableRow : hashTable) {
-                maxColumns = Math.max(maxColumns, tableRow.size());
+        if (foundRow != IntHashTable.NOT_FOUND) {
+            // Las claves siguientes de la fila se corren una columna a la izquierda
+            int foundColumn = hashTable.columnOf(foundRow, value);
+            hashTable.remove(value);
+            if (hashTable.isLastRemoveShifted()) {
+                // Otras claves cambiaron de posición: las posiciones cacheadas ya no sirven
+                lookupCache.clear();
             }
 
             saveDataToFile();
@@ -1012,6 +646,54 @@ public class TruncSearchController {
         }
     }
 
+    // Organización elegida en la vista; la tabla nueva se arma con las claves de la anterior
+    private void changeTableMode() {
+        boolean cuckoo = TABLE_CUCKOO.equals(view.getTableMode());
+        if (cuckoo == cuckooTable.isEnabled()) {
+            return;
+        }
+
+        lookupCache.clear();
+        view.clearHighlights();
+        if (cuckoo) {
+            cuckooTable.enable(hashTable.keys(), hashTable.tableSize(), digitLimit);
+            displayDataInTable();
+        } else {
+            // Cambiar de organización no escribe el archivo: la tabla abierta recibe las claves de la cuckoo en su mismo tamaño
+            syncOpenTable();
+            cuckooTable.disable();
+            displayDataInTable();
+            view.setResultMessage("Direccionamiento abierto: " + hashTable.size() + " claves en " +
+                    hashTable.tableSize() + " posiciones", true);
+        }
+    }
+
+    private void performCuckooSearch() {
+        String input = view.getSearchValue();
+
+        if (input.isEmpty()) {
+            view.setResultMessage("Por favor ingrese una clave para buscar", false);
+            return;
+        }
+
+        int[] values;
+        try {
+            values = parseKeys(input);
+        } catch (NumberFormatException e) {
+            view.setResultMessage("Por favor ingrese claves numéricas válidas", false);
+            return;
+        }
+
+        view.clearHighlights();
+        cuckooTable.search(values);
+    }
+
+    // Solución de colisión que ubicó la clave encontrada, según la marca de su posición
+    private String describePlacement(int position, int value) {
+        String placement = hashTable.placementOf(position, hashTable.columnOf(position, value));
+        return placement == null || IntHashTable.HOME_SLOT.equals(placement) ? "" : ": " + placement;
+    }
+
     private void goBack() {
         // Close current view
         view.dispose();
@@ -2,10 +2,12 @@ package controller.menu;
 
 import controller.internal_search.BinarySearchController;
 import controller.internal_search.SequentialSearchController;
+import controller.internal_search.SkipListController;
 import view.menu.AlgorithmMenuView;
 import view.menu.MainView;
 import view.internal_search.SequentialSearchView;
 import view.internal_search.BinarySearchView;
+import view.internal_search.SkipListView;
 import view.menu.HashAlgorithmView;
 import view.menu.TreeView;
 
@@ -52,6 +54,9 @@ public class AlgorithmMenuController {
 
         // Tree Search button
         this.algorithmMenuView.addTreeSearchListener(e -> openTreeView());
+
+        // Concurrent Skip List button
+        this.algorithmMenuView.addSkipListListener(e -> openSkipList());
     }
 
     /**
@@ -128,6 +133,22 @@ public class AlgorithmMenuController {
         }
     }
 
+    /**
+     * Open Concurrent Skip List view with its controller
+     */
+    private void openSkipList() {
+        try {
+            algorithmMenuView.setVisible(false);
+            SkipListView skipListView = new SkipListView();
+            SkipListController controller = new SkipListController(skipListView);
+            controller.setAlgorithmMenuView(algorithmMenuView);
+            skipListView.showWindow();
+        } catch (Exception e) {
+            System.err.println("Error opening Skip List: " + e.getMessage());
+            algorithmMenuView.setVisible(true);
+        }
+    }
+
     /**
      * Show the algorithm menu view
      */
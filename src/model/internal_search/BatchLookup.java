@@ -0,0 +1,165 @@
+package model.internal_search;
+
+import java.util.Arrays;
+
+/**
+ * Búsqueda de muchas claves a la vez sobre un arreglo ordenado.
+ * Las consultas se ordenan y se resuelven en una sola pasada de izquierda a
+ * derecha: cada una galopa desde la posición de la anterior, de modo que la
+ * parte alta del camino de búsqueda no se repite para cada clave.
+ */
+public class BatchLookup {
+
+    // Claves int por línea de caché de 64 bytes
+    private static final int KEYS_PER_CACHE_LINE = 16;
+
+    /**
+     * Comparaciones y líneas de caché usadas por el lote frente a las mismas
+     * consultas resueltas una a una con búsqueda binaria.
+     */
+    public static class Stats {
+        private long batchComparisons;
+        private long batchCacheLines;
+        private long singleComparisons;
+        private long singleCacheLines;
+        private long lastLine = -1;
+
+        private void touch(int position, boolean batch) {
+            long line = position / KEYS_PER_CACHE_LINE;
+            if (batch) {
+                batchComparisons++;
+                if (line != lastLine) {
+                    batchCacheLines++;
+                }
+            } else {
+                singleComparisons++;
+                if (line != lastLine) {
+                    singleCacheLines++;
+                }
+            }
+            lastLine = line;
+        }
+
+        public long getBatchComparisons() {
+            return batchComparisons;
+        }
+
+        public long getBatchCacheLines() {
+            return batchCacheLines;
+        }
+
+        public long getSingleComparisons() {
+            return singleComparisons;
+        }
+
+        public long getSingleCacheLines() {
+            return singleCacheLines;
+        }
+
+        public long getSavedComparisons() {
+            return singleComparisons - batchComparisons;
+        }
+
+        public long getSavedCacheLines() {
+            return singleCacheLines - batchCacheLines;
+        }
+    }
+
+    private BatchLookup() {
+    }
+
+    /**
+     * Retorna, en el orden original de las consultas, la posición de cada clave o -1.
+     */
+    public static int[] lookup(int[] keys, int size, int[] queries) {
+        return lookup(keys, size, queries, null);
+    }
+
+    /**
+     * Igual que lookup, pero además cuenta comparaciones y líneas de caché del
+     * lote y de la alternativa una a una.
+     */
+    public static int[] lookup(int[] keys, int size, int[] queries, Stats stats) {
+        int[] positions = new int[queries.length];
+        if (queries.length == 0) {
+            return positions;
+        }
+
+        // Clave en la parte alta y posición original en la baja: ordenar los long ordena las claves
+        long[] order = new long[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            order[i] = ((long) queries[i] << 32) | i;
+        }
+        Arrays.sort(order);
+
+        int cursor = 0;
+        for (long entry : order) {
+            int target = (int) (entry >> 32);
+            int original = (int) entry;
+
+            cursor = gallopLowerBound(keys, size, target, cursor, stats);
+            positions[original] = cursor < size && keys[cursor] == target ? cursor : -1;
+        }
+
+        if (stats != null) {
+            stats.lastLine = -1;
+            for (int query : queries) {
+                countSingleLookup(keys, size, query, stats);
+            }
+        }
+
+        return positions;
+    }
+
+    // Primera posición >= from cuya clave es >= target, galopando desde from
+    private static int gallopLowerBound(int[] keys, int size, int target, int from, Stats stats) {
+        int low = from;
+        int bound = 1;
+
+        while (low + bound - 1 < size) {
+            int probe = low + bound - 1;
+            if (stats != null) {
+                stats.touch(probe, true);
+            }
+            if (keys[probe] >= target) {
+                break;
+            }
+            low = probe + 1;
+            bound <<= 1;
+        }
+
+        int high = Math.min(low + bound - 1, size);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (stats != null) {
+                stats.touch(mid, true);
+            }
+            if (keys[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Repite la búsqueda binaria clásica solo para contar su costo
+    private static void countSingleLookup(int[] keys, int size, int target, Stats stats) {
+        int left = 0;
+        int right = size - 1;
+
+        while (left <= right) {
+            int mid = (left + right) >>> 1;
+            stats.touch(mid, false);
+
+            if (keys[mid] == target) {
+                return;
+            }
+            if (keys[mid] < target) {
+                left = mid + 1;
+            } else {
+                right = mid - 1;
+            }
+        }
+    }
+}
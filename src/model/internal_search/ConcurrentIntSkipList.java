@@ -0,0 +1,300 @@
+package model.internal_search;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Skip list ordenada de claves int sin bloqueos (Herlihy y Shavit, con los
+ * nodos marcadores de Harris para el borrado lógico).
+ * - Cada nivel se enlaza con un CAS sobre el arreglo de siguientes del
+ *   predecesor, así varios escritores avanzan a la vez sin candados.
+ * - Para eliminar un nodo se reemplaza, nivel por nivel, su siguiente por un
+ *   marcador que apunta al verdadero siguiente; un CAS que espera el nodo ya no
+ *   puede enlazar detrás de él. Así la marca no necesita un objeto extra por enlace.
+ * - Las búsquedas no escriben ni reintentan: solo saltan nodos marcados.
+ * - Admite búsqueda puntual, recorrido por rango y recorrido en orden.
+ */
+public class ConcurrentIntSkipList {
+
+    public static final int MAX_LEVEL = 24;
+
+    private static final VarHandle NEXT = MethodHandles.arrayElementVarHandle(Node[].class);
+
+    private static final class Node {
+        final int key;
+        final Node[] next;
+        // Los marcadores no son claves: su único siguiente es el sucesor del nodo eliminado
+        final boolean marker;
+
+        Node(int key, int topLevel) {
+            this.key = key;
+            this.next = new Node[topLevel + 1];
+            this.marker = false;
+        }
+
+        Node(Node successor) {
+            this.key = 0;
+            this.next = new Node[]{successor};
+            this.marker = true;
+        }
+
+        int topLevel() {
+            return next.length - 1;
+        }
+    }
+
+    // Centinelas: head va antes de toda clave y tail después de toda clave
+    private final Node head = new Node(0, MAX_LEVEL);
+    private final Node tail = new Node(0, MAX_LEVEL);
+    private final AtomicInteger size = new AtomicInteger();
+
+    public ConcurrentIntSkipList() {
+        Arrays.fill(head.next, tail);
+    }
+
+    private static Node next(Node node, int level) {
+        return (Node) NEXT.getAcquire(node.next, level);
+    }
+
+    private static boolean casNext(Node node, int level, Node expected, Node update) {
+        return NEXT.compareAndSet(node.next, level, expected, update);
+    }
+
+    private static boolean isMarker(Node node) {
+        return node != null && node.marker;
+    }
+
+    // Compara con los centinelas como si fueran -infinito y +infinito
+    private boolean isBefore(Node node, int key) {
+        return node != tail && (node == head || node.key < key);
+    }
+
+    // Altura geométrica con p = 1/2
+    private static int randomLevel() {
+        int bits = ThreadLocalRandom.current().nextInt() | (1 << MAX_LEVEL);
+        return Integer.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Llena preds y succs con los vecinos de key en cada nivel, desenlazando de
+     * paso los nodos marcados. Retorna true si key está en el nivel 0.
+     */
+    private boolean find(int key, Node[] preds, Node[] succs) {
+        retry:
+        while (true) {
+            Node pred = head;
+            for (int level = MAX_LEVEL; level >= 0; level--) {
+                Node curr = next(pred, level);
+                // pred se eliminó mientras se bajaba: se reintenta desde head
+                if (isMarker(curr)) {
+                    continue retry;
+                }
+                while (true) {
+                    Node succ = next(curr, level);
+                    while (isMarker(succ)) {
+                        // curr se está eliminando: se desenlaza o se reintenta desde head
+                        if (!casNext(pred, level, curr, succ.next[0])) {
+                            continue retry;
+                        }
+                        curr = succ.next[0];
+                        succ = next(curr, level);
+                    }
+                    if (isBefore(curr, key)) {
+                        pred = curr;
+                        curr = succ;
+                    } else {
+                        break;
+                    }
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return succs[0] != tail && succs[0].key == key;
+        }
+    }
+
+    // Inserta la clave; retorna false si ya existía
+    public boolean insert(int key) {
+        int topLevel = randomLevel();
+        Node[] preds = new Node[MAX_LEVEL + 1];
+        Node[] succs = new Node[MAX_LEVEL + 1];
+
+        while (true) {
+            if (find(key, preds, succs)) {
+                return false;
+            }
+
+            Node node = new Node(key, topLevel);
+            System.arraycopy(succs, 0, node.next, 0, topLevel + 1);
+
+            // El enlace en el nivel 0 es el que hace visible la clave
+            if (!casNext(preds[0], 0, succs[0], node)) {
+                continue;
+            }
+            size.incrementAndGet();
+
+            for (int level = 1; level <= topLevel; level++) {
+                while (!casNext(preds[level], level, succs[level], node)) {
+                    find(key, preds, succs);
+                    // Apuntar el nivel al nuevo sucesor; falla si otro hilo ya lo marcó para eliminar
+                    Node current = next(node, level);
+                    if (isMarker(current) || !casNext(node, level, current, succs[level])) {
+                        return true;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    // Elimina la clave; retorna false si no existía
+    public boolean remove(int key) {
+        Node[] preds = new Node[MAX_LEVEL + 1];
+        Node[] succs = new Node[MAX_LEVEL + 1];
+
+        if (!find(key, preds, succs)) {
+            return false;
+        }
+        Node node = succs[0];
+
+        // Marcar de arriba hacia abajo; el nivel 0 decide qué hilo elimina la clave
+        for (int level = node.topLevel(); level >= 1; level--) {
+            Node succ = next(node, level);
+            while (!isMarker(succ) && !casNext(node, level, succ, new Node(succ))) {
+                succ = next(node, level);
+            }
+        }
+
+        while (true) {
+            Node succ = next(node, 0);
+            if (isMarker(succ)) {
+                return false;
+            }
+            if (casNext(node, 0, succ, new Node(succ))) {
+                size.decrementAndGet();
+                // Desenlace físico
+                find(key, preds, succs);
+                return true;
+            }
+        }
+    }
+
+    // Búsqueda puntual sin escrituras
+    public boolean contains(int key) {
+        Node node = firstAtLeast(key);
+        return node != tail && node.key == key;
+    }
+
+    // Primer nodo no marcado con clave >= key (o tail)
+    private Node firstAtLeast(int key) {
+        Node pred = head;
+        Node curr = tail;
+
+        for (int level = MAX_LEVEL; level >= 0; level--) {
+            curr = next(pred, level);
+            if (isMarker(curr)) {
+                curr = curr.next[0];
+            }
+            while (true) {
+                Node succ = next(curr, level);
+                while (isMarker(succ)) {
+                    curr = succ.next[0];
+                    succ = next(curr, level);
+                }
+                if (isBefore(curr, key)) {
+                    pred = curr;
+                    curr = succ;
+                } else {
+                    break;
+                }
+            }
+        }
+        return curr;
+    }
+
+    /**
+     * Claves en [low, high] en orden ascendente. Con escritores concurrentes el
+     * resultado es consistente nodo a nodo, no una foto instantánea.
+     */
+    public int[] range(int low, int high) {
+        if (low > high) {
+            return new int[0];
+        }
+        int[] result = new int[16];
+        int count = 0;
+
+        Node node = firstAtLeast(low);
+        while (node != tail && node.key <= high) {
+            if (count == result.length) {
+                result = Arrays.copyOf(result, count * 2);
+            }
+            result[count++] = node.key;
+            node = nextLive(node);
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    // Siguiente nodo no marcado en el nivel 0
+    private Node nextLive(Node node) {
+        while (true) {
+            Node succ = next(node, 0);
+            if (isMarker(succ)) {
+                succ = succ.next[0];
+            }
+            if (succ == tail || !isMarker(next(succ, 0))) {
+                return succ;
+            }
+            node = succ;
+        }
+    }
+
+    // Recorrido en orden ascendente; omite las claves marcadas para eliminar
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private Node nextNode = nextLive(head);
+
+            @Override
+            public boolean hasNext() {
+                return nextNode != tail;
+            }
+
+            @Override
+            public int nextInt() {
+                if (nextNode == tail) {
+                    throw new NoSuchElementException();
+                }
+                int key = nextNode.key;
+                nextNode = nextLive(nextNode);
+                return key;
+            }
+        };
+    }
+
+    public int[] toArray() {
+        int[] result = new int[Math.max(16, size())];
+        int count = 0;
+        PrimitiveIterator.OfInt keys = iterator();
+        while (keys.hasNext()) {
+            if (count == result.length) {
+                result = Arrays.copyOf(result, count * 2);
+            }
+            result[count++] = keys.nextInt();
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    // No debe llamarse con escritores activos
+    public void clear() {
+        Arrays.fill(head.next, tail);
+        size.set(0);
+    }
+}
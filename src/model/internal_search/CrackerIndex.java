@@ -0,0 +1,132 @@
+package model.internal_search;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Índice adaptativo ("database cracking") sobre las claves sin ordenar.
+ * Cada consulta particiona en el lugar solo el tramo que contiene el valor
+ * buscado, como un paso de quicksort, y guarda el punto de corte. Con las
+ * consultas los tramos se achican y el costo se acerca al de una búsqueda
+ * binaria sin haber ordenado nunca el arreglo completo.
+ */
+public class CrackerIndex {
+
+    // Tramos de este tamaño o menores se recorren sin volver a particionar
+    private static final int MIN_PIECE = 32;
+
+    // Pivote -> primera posición cuya clave es >= pivote
+    private final TreeMap<Integer, Integer> pivots = new TreeMap<>();
+    private long lookups;
+    private long scannedKeys;
+
+    /**
+     * Busca la clave particionando su tramo; retorna su posición o -1.
+     * El almacén queda reordenado.
+     */
+    public int search(IntKeyStore store, int target) {
+        lookups++;
+        crack(store, target);
+        if (target != Integer.MAX_VALUE) {
+            crack(store, target + 1);
+        }
+
+        // Tras los cortes el tramo de target solo contiene target, o es un tramo pequeño
+        int from = pieceStart(target);
+        int to = pieceEnd(target, store.size());
+        int position = SequentialSearchEngine.scalarSearch(store.rawKeys(), from, to, target);
+        scannedKeys += position == -1 ? to - from : position - from + 1;
+        return position;
+    }
+
+    /**
+     * Particiona por low y high + 1 y retorna {desde, hasta}: el rango de
+     * posiciones con claves en [low, high].
+     */
+    public int[] rangeQuery(IntKeyStore store, int low, int high) {
+        lookups++;
+        int from = crackExact(store, low);
+        int to = high == Integer.MAX_VALUE ? store.size() : crackExact(store, high + 1);
+        return new int[]{from, Math.max(from, to)};
+    }
+
+    // Corta el tramo que contiene pivot si es grande; retorna el inicio del subtramo >= pivot
+    private int crack(IntKeyStore store, int pivot) {
+        Integer known = pivots.get(pivot);
+        if (known != null) {
+            return known;
+        }
+
+        int from = pieceStart(pivot);
+        int to = pieceEnd(pivot, store.size());
+        if (to - from <= MIN_PIECE) {
+            return from;
+        }
+        return partition(store, from, to, pivot);
+    }
+
+    // Igual que crack, pero siempre corta para que el límite sea exacto
+    private int crackExact(IntKeyStore store, int pivot) {
+        Integer known = pivots.get(pivot);
+        if (known != null) {
+            return known;
+        }
+        return partition(store, pieceStart(pivot), pieceEnd(pivot, store.size()), pivot);
+    }
+
+    // Deja las claves < pivot antes que las >= pivot dentro de [from, to)
+    private int partition(IntKeyStore store, int from, int to, int pivot) {
+        int[] keys = store.rawKeys();
+        int left = from;
+        int right = to - 1;
+
+        while (left <= right) {
+            if (keys[left] < pivot) {
+                left++;
+            } else if (keys[right] >= pivot) {
+                right--;
+            } else {
+                int swap = keys[left];
+                keys[left] = keys[right];
+                keys[right] = swap;
+                left++;
+                right--;
+            }
+        }
+
+        scannedKeys += to - from;
+        pivots.put(pivot, left);
+        store.markUnsorted();
+        return left;
+    }
+
+    // Inicio del tramo que contiene pivot: el corte conocido más cercano por debajo
+    private int pieceStart(int pivot) {
+        Map.Entry<Integer, Integer> floor = pivots.floorEntry(pivot);
+        return floor == null ? 0 : floor.getValue();
+    }
+
+    // Fin del tramo que contiene pivot: el corte conocido más cercano por encima
+    private int pieceEnd(int pivot, int size) {
+        Map.Entry<Integer, Integer> higher = pivots.higherEntry(pivot);
+        return higher == null ? size : higher.getValue();
+    }
+
+    // Se descarta el índice cuando las claves cambian por otra vía
+    public void reset() {
+        pivots.clear();
+    }
+
+    public int getPivotCount() {
+        return pivots.size();
+    }
+
+    public long getLookups() {
+        return lookups;
+    }
+
+    // Claves recorridas en promedio por consulta (particiones y recorridos finales)
+    public double getAverageScannedKeys() {
+        return lookups == 0 ? 0 : (double) scannedKeys / lookups;
+    }
+}
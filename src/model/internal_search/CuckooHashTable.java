@@ -0,0 +1,327 @@
+package model.internal_search;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tabla hash cuckoo de claves int con cubetas de cuatro vías.
+ * - Cada clave tiene dos cubetas candidatas, dadas por dos funciones del
+ *   conjunto que recibe la tabla (módulo, plegamiento, truncamiento, cuadrado
+ *   medio...). Buscar o eliminar revisa a lo sumo esas ocho celdas.
+ * - Si ambas cubetas están llenas, la clave desaloja a una de las claves
+ *   de la primera, que se muda a su otra cubeta, y así sucesivamente hasta
+ *   MAX_KICKS desalojos.
+ * - Al agotar los desalojos (un ciclo) la tabla se rehace con el siguiente
+ *   par de funciones; si ningún par sirve, con el doble de cubetas.
+ * - Las claves de una cubeta ocupan sus primeras vías; -1 marca una vía vacía.
+ */
+public class CuckooHashTable {
+
+    public static final int EMPTY_SLOT = -1;
+    public static final int NOT_FOUND = -1;
+    public static final int WAYS = 4;
+    public static final int MAX_KICKS = 500;
+
+    private final HashFunction[] functions;
+    // Pares de funciones a probar, en orden: (0, 1), (0, 2), ..., (1, 2), ...
+    private final int[][] pairs;
+    private int pairIndex;
+    private int bucketCount;
+    private int[] cells;
+    private int keyCount;
+
+    // Semilla fija: las mismas inserciones producen siempre la misma tabla
+    private final Random random = new Random(23);
+    // Clave que quedó sin lugar al agotar los desalojos
+    private int homeless;
+
+    private long evictions;
+    private int rehashes;
+    private int lastInsertKicks;
+
+    public CuckooHashTable(int bucketCount, HashFunction... functions) {
+        if (bucketCount < 1) {
+            throw new IllegalArgumentException("La cantidad de cubetas debe ser mayor que cero");
+        }
+        if (functions.length < 2) {
+            throw new IllegalArgumentException("Se necesitan al menos dos funciones hash");
+        }
+        this.functions = functions.clone();
+        this.pairs = new int[functions.length * (functions.length - 1) / 2][];
+        int next = 0;
+        for (int first = 0; first < functions.length; first++) {
+            for (int second = first + 1; second < functions.length; second++) {
+                pairs[next++] = new int[]{first, second};
+            }
+        }
+        this.bucketCount = bucketCount;
+        this.cells = new int[bucketCount * WAYS];
+        Arrays.fill(cells, EMPTY_SLOT);
+    }
+
+    // Tabla con las claves dadas; las repetidas se guardan una sola vez
+    public static CuckooHashTable of(int[] keys, int bucketCount, HashFunction... functions) {
+        CuckooHashTable table = new CuckooHashTable(bucketCount, functions);
+        for (int key : keys) {
+            table.insert(key);
+        }
+        return table;
+    }
+
+    // Cubeta según una función del par; un valor fuera de rango (-1 en truncamiento) cae en el residuo
+    private int bucket(int function, int key) {
+        int bucket = functions[function].hash(key, bucketCount);
+        return bucket >= 0 && bucket < bucketCount ? bucket : Math.floorMod(key, bucketCount);
+    }
+
+    public int firstBucket(int key) {
+        return bucket(pairs[pairIndex][0], key);
+    }
+
+    public int secondBucket(int key) {
+        return secondBucket(key, firstBucket(key));
+    }
+
+    // Si ambas funciones coinciden la segunda cubeta es la siguiente, así cada clave tiene dos
+    private int secondBucket(int key, int first) {
+        int second = bucket(pairs[pairIndex][1], key);
+        return second != first ? second : (first + 1) % bucketCount;
+    }
+
+    /**
+     * Cubeta donde está la clave, o -1 si no está.
+     */
+    public int find(int key) {
+        int first = firstBucket(key);
+        if (wayOf(first, key) != NOT_FOUND) {
+            return first;
+        }
+        int second = secondBucket(key, first);
+        return wayOf(second, key) != NOT_FOUND ? second : NOT_FOUND;
+    }
+
+    public int[] findAll(int[] keys) {
+        int[] buckets = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            buckets[i] = find(keys[i]);
+        }
+        return buckets;
+    }
+
+    public boolean contains(int key) {
+        return find(key) != NOT_FOUND;
+    }
+
+    // Vía de la clave dentro de la cubeta, o -1
+    public int wayOf(int bucket, int key) {
+        int base = bucket * WAYS;
+        for (int way = 0; way < WAYS && cells[base + way] != EMPTY_SLOT; way++) {
+            if (cells[base + way] == key) {
+                return way;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Inserta la clave y retorna su cubeta, o -1 si ya estaba. Nunca falla:
+     * un ciclo de desalojos rehace la tabla hasta que todas las claves caben.
+     */
+    public int insert(int key) {
+        if (contains(key)) {
+            return NOT_FOUND;
+        }
+
+        lastInsertKicks = 0;
+        if (!place(key)) {
+            rehash(homeless);
+        }
+        keyCount++;
+        return find(key);
+    }
+
+    // Ubica la clave desalojando otras si hace falta; false si agotó los desalojos (queda en homeless)
+    private boolean place(int key) {
+        int first = firstBucket(key);
+        int second = secondBucket(key, first);
+        if (add(first, key) || add(second, key)) {
+            return true;
+        }
+
+        int current = key;
+        int bucket = random.nextBoolean() ? first : second;
+        for (int kick = 0; kick < MAX_KICKS; kick++) {
+            // La clave desalojada se va a su otra cubeta
+            int cell = bucket * WAYS + random.nextInt(WAYS);
+            int victim = cells[cell];
+            cells[cell] = current;
+            current = victim;
+            evictions++;
+            lastInsertKicks++;
+
+            int victimFirst = firstBucket(current);
+            bucket = victimFirst != bucket ? victimFirst : secondBucket(current, victimFirst);
+            if (add(bucket, current)) {
+                return true;
+            }
+        }
+
+        homeless = current;
+        return false;
+    }
+
+    // Agrega la clave en la primera vía libre de la cubeta
+    private boolean add(int bucket, int key) {
+        int base = bucket * WAYS;
+        for (int way = 0; way < WAYS; way++) {
+            if (cells[base + way] == EMPTY_SLOT) {
+                cells[base + way] = key;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Reubica todas las claves más la que quedó fuera, con otro par de funciones o más cubetas
+    private void rehash(int pending) {
+        int[] keys = new int[keyCount + 1];
+        int count = 0;
+        for (int cell : cells) {
+            if (cell != EMPTY_SLOT) {
+                keys[count++] = cell;
+            }
+        }
+        keys[count++] = pending;
+
+        boolean placed;
+        do {
+            rehashes++;
+            if (++pairIndex == pairs.length) {
+                pairIndex = 0;
+                bucketCount *= 2;
+                cells = new int[bucketCount * WAYS];
+            }
+            Arrays.fill(cells, EMPTY_SLOT);
+
+            placed = true;
+            for (int i = 0; i < count && placed; i++) {
+                placed = place(keys[i]);
+            }
+        } while (!placed);
+    }
+
+    public boolean remove(int key) {
+        int bucket = find(key);
+        if (bucket == NOT_FOUND) {
+            return false;
+        }
+
+        // La última clave de la cubeta ocupa el hueco: las ocupadas siguen siendo las primeras vías
+        int base = bucket * WAYS;
+        int last = base + columnCount(bucket) - 1;
+        cells[base + wayOf(bucket, key)] = cells[last];
+        cells[last] = EMPTY_SLOT;
+        keyCount--;
+        return true;
+    }
+
+    public int get(int bucket, int way) {
+        return cells[bucket * WAYS + way];
+    }
+
+    // Claves guardadas en la cubeta
+    public int columnCount(int bucket) {
+        int base = bucket * WAYS;
+        int count = 0;
+        while (count < WAYS && cells[base + count] != EMPTY_SLOT) {
+            count++;
+        }
+        return count;
+    }
+
+    public int bucketCount() {
+        return bucketCount;
+    }
+
+    // Claves de la tabla, cubeta por cubeta y vía por vía
+    public int[] keys() {
+        int[] keys = new int[keyCount];
+        int count = 0;
+        for (int cell : cells) {
+            if (cell != EMPTY_SLOT) {
+                keys[count++] = cell;
+            }
+        }
+        return keys;
+    }
+
+    public int size() {
+        return keyCount;
+    }
+
+    public double loadFactor() {
+        return (double) keyCount / cells.length;
+    }
+
+    // Índices, en el arreglo de funciones recibido, del par en uso
+    public int firstFunction() {
+        return pairs[pairIndex][0];
+    }
+
+    public int secondFunction() {
+        return pairs[pairIndex][1];
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public int getRehashes() {
+        return rehashes;
+    }
+
+    // Desalojos de la última inserción, incluidos los de un rehash
+    public int getLastInsertKicks() {
+        return lastInsertKicks;
+    }
+
+    // Una línea por cubeta con sus claves, en el mismo formato que IntHashTable.writeRows
+    public void writeRows(File file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new BufferedWriter(new FileWriter(file)))) {
+            for (int bucket = 0; bucket < bucketCount; bucket++) {
+                int columns = Math.max(1, columnCount(bucket));
+                writer.print('[');
+                for (int way = 0; way < columns; way++) {
+                    if (way > 0) {
+                        writer.print(", ");
+                    }
+                    writer.print(get(bucket, way));
+                }
+                writer.println(']');
+            }
+
+            writer.println("# Formato: cada línea representa una fila de la tabla hash");
+            writer.println("# [valor1, valor2, ...] para múltiples valores en la misma posición");
+            writer.println("# [-1] para posiciones vacías");
+        }
+    }
+
+    // Todas las vías en una sola línea, cubeta tras cubeta, como IntHashTable.writeSlots
+    public void writeSlots(File file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new BufferedWriter(new FileWriter(file)))) {
+            writer.print('[');
+            for (int cell = 0; cell < cells.length; cell++) {
+                if (cell > 0) {
+                    writer.print(", ");
+                }
+                writer.print(cells[cell]);
+            }
+            writer.println(']');
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package model.internal_search;
+
+/**
+ * Funciones hash basadas en los dígitos decimales de la clave, compartidas
+ * por las búsquedas por plegamiento, truncamiento y cuadrado medio.
+ * - Se calculan solo con divisiones y residuos entre potencias de diez, sin
+ *   crear cadenas ni objetos por llamada.
+ * - Los resultados son idénticos a los de la versión anterior, que trabajaba
+ *   sobre String.valueOf(clave) (incluido el signo de las claves negativas,
+ *   que ocupa la primera posición de la cadena).
+ */
+public class DigitHashes {
+
+    // 10^0 .. 10^18
+    private static final long[] POW10 = new long[19];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    private DigitHashes() {
+    }
+
+    // Cantidad de dígitos decimales de un valor no negativo
+    static int digitCount(long value) {
+        int digits = 1;
+        while (digits < POW10.length && value >= POW10[digits]) {
+            digits++;
+        }
+        return digits;
+    }
+
+    // Largo de String.valueOf(value), contando el signo
+    private static int decimalLength(int value) {
+        return value < 0 ? 1 + digitCount(-(long) value) : digitCount(value);
+    }
+
+    /**
+     * Plegamiento: suma los grupos de dos dígitos. Si la suma no cabe en la
+     * tabla se toma su último dígito (o el penúltimo si el último es 0).
+     * En claves negativas el primer grupo es el signo con el primer dígito.
+     */
+    public static int folding(int value, int tableSize) {
+        if (value >= 0 && value <= 9) {
+            return value % tableSize;
+        }
+
+        int sum;
+        if (value < 0) {
+            long magnitude = -(long) value;
+            int digits = digitCount(magnitude);
+            long leading = magnitude / POW10[digits - 1];
+            sum = (int) (-leading + pairSum(magnitude % POW10[digits - 1], digits - 1));
+        } else {
+            sum = pairSum(value, digitCount(value));
+        }
+
+        if (sum >= tableSize) {
+            int lastDigit = sum % 10;
+
+            if (lastDigit == 0 && tableSize > 9) {
+                // sum >= tableSize > 9, así que siempre tiene penúltimo dígito
+                lastDigit = (sum / 10) % 10;
+            }
+
+            if (lastDigit < tableSize) {
+                return lastDigit;
+            }
+        }
+
+        return sum % tableSize;
+    }
+
+    // Suma de los grupos de dos dígitos tomados desde la izquierda; un dígito impar queda solo al final
+    private static int pairSum(long value, int digits) {
+        int sum = 0;
+        if ((digits & 1) == 1) {
+            sum += (int) (value % 10);
+            value /= 10;
+        }
+        while (value > 0) {
+            sum += (int) (value % 100);
+            value /= 100;
+        }
+        return sum;
+    }
+
+    /**
+     * Truncamiento: concatena los dígitos en las posiciones dadas (base 1).
+     * Retorna -1 si alguna posición no existe en la clave. Como antes, si los
+     * caracteres elegidos no forman un int válido (signo fuera del inicio o
+     * desbordamiento) el número extraído vale 0.
+     */
+    public static int truncation(int value, int[] positions, int tableSize) {
+        boolean negative = value < 0;
+        long magnitude = negative ? -(long) value : value;
+        int digits = digitCount(magnitude);
+        int length = negative ? digits + 1 : digits;
+
+        // Verificar que todas las posiciones existan en el valor
+        for (int position : positions) {
+            int index = position - 1;
+            if (index >= length || index < 0) {
+                return -1;
+            }
+        }
+
+        return parseExtracted(magnitude, digits, negative, positions) % tableSize;
+    }
+
+    // truncation para keys[from..to): las posiciones se validan una vez y cada clave solo compara su largo
+    static void truncationAll(int[] keys, int from, int to, int[] positions, int tableSize, int[] homes) {
+        int minPosition = Integer.MAX_VALUE;
+        int maxPosition = Integer.MIN_VALUE;
+        for (int position : positions) {
+            minPosition = Math.min(minPosition, position);
+            maxPosition = Math.max(maxPosition, position);
+        }
+
+        for (int i = from; i < to; i++) {
+            int value = keys[i];
+            boolean negative = value < 0;
+            long magnitude = negative ? -(long) value : value;
+            int digits = digitCount(magnitude);
+            int length = negative ? digits + 1 : digits;
+
+            if (positions.length > 0 && (minPosition < 1 || maxPosition > length)) {
+                homes[i] = -1;
+            } else {
+                homes[i] = parseExtracted(magnitude, digits, negative, positions) % tableSize;
+            }
+        }
+    }
+
+    // Integer.parseInt de los caracteres elegidos, o 0 donde aquel lanzaría NumberFormatException
+    private static int parseExtracted(long magnitude, int digits, boolean negative, int[] positions) {
+        if (positions.length == 0) {
+            return 0;
+        }
+
+        boolean negativeResult = false;
+        long result = 0;
+        for (int i = 0; i < positions.length; i++) {
+            int index = positions[i] - 1;
+
+            if (negative && index == 0) {
+                // El signo solo es válido como primer carácter y seguido de algún dígito
+                if (i > 0 || positions.length == 1) {
+                    return 0;
+                }
+                negativeResult = true;
+                continue;
+            }
+
+            int digitIndex = negative ? index - 1 : index;
+            long digit = (magnitude / POW10[digits - 1 - digitIndex]) % 10;
+            result = result * 10 + digit;
+            if (result > (long) Integer.MAX_VALUE + 1) {
+                return 0;
+            }
+        }
+
+        if (negativeResult) {
+            return (int) -result;
+        }
+        return result > Integer.MAX_VALUE ? 0 : (int) result;
+    }
+
+    /**
+     * Cuadrado medio: toma del cuadrado de la clave tantos dígitos centrales
+     * como dígitos tiene el tamaño de la tabla. Un cuadrado de un solo dígito
+     * se completa con un 0 a la izquierda.
+     */
+    public static int middleSquare(int value, int tableSize) {
+        return middleSquare(value, tableSize, decimalLength(tableSize));
+    }
+
+    // middleSquare para keys[from..to), con los dígitos del tamaño calculados una sola vez
+    static void middleSquareAll(int[] keys, int from, int to, int tableSize, int[] homes) {
+        int tableSizeDigits = decimalLength(tableSize);
+        for (int i = from; i < to; i++) {
+            homes[i] = middleSquare(keys[i], tableSize, tableSizeDigits);
+        }
+    }
+
+    private static int middleSquare(int value, int tableSize, int tableSizeDigits) {
+        long squared = (long) value * value;
+        int len = Math.max(2, digitCount(squared));
+
+        int mid = len / 2;
+        int digitsToTake = Math.min(tableSizeDigits, len);
+        int start = Math.max(0, mid - (digitsToTake / 2));
+        int end = Math.min(len, start + digitsToTake);
+
+        if (start >= end) {
+            end = start + 1;
+        }
+
+        long middleDigits = (squared / POW10[len - end]) % POW10[end - start];
+
+        // Integer.parseInt fallaba con más de un int de dígitos; el hash valía 0
+        int hashValue = middleDigits > Integer.MAX_VALUE ? 0 : (int) middleDigits;
+
+        return hashValue % tableSize;
+    }
+}
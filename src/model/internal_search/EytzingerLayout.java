@@ -0,0 +1,88 @@
+package model.internal_search;
+
+/**
+ * Copia de las claves ordenadas en orden Eytzinger (recorrido por niveles de un
+ * árbol binario implícito): la raíz en la posición 1 y los hijos de k en 2k y 2k+1.
+ * Los primeros niveles quedan juntos al inicio del arreglo y los 16 descendientes
+ * de un nodo a cuatro niveles de distancia son contiguos, lo que reduce los
+ * fallos de caché frente a la búsqueda binaria clásica.
+ */
+public class EytzingerLayout {
+
+    private final int[] tree;
+    private final int size;
+    // Profundidad del último nivel y cantidad de nodos que lo ocupan
+    private final int lastLevel;
+    private final int lastLevelCount;
+    // Recibe las lecturas anticipadas para que el JIT no las elimine
+    private int prefetchSink;
+
+    private EytzingerLayout(int size) {
+        this.size = size;
+        this.tree = new int[size + 1];
+        this.lastLevel = size == 0 ? 0 : 31 - Integer.numberOfLeadingZeros(size);
+        this.lastLevelCount = size - ((1 << lastLevel) - 1);
+    }
+
+    /**
+     * Construye la disposición a partir de las primeras size claves ya ordenadas.
+     */
+    public static EytzingerLayout build(int[] sortedKeys, int size) {
+        EytzingerLayout layout = new EytzingerLayout(size);
+        layout.fill(sortedKeys, 0, 1);
+        return layout;
+    }
+
+    // Recorrido en orden del árbol implícito; retorna la siguiente clave por copiar
+    private int fill(int[] sortedKeys, int next, int k) {
+        if (k <= size) {
+            next = fill(sortedKeys, next, 2 * k);
+            tree[k] = sortedKeys[next];
+            next = fill(sortedKeys, next + 1, 2 * k + 1);
+        }
+        return next;
+    }
+
+    /**
+     * Retorna la posición de la clave en el arreglo ordenado, o -1.
+     * El descenso no tiene saltos: el resultado de la comparación elige el hijo.
+     */
+    public int search(int target) {
+        int[] t = tree;
+        int n = size;
+        int k = 1;
+        int prefetched = 0;
+
+        while (k <= n) {
+            // Lectura anticipada de los descendientes a 4 niveles (una línea de caché)
+            prefetched ^= t[Math.min(k, n >>> 4) << 4];
+            k = 2 * k + (t[k] < target ? 1 : 0);
+        }
+        prefetchSink = prefetched;
+
+        // Quitar los giros a la derecha finales para volver al último nodo >= target
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+
+        if (k == 0 || t[k] != target) {
+            return -1;
+        }
+        return sortedIndex(k);
+    }
+
+    /**
+     * Posición en orden del nodo k, calculada sin tablas auxiliares: primero la
+     * posición que tendría en un árbol perfecto de la misma altura y luego se
+     * descuentan las hojas del último nivel que faltan a su izquierda.
+     */
+    private int sortedIndex(int k) {
+        int depth = 31 - Integer.numberOfLeadingZeros(k);
+        int offset = k - (1 << depth);
+        int perfectRank = ((2 * offset + 1) << (lastLevel - depth)) - 1;
+        int missingLeaves = Math.max(0, (perfectRank + 1) / 2 - lastLevelCount);
+        return perfectRank - missingLeaves;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,65 @@
+package model.internal_search;
+
+import java.util.function.Supplier;
+
+/**
+ * Función que asigna a cada clave su posición base en una tabla hash.
+ * Retorna un valor en [0, tableSize), o -1 si la clave no admite la función
+ * (por ejemplo, una posición de dígito que la clave no tiene).
+ */
+@FunctionalInterface
+public interface HashFunction {
+
+    int hash(int key, int tableSize);
+
+    /**
+     * Posiciones base de keys[from..to) en homes[from..to). Truncamiento y
+     * cuadrado medio lo resuelven con un ciclo propio que prepara una sola
+     * vez lo que no depende de la clave.
+     */
+    default void hashAll(int[] keys, int from, int to, int tableSize, int[] homes) {
+        for (int i = from; i < to; i++) {
+            homes[i] = hash(keys[i], tableSize);
+        }
+    }
+
+    // Residuo de la división: clave % tamaño
+    static HashFunction modulo() {
+        return (key, tableSize) -> key % tableSize;
+    }
+
+    // Suma de grupos de dos dígitos
+    static HashFunction folding() {
+        return DigitHashes::folding;
+    }
+
+    // Dígitos en las posiciones indicadas (base 1); se consultan en cada llamada, o una vez por lote
+    static HashFunction truncation(Supplier<int[]> digitPositions) {
+        return new HashFunction() {
+            @Override
+            public int hash(int key, int tableSize) {
+                return DigitHashes.truncation(key, digitPositions.get(), tableSize);
+            }
+
+            @Override
+            public void hashAll(int[] keys, int from, int to, int tableSize, int[] homes) {
+                DigitHashes.truncationAll(keys, from, to, digitPositions.get(), tableSize, homes);
+            }
+        };
+    }
+
+    // Dígitos centrales del cuadrado de la clave
+    static HashFunction middleSquare() {
+        return new HashFunction() {
+            @Override
+            public int hash(int key, int tableSize) {
+                return DigitHashes.middleSquare(key, tableSize);
+            }
+
+            @Override
+            public void hashAll(int[] keys, int from, int to, int tableSize, int[] homes) {
+                DigitHashes.middleSquareAll(keys, from, to, tableSize, homes);
+            }
+        };
+    }
+}
@@ -0,0 +1,1155 @@
+package model.internal_search;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+/**
+ * Tabla hash de claves int sobre arreglos primitivos, común a las búsquedas
+ * por módulo, plegamiento, truncamiento y cuadrado medio.
+ * - La función hash y la solución de colisiones se eligen desde fuera.
+ * - Cada posición guarda su primera clave en un int[]; -1 marca una posición vacía.
+ * - Las columnas adicionales de una posición forman una lista enlazada sobre
+ *   arreglos paralelos que solo se reservan al usarse por primera vez.
+ * - Invariante: una posición vacía no tiene columnas adicionales.
+ * - Cada posición guarda qué solución ubicó a su primera clave y con
+ *   cuántos sondeos, para comparar las soluciones (maxProbeLength y
+ *   averageProbeLength).
+ * - find sigue solo las secuencias de las soluciones que se usaron en la
+ *   tabla, cada una hasta la primera posición vacía: O(1) esperado,
+ *   encuentre la clave o no. Una posición que queda vacía al eliminar se
+ *   marca como borrada y no corta las secuencias que pasaban por ella.
+ * - Un índice aparte guarda solo las claves que esas secuencias no
+ *   alcanzan: las del área de desbordamiento, las de un archivo que no
+ *   están en su posición base o se repiten y, desde que la tabla crece con
+ *   claves, todas, porque cada crecimiento cambia sus posiciones base.
+ * - Robin Hood: sondeo secuencial donde la clave que llega le quita la
+ *   posición a la que está más cerca de su posición base; al eliminar, las
+ *   claves siguientes retroceden en lugar de dejar un hueco.
+ * - Doble hash: el salto entre sondeos sale de una segunda función hash
+ *   (setStepFunction), así claves con la misma posición base siguen
+ *   secuencias distintas en lugar de formar un solo grupo.
+ */
+public class IntHashTable {
+
+    public static final int EMPTY_SLOT = -1;
+    public static final int NOT_FOUND = -1;
+
+    // Soluciones de colisión
+    public static final String LINEAR_PROBING = "Secuencial";
+    public static final String QUADRATIC_PROBING = "Cuadrática";
+    public static final String EXTRA_COLUMNS = "Columnas adicionales";
+    public static final String OVERFLOW_AREA = "Área de desbordamiento";
+    public static final String ROBIN_HOOD = "Robin Hood";
+    public static final String DOUBLE_HASHING = "Doble hash";
+    // Clave en su posición base, sin colisión
+    public static final String HOME_SLOT = "Posición hash";
+
+    // Marcas por posición: qué ubicó a la clave de la primera columna
+    private static final byte PLACED_UNKNOWN = 0;
+    private static final byte PLACED_HOME = 1;
+    private static final byte PLACED_LINEAR = 2;
+    private static final byte PLACED_QUADRATIC = 3;
+    private static final byte PLACED_COLUMN = 4;
+    private static final byte PLACED_OVERFLOW = 5;
+    private static final byte PLACED_ROBIN_HOOD = 6;
+    private static final byte PLACED_DOUBLE = 7;
+    // Posición vacía que tuvo una clave: las secuencias de sondeo siguen de largo
+    private static final byte PLACED_REMOVED = 8;
+
+    private static final int NONE = -1;
+
+    private final HashFunction hashFunction;
+    // Salto del doble hash; debe ser otra función que la de las posiciones base
+    private HashFunction stepFunction = HashFunction.folding();
+    private int[] slots;
+    private byte[] placements;
+    // Sondeos con que se ubicó la primera clave de cada posición; 0 si se desconoce
+    private int[] probeLengths;
+    private int tableSize;
+    private int keyCount;
+    // Marcas de las soluciones de sondeo usadas (un bit por marca); find solo sigue esas secuencias
+    private int probedPlacements;
+    // Claves que las secuencias de sondeo no alcanzan
+    private final KeyIndex members = new KeyIndex();
+    // La tabla creció con claves: desde entonces toda clave nueva va también al índice
+    private boolean indexAllKeys;
+
+    // Columnas adicionales por posición; null mientras ninguna posición las use
+    private int[] chainHead;
+    private int[] chainTail;
+    private int[] chainLength;
+    private int[] chainKeys;
+    private int[] chainNext;
+    private int chainUsed;
+    private int freeChain = NONE;
+    private int maxColumns = 1;
+    // Se recalcula al consultarlo si se eliminó de la fila más larga
+    private boolean maxColumnsStale;
+    private boolean lastRemoveShifted;
+
+    public IntHashTable(int tableSize, HashFunction hashFunction) {
+        if (tableSize < 1) {
+            throw new IllegalArgumentException("El tamaño de la tabla debe ser mayor que cero");
+        }
+        this.hashFunction = hashFunction;
+        this.tableSize = tableSize;
+        this.slots = new int[tableSize];
+        this.placements = new byte[tableSize];
+        this.probeLengths = new int[tableSize];
+        Arrays.fill(slots, EMPTY_SLOT);
+    }
+
+    // Tabla sobre un arreglo ya lleno; tableSize puede ser 0 al leer un archivo vacío
+    private IntHashTable(int[] slots, int tableSize, HashFunction hashFunction) {
+        this.hashFunction = hashFunction;
+        this.tableSize = tableSize;
+        this.slots = slots;
+        this.placements = new byte[slots.length];
+        this.probeLengths = new int[slots.length];
+    }
+
+    // Posición base según la función hash; puede quedar fuera de [0, tableSize)
+    public int homeSlot(int key) {
+        return hashFunction.hash(key, tableSize);
+    }
+
+    // Posiciones base de un lote de claves, calculadas con HashFunction.hashAll
+    public int[] homeSlots(int[] keys) {
+        int[] homes = new int[keys.length];
+        hashFunction.hashAll(keys, 0, keys.length, tableSize, homes);
+        return homes;
+    }
+
+    public boolean isInRange(int slot) {
+        return slot >= 0 && slot < tableSize;
+    }
+
+    public boolean isSlotEmpty(int slot) {
+        return slots[slot] == EMPTY_SLOT;
+    }
+
+    // Primera clave de la posición, o -1 si está vacía
+    public int get(int slot) {
+        return slots[slot];
+    }
+
+    public int get(int slot, int column) {
+        if (column == 0) {
+            return slots[slot];
+        }
+        int entry = chainHead == null ? NONE : chainHead[slot];
+        for (int c = 1; entry != NONE; c++) {
+            if (c == column) {
+                return chainKeys[entry];
+            }
+            entry = chainNext[entry];
+        }
+        return EMPTY_SLOT;
+    }
+
+    // Claves guardadas en la posición (0 si está vacía)
+    public int columnCount(int slot) {
+        if (slots[slot] == EMPTY_SLOT) {
+            return 0;
+        }
+        return chainLength == null ? 1 : 1 + chainLength[slot];
+    }
+
+    public boolean rowContains(int slot, int key) {
+        if (slots[slot] == key) {
+            return key != EMPTY_SLOT;
+        }
+        if (chainHead != null) {
+            for (int entry = chainHead[slot]; entry != NONE; entry = chainNext[entry]) {
+                if (chainKeys[entry] == key) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Posición que contiene la clave, o -1: la fila de su posición base, las
+     * secuencias de las soluciones usadas y, si ninguna la alcanza, el índice
+     * de claves reubicadas.
+     */
+    public int find(int key) {
+        return key == EMPTY_SLOT ? NOT_FOUND : find(key, homeSlot(key));
+    }
+
+    // find para un lote de claves, con las posiciones base calculadas por homeSlots
+    public int[] findAll(int[] keys) {
+        int[] positions = homeSlots(keys);
+        for (int i = 0; i < keys.length; i++) {
+            positions[i] = keys[i] == EMPTY_SLOT ? NOT_FOUND : find(keys[i], positions[i]);
+        }
+        return positions;
+    }
+
+    private int find(int key, int home) {
+        if (isInRange(home)) {
+            if (rowContains(home, key)) {
+                return home;
+            }
+            int position = probeSequences(key, home);
+            if (position != NOT_FOUND) {
+                return position;
+            }
+        }
+        return members.slotOf(key);
+    }
+
+    /**
+     * Sigue desde home las secuencias secuencial (que también recorre Robin
+     * Hood), cuadrática y de doble hash, solo las de soluciones que ubicaron
+     * alguna clave. Cada una termina en la primera posición vacía que no
+     * esté marcada como borrada.
+     */
+    private int probeSequences(int key, int home) {
+        if (usesPlacement(PLACED_LINEAR) || usesPlacement(PLACED_ROBIN_HOOD)) {
+            for (int attempts = 1, position = home; attempts < tableSize; attempts++) {
+                position = position + 1 == tableSize ? 0 : position + 1;
+                if (slots[position] == key) {
+                    return position;
+                }
+                if (endsProbe(position)) {
+                    break;
+                }
+            }
+        }
+
+        if (usesPlacement(PLACED_QUADRATIC)) {
+            for (long i = 1; i <= tableSize; i++) {
+                int position = (int) ((home + i * i) % tableSize);
+                if (slots[position] == key) {
+                    return position;
+                }
+                if (endsProbe(position)) {
+                    break;
+                }
+            }
+        }
+
+        if (usesPlacement(PLACED_DOUBLE)) {
+            int step = doubleHashStep(key);
+            for (int attempts = 1, position = home; attempts < tableSize; attempts++) {
+                position = position + step < tableSize ? position + step : position + step - tableSize;
+                if (slots[position] == key) {
+                    return position;
+                }
+                if (endsProbe(position)) {
+                    break;
+                }
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private boolean usesPlacement(byte placement) {
+        return (probedPlacements & (1 << placement)) != 0;
+    }
+
+    private boolean endsProbe(int position) {
+        return slots[position] == EMPTY_SLOT && placements[position] != PLACED_REMOVED;
+    }
+
+    /**
+     * Busca la clave en la tabla misma: la posición base, el grupo contiguo
+     * que le sigue y la secuencia cuadrática, ambos hasta la primera posición
+     * vacía, y por último el resto de la tabla. Solo hace falta para ubicar
+     * otra copia de una clave repetida en un archivo.
+     */
+    private int probe(int key, int home) {
+        if (!isInRange(home)) {
+            return scan(key, 0);
+        }
+        if (rowContains(home, key)) {
+            return home;
+        }
+
+        for (int attempts = 1; attempts < tableSize; attempts++) {
+            int position = (home + attempts) % tableSize;
+            if (slots[position] == EMPTY_SLOT) {
+                break;
+            }
+            if (slots[position] == key) {
+                return position;
+            }
+        }
+
+        for (long i = 1; i < tableSize; i++) {
+            int position = (int) ((home + i * i) % tableSize);
+            if (slots[position] == EMPTY_SLOT) {
+                break;
+            }
+            if (slots[position] == key) {
+                return position;
+            }
+        }
+
+        return scan(key, home);
+    }
+
+    private int scan(int key, int start) {
+        for (int i = 0; i < tableSize; i++) {
+            int position = start + i < tableSize ? start + i : start + i - tableSize;
+            if (rowContains(position, key)) {
+                return position;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    // O(1) esperado, con el mismo recorrido que find
+    public boolean contains(int key) {
+        return find(key) != NOT_FOUND;
+    }
+
+    /**
+     * Solución que ubicó la clave en esa posición y columna (base 0):
+     * HOME_SLOT o una de las soluciones de colisión. Retorna null si la clave
+     * se leyó de un archivo fuera de su posición base.
+     */
+    public String placementOf(int slot, int column) {
+        if (column > 0) {
+            return EXTRA_COLUMNS;
+        }
+        switch (placements[slot]) {
+            case PLACED_HOME:
+                return HOME_SLOT;
+            case PLACED_LINEAR:
+                return LINEAR_PROBING;
+            case PLACED_QUADRATIC:
+                return QUADRATIC_PROBING;
+            case PLACED_COLUMN:
+                return EXTRA_COLUMNS;
+            case PLACED_OVERFLOW:
+                return OVERFLOW_AREA;
+            case PLACED_ROBIN_HOOD:
+                return ROBIN_HOOD;
+            case PLACED_DOUBLE:
+                return DOUBLE_HASHING;
+            default:
+                return null;
+        }
+    }
+
+    // Columna de la clave dentro de la posición (base 0), o -1
+    public int columnOf(int slot, int key) {
+        if (slots[slot] == key) {
+            return key == EMPTY_SLOT ? NOT_FOUND : 0;
+        }
+        if (chainHead != null) {
+            int column = 1;
+            for (int entry = chainHead[slot]; entry != NONE; entry = chainNext[entry]) {
+                if (chainKeys[entry] == key) {
+                    return column;
+                }
+                column++;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    // Coloca la clave en su posición base si está libre; false si hay colisión o queda fuera de rango
+    public boolean insertAtHome(int key) {
+        return insertAtHome(key, homeSlot(key));
+    }
+
+    // insertAtHome con la posición base ya calculada (por ejemplo, con homeSlots)
+    public boolean insertAtHome(int key, int home) {
+        if (!isInRange(home) || slots[home] != EMPTY_SLOT) {
+            return false;
+        }
+        slots[home] = key;
+        placements[home] = PLACED_HOME;
+        probeLengths[home] = 1;
+        keyCount++;
+        indexIfGrown(key, home);
+        return true;
+    }
+
+    /**
+     * Ubica una clave cuya posición base (home) está ocupada con la solución
+     * indicada. Retorna la posición usada, o -1 si la solución no encontró lugar.
+     */
+    public int resolveCollision(int key, int home, String strategy) {
+        switch (strategy) {
+            case LINEAR_PROBING:
+                if (!isInRange(home)) {
+                    return NOT_FOUND;
+                }
+                for (int attempts = 1; attempts < tableSize; attempts++) {
+                    int position = (home + attempts) % tableSize;
+                    if (slots[position] == EMPTY_SLOT) {
+                        return place(position, key, PLACED_LINEAR, attempts + 1);
+                    }
+                }
+                return NOT_FOUND;
+            case QUADRATIC_PROBING:
+                if (!isInRange(home)) {
+                    return NOT_FOUND;
+                }
+                for (long i = 1; i <= tableSize; i++) {
+                    int position = (int) ((home + i * i) % tableSize);
+                    if (slots[position] == EMPTY_SLOT) {
+                        return place(position, key, PLACED_QUADRATIC, (int) i + 1);
+                    }
+                }
+                return NOT_FOUND;
+            case EXTRA_COLUMNS:
+                if (!isInRange(home)) {
+                    return NOT_FOUND;
+                }
+                if (slots[home] == EMPTY_SLOT) {
+                    return place(home, key, PLACED_HOME, 1);
+                }
+                appendColumn(home, key);
+                keyCount++;
+                indexIfGrown(key, home);
+                return home;
+            case OVERFLOW_AREA:
+                // La clave ocupa una posición nueva al final de la tabla
+                int position = tableSize;
+                ensureTableSize(tableSize + 1);
+                // Un sondeo en la posición base ocupada y otro en la nueva; ninguna secuencia llega ahí
+                if (!indexAllKeys) {
+                    members.add(key, position);
+                }
+                return place(position, key, PLACED_OVERFLOW, 2);
+            case ROBIN_HOOD:
+                return insertRobinHood(key, home);
+            case DOUBLE_HASHING:
+                if (!isInRange(home)) {
+                    return NOT_FOUND;
+                }
+                int step = doubleHashStep(key);
+                for (int attempts = 1, next = home; attempts < tableSize; attempts++) {
+                    next = next + step < tableSize ? next + step : next + step - tableSize;
+                    if (slots[next] == EMPTY_SLOT) {
+                        return place(next, key, PLACED_DOUBLE, attempts + 1);
+                    }
+                }
+                return NOT_FOUND;
+            default:
+                throw new IllegalArgumentException("Solución de colisión desconocida: " + strategy);
+        }
+    }
+
+    /**
+     * Salto del doble hash en [1, tableSize): la función de salto sobre
+     * tableSize - 1, más uno. Si no es coprimo con el tamaño se corre al
+     * siguiente que sí lo sea, así la secuencia visita todas las posiciones
+     * aunque el tamaño no sea primo.
+     */
+    private int doubleHashStep(int key) {
+        if (tableSize <= 2) {
+            return 1;
+        }
+        int hash = stepFunction.hash(key, tableSize - 1);
+        int step = 1 + (hash >= 0 && hash < tableSize - 1 ? hash : Math.floorMod(key, tableSize - 1));
+        while (gcd(step, tableSize) != 1) {
+            step = step % (tableSize - 1) + 1;
+        }
+        return step;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+        return a;
+    }
+
+    // Inserta en la posición base o, si está ocupada, con la solución indicada
+    public int insert(int key, String strategy) {
+        int home = homeSlot(key);
+        if (isInRange(home) && slots[home] == EMPTY_SLOT) {
+            return place(home, key, PLACED_HOME, 1);
+        }
+        return resolveCollision(key, home, strategy);
+    }
+
+    /**
+     * Inserta un lote con la misma solución de colisiones. positions recibe la
+     * posición de cada clave, o -1 si ya estaba en la tabla o no hubo lugar.
+     * Retorna la cantidad de claves insertadas. Si el área de desbordamiento
+     * hace crecer la tabla, las posiciones base pendientes se recalculan.
+     */
+    public int insertAll(int[] keys, String strategy, int[] positions) {
+        int[] homes = new int[keys.length];
+        int hashedSize = tableSize;
+        hashFunction.hashAll(keys, 0, keys.length, tableSize, homes);
+
+        int inserted = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (tableSize != hashedSize) {
+                hashedSize = tableSize;
+                hashFunction.hashAll(keys, i, keys.length, tableSize, homes);
+            }
+
+            int key = keys[i];
+            if (key == EMPTY_SLOT || contains(key)) {
+                positions[i] = NOT_FOUND;
+                continue;
+            }
+            int home = homes[i];
+            positions[i] = isInRange(home) && slots[home] == EMPTY_SLOT
+                    ? place(home, key, PLACED_HOME, 1)
+                    : resolveCollision(key, home, strategy);
+            if (positions[i] != NOT_FOUND) {
+                inserted++;
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * Sondeo secuencial desde home; en cada posición la clave en mano se queda
+     * con el lugar si ya recorrió más que la que lo ocupa, y sigue buscando
+     * con la desplazada. Solo se desplazan claves ubicadas en su posición base
+     * o por Robin Hood y sin columnas adicionales; las demás se saltan.
+     * Retorna la posición de la clave, o -1 si no hay lugar (sin mover nada).
+     */
+    private int insertRobinHood(int key, int home) {
+        if (!isInRange(home) || !hasEmptySlotFrom(home)) {
+            return NOT_FOUND;
+        }
+
+        int landed = NOT_FOUND;
+        int current = key;
+        int currentFrom = NOT_FOUND;
+        int distance = 0;
+        for (int position = home; ; position = position + 1 == tableSize ? 0 : position + 1) {
+            boolean empty = slots[position] == EMPTY_SLOT;
+            if (!empty && !(isDisplaceable(position) && probeLengths[position] - 1 < distance)) {
+                distance++;
+                continue;
+            }
+
+            int resident = slots[position];
+            int residentDistance = probeLengths[position] - 1;
+            settle(position, current, distance);
+            if (current == key) {
+                landed = position;
+                keyCount++;
+                indexIfGrown(key, position);
+            } else if (members.slotOf(current) == currentFrom) {
+                members.moveTo(current, position);
+            }
+
+            if (empty) {
+                return landed;
+            }
+            current = resident;
+            currentFrom = position;
+            distance = residentDistance + 1;
+        }
+    }
+
+    private void settle(int position, int key, int distance) {
+        slots[position] = key;
+        placements[position] = distance == 0 ? PLACED_HOME : PLACED_ROBIN_HOOD;
+        probeLengths[position] = distance + 1;
+        probedPlacements |= 1 << placements[position];
+    }
+
+    private boolean hasEmptySlotFrom(int start) {
+        for (int i = 0; i < tableSize; i++) {
+            if (slots[start + i < tableSize ? start + i : start + i - tableSize] == EMPTY_SLOT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Claves que Robin Hood puede mover: su distancia a la posición base es conocida y no arrastran columnas
+    private boolean isDisplaceable(int slot) {
+        return (placements[slot] == PLACED_HOME || placements[slot] == PLACED_ROBIN_HOOD)
+                && probeLengths[slot] > 0
+                && (chainHead == null || chainHead[slot] == NONE);
+    }
+
+    /**
+     * Borrado con desplazamiento hacia atrás: mientras la posición siguiente
+     * guarde una clave de Robin Hood lejos de su posición base, esa clave
+     * retrocede una posición y el hueco avanza.
+     */
+    private void shiftBackward(int hole) {
+        int next = hole + 1 == tableSize ? 0 : hole + 1;
+        while (next != hole && slots[next] != EMPTY_SLOT && placements[next] == PLACED_ROBIN_HOOD
+                && probeLengths[next] > 1 && isDisplaceable(next)) {
+            int key = slots[next];
+            settle(hole, key, probeLengths[next] - 2);
+            if (members.slotOf(key) == next) {
+                members.moveTo(key, hole);
+            }
+
+            slots[next] = EMPTY_SLOT;
+            placements[next] = PLACED_REMOVED;
+            probeLengths[next] = 0;
+            lastRemoveShifted = true;
+            hole = next;
+            next = hole + 1 == tableSize ? 0 : hole + 1;
+        }
+    }
+
+    private int place(int position, int key, byte placement, int probeLength) {
+        slots[position] = key;
+        placements[position] = placement;
+        probeLengths[position] = probeLength;
+        probedPlacements |= 1 << placement;
+        keyCount++;
+        indexIfGrown(key, position);
+        return position;
+    }
+
+    private void indexIfGrown(int key, int slot) {
+        if (indexAllKeys) {
+            members.add(key, slot);
+        }
+    }
+
+    /**
+     * Elimina la clave; retorna false si no existe. Si ocupaba la primera
+     * columna, la siguiente clave de la fila pasa a ocupar su lugar; si la
+     * posición queda vacía, las claves de Robin Hood que siguen retroceden.
+     */
+    public boolean remove(int key) {
+        lastRemoveShifted = false;
+        int slot = find(key);
+        if (slot == NOT_FOUND) {
+            return false;
+        }
+
+        if (chainLength != null && chainLength[slot] + 1 == maxColumns) {
+            maxColumnsStale = true;
+        }
+
+        if (slots[slot] == key) {
+            if (chainHead != null && chainHead[slot] != NONE) {
+                int first = chainHead[slot];
+                slots[slot] = chainKeys[first];
+                placements[slot] = PLACED_COLUMN;
+                probeLengths[slot] = 1;
+                unlinkColumn(slot, NONE, first);
+            } else {
+                slots[slot] = EMPTY_SLOT;
+                placements[slot] = PLACED_REMOVED;
+                probeLengths[slot] = 0;
+                shiftBackward(slot);
+            }
+        } else {
+            int previous = NONE;
+            int entry = chainHead[slot];
+            while (chainKeys[entry] != key) {
+                previous = entry;
+                entry = chainNext[entry];
+            }
+            unlinkColumn(slot, previous, entry);
+        }
+
+        keyCount--;
+        if (members.remove(key)) {
+            // Quedan otras copias de una clave repetida en el archivo
+            members.moveTo(key, probe(key, homeSlot(key)));
+        }
+        return true;
+    }
+
+    private void appendColumn(int slot, int key) {
+        if (chainHead == null) {
+            chainHead = new int[slots.length];
+            chainTail = new int[slots.length];
+            chainLength = new int[slots.length];
+            Arrays.fill(chainHead, NONE);
+            Arrays.fill(chainTail, NONE);
+            chainKeys = new int[16];
+            chainNext = new int[16];
+        }
+
+        int entry;
+        if (freeChain != NONE) {
+            entry = freeChain;
+            freeChain = chainNext[entry];
+        } else {
+            if (chainUsed == chainKeys.length) {
+                chainKeys = Arrays.copyOf(chainKeys, chainUsed * 2);
+                chainNext = Arrays.copyOf(chainNext, chainUsed * 2);
+            }
+            entry = chainUsed++;
+        }
+
+        chainKeys[entry] = key;
+        chainNext[entry] = NONE;
+        if (chainTail[slot] == NONE) {
+            chainHead[slot] = entry;
+        } else {
+            chainNext[chainTail[slot]] = entry;
+        }
+        chainTail[slot] = entry;
+        chainLength[slot]++;
+        maxColumns = Math.max(maxColumns, chainLength[slot] + 1);
+    }
+
+    private void unlinkColumn(int slot, int previous, int entry) {
+        if (previous == NONE) {
+            chainHead[slot] = chainNext[entry];
+        } else {
+            chainNext[previous] = chainNext[entry];
+        }
+        if (chainTail[slot] == entry) {
+            chainTail[slot] = previous;
+        }
+        chainLength[slot]--;
+
+        chainNext[entry] = freeChain;
+        freeChain = entry;
+    }
+
+    /**
+     * Amplía la tabla con posiciones vacías al final; no reubica las claves
+     * existentes. Como las posiciones base dependen del tamaño, la primera
+     * vez que crece con claves todas pasan al índice y las que lleguen
+     * después también: el área de desbordamiento hace crecer la tabla en
+     * cada inserción y recorrerla cada vez costaría O(n).
+     */
+    public void ensureTableSize(int newSize) {
+        if (newSize <= tableSize) {
+            return;
+        }
+        int oldSize = tableSize;
+        if (newSize > slots.length) {
+            int capacity = Math.min(Integer.MAX_VALUE - 8, Math.max(newSize, slots.length + (slots.length >> 1)));
+            slots = Arrays.copyOf(slots, capacity);
+            placements = Arrays.copyOf(placements, capacity);
+            probeLengths = Arrays.copyOf(probeLengths, capacity);
+            if (chainHead != null) {
+                chainHead = Arrays.copyOf(chainHead, capacity);
+                chainTail = Arrays.copyOf(chainTail, capacity);
+                chainLength = Arrays.copyOf(chainLength, capacity);
+                Arrays.fill(chainHead, tableSize, capacity, NONE);
+                Arrays.fill(chainTail, tableSize, capacity, NONE);
+            }
+        }
+        Arrays.fill(slots, tableSize, newSize, EMPTY_SLOT);
+        Arrays.fill(placements, tableSize, newSize, PLACED_UNKNOWN);
+        Arrays.fill(probeLengths, tableSize, newSize, 0);
+        tableSize = newSize;
+
+        if (keyCount > 0 && !indexAllKeys) {
+            indexAllKeys = true;
+            for (int slot = 0; slot < oldSize; slot++) {
+                int columns = columnCount(slot);
+                for (int column = 0; column < columns; column++) {
+                    int key = get(slot, column);
+                    // Las copias de una clave repetida ya están todas en el índice
+                    if (members.slotOf(key) == NOT_FOUND) {
+                        members.add(key, slot);
+                    }
+                }
+            }
+        }
+    }
+
+    public int tableSize() {
+        return tableSize;
+    }
+
+    public int size() {
+        return keyCount;
+    }
+
+    /**
+     * Deja en la tabla las claves indicadas, por ejemplo al volver de otra
+     * organización: elimina las que ya no están, ubica las nuevas con la
+     * solución indicada y no mueve las demás. Solo crece si una clave nueva
+     * no encuentra lugar y va al área de desbordamiento.
+     */
+    public void syncKeys(int[] keys, String strategy) {
+        int[] wanted = keys.clone();
+        Arrays.sort(wanted);
+        for (int key : keys()) {
+            if (Arrays.binarySearch(wanted, key) < 0) {
+                remove(key);
+            }
+        }
+
+        for (int key : keys) {
+            if (key != EMPTY_SLOT && !contains(key) && insert(key, strategy) == NOT_FOUND) {
+                insert(key, OVERFLOW_AREA);
+            }
+        }
+    }
+
+    // Claves de la tabla, fila por fila y columna por columna
+    public int[] keys() {
+        int[] keys = new int[keyCount];
+        int count = 0;
+        for (int slot = 0; slot < tableSize; slot++) {
+            int columns = columnCount(slot);
+            for (int column = 0; column < columns; column++) {
+                keys[count++] = get(slot, column);
+            }
+        }
+        return keys;
+    }
+
+    // Columnas de la fila más larga (al menos 1)
+    public int maxColumns() {
+        if (maxColumnsStale) {
+            maxColumns = 1;
+            for (int slot = 0; slot < tableSize; slot++) {
+                maxColumns = Math.max(maxColumns, chainLength[slot] + 1);
+            }
+            maxColumnsStale = false;
+        }
+        return maxColumns;
+    }
+
+    // Indica si la última eliminación hizo retroceder claves de Robin Hood a otra posición
+    public boolean isLastRemoveShifted() {
+        return lastRemoveShifted;
+    }
+
+    /**
+     * Mayor cantidad de sondeos con que se ubicó una clave: posiciones
+     * recorridas por las soluciones de sondeo, claves comparadas en la fila
+     * para las columnas adicionales. Las claves leídas de un archivo fuera de
+     * su posición base no cuentan. O(n).
+     */
+    public int maxProbeLength() {
+        int max = 0;
+        for (int slot = 0; slot < tableSize; slot++) {
+            max = Math.max(max, probeLengths[slot]);
+            if (chainLength != null && chainLength[slot] > 0) {
+                max = Math.max(max, chainLength[slot] + 1);
+            }
+        }
+        return max;
+    }
+
+    // Promedio de sondeos por clave, con el mismo criterio que maxProbeLength; 0 si no hay claves medibles
+    public double averageProbeLength() {
+        long total = 0;
+        long measured = 0;
+        for (int slot = 0; slot < tableSize; slot++) {
+            if (probeLengths[slot] > 0) {
+                total += probeLengths[slot];
+                measured++;
+            }
+            if (chainLength != null) {
+                int columns = chainLength[slot];
+                // Columnas 1..columns: 2 + 3 + ... + (columns + 1) comparaciones
+                total += (long) columns * (columns + 3) / 2;
+                measured += columns;
+            }
+        }
+        return measured == 0 ? 0 : (double) total / measured;
+    }
+
+    public HashFunction getHashFunction() {
+        return hashFunction;
+    }
+
+    // Función para el salto del doble hash (plegamiento si no se indica otra)
+    public void setStepFunction(HashFunction stepFunction) {
+        this.stepFunction = stepFunction;
+    }
+
+    /**
+     * Lee una tabla con una fila por línea ("[12, 52]", "[-1]" para vacías).
+     * Un archivo de una sola línea se toma como el formato antiguo: una clave
+     * por posición. Las líneas que empiezan con # se ignoran y los -1 dentro
+     * de una fila no ocupan columna. La tabla tiene tantas posiciones como
+     * filas leídas (0 si no hay ninguna).
+     */
+    public static IntHashTable readRows(File file, HashFunction hashFunction) throws IOException {
+        ParsedLines lines = ParsedLines.read(file);
+        if (lines.lineCount <= 1) {
+            return fromValues(lines, hashFunction);
+        }
+
+        int[] slots = new int[lines.lineCount];
+        Arrays.fill(slots, EMPTY_SLOT);
+        IntHashTable table = new IntHashTable(slots, lines.lineCount, hashFunction);
+        int start = 0;
+        for (int row = 0; row < lines.lineCount; row++) {
+            for (int i = start; i < lines.lineEnds[row]; i++) {
+                int key = lines.values[i];
+                if (key == EMPTY_SLOT) {
+                    continue;
+                }
+                if (table.slots[row] == EMPTY_SLOT) {
+                    table.slots[row] = key;
+                } else {
+                    table.appendColumn(row, key);
+                }
+                table.keyCount++;
+            }
+            start = lines.lineEnds[row];
+        }
+        table.markHomeSlots();
+        table.indexFileKeys();
+        return table;
+    }
+
+    /**
+     * Lee una tabla sin columnas adicionales: todas las claves del archivo en
+     * orden, una por posición, con -1 para las posiciones vacías.
+     */
+    public static IntHashTable readSlots(File file, HashFunction hashFunction) throws IOException {
+        return fromValues(ParsedLines.read(file), hashFunction);
+    }
+
+    private static IntHashTable fromValues(ParsedLines lines, HashFunction hashFunction) {
+        IntHashTable table = new IntHashTable(Arrays.copyOf(lines.values, lines.valueCount), lines.valueCount, hashFunction);
+        for (int i = 0; i < lines.valueCount; i++) {
+            if (lines.values[i] != EMPTY_SLOT) {
+                table.keyCount++;
+            }
+        }
+        table.markHomeSlots();
+        table.indexFileKeys();
+        return table;
+    }
+
+    // En una tabla leída de archivo solo se sabe qué claves están en su posición base
+    private void markHomeSlots() {
+        for (int slot = 0; slot < tableSize; slot++) {
+            if (slots[slot] != EMPTY_SLOT && homeSlot(slots[slot]) == slot) {
+                placements[slot] = PLACED_HOME;
+                probeLengths[slot] = 1;
+            }
+        }
+    }
+
+    /**
+     * Un archivo no dice qué solución ubicó cada clave: van al índice las que
+     * no están en la fila de su posición base y todas las copias de una clave
+     * repetida, así al eliminar una copia se puede ubicar la siguiente.
+     */
+    private void indexFileKeys() {
+        KeyIndex copies = new KeyIndex();
+        for (int slot = 0; slot < tableSize; slot++) {
+            int columns = columnCount(slot);
+            for (int column = 0; column < columns; column++) {
+                copies.add(get(slot, column), slot);
+            }
+        }
+
+        for (int slot = 0; slot < tableSize; slot++) {
+            int columns = columnCount(slot);
+            for (int column = 0; column < columns; column++) {
+                int key = get(slot, column);
+                int home = homeSlot(key);
+                if (copies.countOf(key) > 1 || !isInRange(home) || !rowContains(home, key)) {
+                    members.add(key, slot);
+                }
+            }
+        }
+    }
+
+    // Una fila por línea seguida de las líneas de comentario del formato
+    public void writeRows(File file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new BufferedWriter(new FileWriter(file)))) {
+            for (int slot = 0; slot < tableSize; slot++) {
+                writer.print('[');
+                writer.print(slots[slot]);
+                if (chainHead != null) {
+                    for (int entry = chainHead[slot]; entry != NONE; entry = chainNext[entry]) {
+                        writer.print(", ");
+                        writer.print(chainKeys[entry]);
+                    }
+                }
+                writer.println(']');
+            }
+
+            writer.println("# Formato: cada línea representa una fila de la tabla hash");
+            writer.println("# [valor1, valor2, ...] para múltiples valores en la misma posición");
+            writer.println("# [-1] para posiciones vacías");
+        }
+    }
+
+    // Todas las posiciones en una sola línea; solo para tablas sin columnas adicionales
+    public void writeSlots(File file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new BufferedWriter(new FileWriter(file)))) {
+            writer.print('[');
+            for (int slot = 0; slot < tableSize; slot++) {
+                if (slot > 0) {
+                    writer.print(", ");
+                }
+                writer.print(slots[slot]);
+            }
+            writer.println(']');
+        }
+    }
+
+    // Valores de las líneas con datos de un archivo y dónde termina cada línea
+    private static final class ParsedLines {
+        int[] values = new int[1024];
+        int valueCount;
+        int[] lineEnds = new int[256];
+        int lineCount;
+
+        static ParsedLines read(File file) throws IOException {
+            ParsedLines lines = new ParsedLines();
+            StringBuilder token = new StringBuilder();
+
+            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("#")) {
+                        continue;
+                    }
+
+                    for (int i = 0; i <= line.length(); i++) {
+                        char c = i < line.length() ? line.charAt(i) : ',';
+                        if (c == ',' || c == '[' || c == ']' || Character.isWhitespace(c)) {
+                            if (token.length() > 0) {
+                                Integer value = IntKeyStore.parseToken(token);
+                                if (value != null) {
+                                    lines.addValue(value);
+                                }
+                                token.setLength(0);
+                            }
+                        } else {
+                            token.append(c);
+                        }
+                    }
+                    lines.endLine();
+                }
+            }
+            return lines;
+        }
+
+        void addValue(int value) {
+            if (valueCount == values.length) {
+                values = Arrays.copyOf(values, valueCount * 2);
+            }
+            values[valueCount++] = value;
+        }
+
+        void endLine() {
+            if (lineCount == lineEnds.length) {
+                lineEnds = Arrays.copyOf(lineEnds, lineCount * 2);
+            }
+            lineEnds[lineCount++] = valueCount;
+        }
+    }
+
+    /**
+     * Índice clave → posición con direccionamiento abierto para las claves
+     * fuera del alcance de las secuencias de sondeo. Guarda una posición por
+     * clave y cuántas copias hay (un archivo puede repetir claves). Se
+     * duplica al superar la mitad de ocupación y borra con desplazamiento
+     * hacia atrás, como el índice de LookupCache.
+     */
+    private static final class KeyIndex {
+
+        private int[] keys = new int[16];
+        private int[] positions = new int[16];
+        private int[] counts = new int[16];
+        private int mask = 15;
+        private int shift = 28;
+        private int used;
+
+        private int bucket(int key) {
+            return (key * 0x9E3779B9) >>> shift;
+        }
+
+        // Celda de la clave, o la celda vacía donde iría
+        private int cell(int key) {
+            int i = bucket(key);
+            while (counts[i] != 0 && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        // Posición guardada para la clave, o -1
+        int slotOf(int key) {
+            int i = cell(key);
+            return counts[i] != 0 ? positions[i] : NOT_FOUND;
+        }
+
+        // Copias registradas de la clave (0 si no está)
+        int countOf(int key) {
+            return counts[cell(key)];
+        }
+
+        // Una copia repetida conserva la posición de la primera
+        void add(int key, int slot) {
+            int i = cell(key);
+            if (counts[i] != 0) {
+                counts[i]++;
+                return;
+            }
+            keys[i] = key;
+            positions[i] = slot;
+            counts[i] = 1;
+            if (++used * 2 > keys.length) {
+                grow();
+            }
+        }
+
+        void moveTo(int key, int slot) {
+            positions[cell(key)] = slot;
+        }
+
+        // Descuenta una copia; true si todavía quedan otras
+        boolean remove(int key) {
+            int i = cell(key);
+            if (counts[i] == 0) {
+                return false;
+            }
+            if (--counts[i] > 0) {
+                return true;
+            }
+            used--;
+
+            int hole = i;
+            for (int j = (hole + 1) & mask; counts[j] != 0; j = (j + 1) & mask) {
+                int home = bucket(keys[j]);
+                // La entrada en j puede ocupar el hueco si su celda ideal no está entre el hueco y j
+                if (((j - home) & mask) >= ((j - hole) & mask)) {
+                    keys[hole] = keys[j];
+                    positions[hole] = positions[j];
+                    counts[hole] = counts[j];
+                    hole = j;
+                }
+            }
+            counts[hole] = 0;
+            return false;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldPositions = positions;
+            int[] oldCounts = counts;
+            keys = new int[oldKeys.length * 2];
+            positions = new int[oldKeys.length * 2];
+            counts = new int[oldKeys.length * 2];
+            mask = keys.length - 1;
+            shift--;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldCounts[i] != 0) {
+                    int j = cell(oldKeys[i]);
+                    keys[j] = oldKeys[i];
+                    positions[j] = oldPositions[i];
+                    counts[j] = oldCounts[i];
+                }
+            }
+        }
+    }
+}
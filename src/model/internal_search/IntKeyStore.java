@@ -0,0 +1,286 @@
+package model.internal_search;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+/**
+ * Almacén de claves primitivo para las búsquedas internas.
+ * - Las claves ocupan las posiciones [0, size) de un int[] sin valores centinela.
+ * - La capacidad es la longitud del arreglo; las posiciones libres se escriben
+ *   como -1 al guardar para mantener el formato de tabla existente.
+ */
+public class IntKeyStore {
+
+    // Valor con el que se representa una posición vacía en los archivos
+    public static final int EMPTY_SLOT = -1;
+
+    private int[] keys;
+    private int size;
+    // Se mantiene al modificar para que isSorted() no recorra el arreglo
+    private boolean sorted;
+
+    public IntKeyStore(int capacity) {
+        this.keys = new int[Math.max(capacity, 0)];
+        this.size = 0;
+        this.sorted = true;
+    }
+
+    private IntKeyStore(int[] keys, int size) {
+        this.keys = keys;
+        this.size = size;
+        this.sorted = checkSorted();
+    }
+
+    /**
+     * Construye el almacén a partir de una tabla en formato antiguo,
+     * donde -1 marca las posiciones vacías.
+     */
+    public static IntKeyStore fromTable(int[] table, int length) {
+        int[] keys = new int[length];
+        int size = 0;
+        for (int i = 0; i < length; i++) {
+            if (table[i] != EMPTY_SLOT) {
+                keys[size++] = table[i];
+            }
+        }
+        return new IntKeyStore(keys, size);
+    }
+
+    /**
+     * Lee un archivo de claves ("[12, 14, -1]", separadas por comas o espacios).
+     * Cada -1 cuenta como posición libre; el resto se guarda de forma compacta.
+     */
+    public static IntKeyStore readFrom(File file) throws IOException {
+        int[] table = new int[1024];
+        int length = 0;
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            StringBuilder token = new StringBuilder();
+            char[] buffer = new char[8192];
+            int read;
+
+            while ((read = reader.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    char c = buffer[i];
+                    if (c == ',' || c == '[' || c == ']' || Character.isWhitespace(c)) {
+                        if (token.length() > 0) {
+                            Integer value = parseToken(token);
+                            if (value != null) {
+                                if (length == table.length) {
+                                    table = Arrays.copyOf(table, table.length * 2);
+                                }
+                                table[length++] = value;
+                            }
+                            token.setLength(0);
+                        }
+                    } else {
+                        token.append(c);
+                    }
+                }
+            }
+
+            // Último token si el archivo no termina en separador
+            if (token.length() > 0) {
+                Integer value = parseToken(token);
+                if (value != null) {
+                    if (length == table.length) {
+                        table = Arrays.copyOf(table, table.length * 2);
+                    }
+                    table[length++] = value;
+                }
+            }
+        }
+
+        return fromTable(table, length);
+    }
+
+    // Convierte un token a entero sin crear cadenas intermedias
+    static Integer parseToken(CharSequence token) {
+        int i = 0;
+        boolean negative = false;
+        if (token.charAt(0) == '-' || token.charAt(0) == '+') {
+            negative = token.charAt(0) == '-';
+            i = 1;
+        }
+
+        if (i == token.length()) {
+            System.err.println("Valor no numérico ignorado: " + token);
+            return null;
+        }
+
+        long value = 0;
+        for (; i < token.length(); i++) {
+            int digit = token.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                System.err.println("Valor no numérico ignorado: " + token);
+                return null;
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                System.err.println("Valor no numérico ignorado: " + token);
+                return null;
+            }
+        }
+
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            System.err.println("Valor no numérico ignorado: " + token);
+            return null;
+        }
+        return (int) value;
+    }
+
+    /**
+     * Guarda el almacén en formato de tabla: claves seguidas de -1 hasta la capacidad.
+     */
+    public void writeTo(File file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(file)) {
+            writer.println(toTableString());
+        }
+    }
+
+    public String toTableString() {
+        StringBuilder sb = new StringBuilder(keys.length * 4 + 2);
+        sb.append('[');
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(i < size ? keys[i] : EMPTY_SLOT);
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    public boolean isFull() {
+        return size == keys.length;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Posición fuera de rango: " + index);
+        }
+        return keys[index];
+    }
+
+    public void set(int index, int value) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Posición fuera de rango: " + index);
+        }
+        keys[index] = value;
+        sorted = sorted
+                && (index == 0 || keys[index - 1] <= value)
+                && (index == size - 1 || value <= keys[index + 1]);
+    }
+
+    /**
+     * Acceso directo al arreglo para los motores de búsqueda.
+     * Solo las posiciones [0, size) contienen claves válidas; quien escriba
+     * directamente en él debe llamar a sort(), markUnsorted() o invalidateOrder() después.
+     */
+    public int[] rawKeys() {
+        return keys;
+    }
+
+    // Agrega una clave al final; retorna false si no hay espacio
+    public boolean add(int value) {
+        if (size == keys.length) {
+            return false;
+        }
+        sorted = sorted && (size == 0 || keys[size - 1] <= value);
+        keys[size++] = value;
+        return true;
+    }
+
+    // Elimina la clave en la posición indicada desplazando las siguientes
+    public void removeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Posición fuera de rango: " + index);
+        }
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        size--;
+    }
+
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    public void sort() {
+        if (!sorted) {
+            RadixSort.sort(keys, 0, size);
+            sorted = true;
+        }
+    }
+
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    // Marca el arreglo como no ordenado sin recorrerlo (reordenamientos parciales)
+    public void markUnsorted() {
+        sorted = false;
+    }
+
+    // Recalcula el orden tras una escritura directa sobre rawKeys()
+    public void invalidateOrder() {
+        sorted = checkSorted();
+    }
+
+    private boolean checkSorted() {
+        for (int i = 1; i < size; i++) {
+            if (keys[i - 1] > keys[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Vacía el almacén y fija una nueva capacidad
+    public void reset(int capacity) {
+        keys = new int[Math.max(capacity, 0)];
+        size = 0;
+        sorted = true;
+    }
+
+    // Reemplaza el contenido por el de otro almacén
+    public void replaceWith(IntKeyStore other) {
+        this.keys = other.keys;
+        this.size = other.size;
+        this.sorted = other.sorted;
+    }
+
+    // Reemplaza las claves por las de una lista ordenada que quepa en la capacidad actual
+    public void copyFrom(SortedBlockList sortedKeys) {
+        if (sortedKeys.size() > keys.length) {
+            throw new IllegalArgumentException("La lista no cabe en la capacidad del arreglo");
+        }
+        sortedKeys.copyTo(keys);
+        size = sortedKeys.size();
+        sorted = true;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(keys, size);
+    }
+}
@@ -0,0 +1,99 @@
+package model.internal_search;
+
+import java.util.Arrays;
+
+/**
+ * Árbol de búsqueda estático de aridad 16 (estilo FAST / B+ implícito) para
+ * claves ordenadas de solo lectura.
+ * - Cada nodo es un bloque de 16 claves (64 bytes, una línea de caché).
+ * - El nivel 0 son las claves ordenadas rellenadas hasta múltiplo de 16; cada
+ *   nivel superior guarda la clave máxima de cada bloque del nivel inferior.
+ * - En cada nodo se cuentan, sin saltos, las claves menores que el objetivo:
+ *   ese conteo es el hijo por el que se baja, así cada nivel descarta 16 veces
+ *   más claves que un paso de la búsqueda binaria.
+ */
+public class KarySearchTree {
+
+    public static final int NODE_KEYS = 16;
+
+    // levels[0] son las hojas; el último nivel es la raíz (un solo nodo)
+    private final int[][] levels;
+    private final int size;
+
+    private KarySearchTree(int[][] levels, int size) {
+        this.levels = levels;
+        this.size = size;
+    }
+
+    /**
+     * Construye el árbol a partir de las primeras size claves ya ordenadas.
+     */
+    public static KarySearchTree build(int[] sortedKeys, int size) {
+        int height = 1;
+        for (int blocks = blockCount(size); blocks > 1; blocks = blockCount(blocks)) {
+            height++;
+        }
+
+        int[][] levels = new int[height][];
+        levels[0] = padded(size);
+        System.arraycopy(sortedKeys, 0, levels[0], 0, size);
+
+        for (int h = 1; h < height; h++) {
+            int[] lower = levels[h - 1];
+            int childBlocks = lower.length / NODE_KEYS;
+            int[] level = padded(childBlocks);
+            for (int b = 0; b < childBlocks; b++) {
+                level[b] = lower[b * NODE_KEYS + NODE_KEYS - 1];
+            }
+            // El último bloque cubre todo lo que sigue: el descenso nunca sale de los bloques reales
+            level[childBlocks - 1] = Integer.MAX_VALUE;
+            levels[h] = level;
+        }
+        return new KarySearchTree(levels, size);
+    }
+
+    private static int blockCount(int keys) {
+        return Math.max(1, (keys + NODE_KEYS - 1) / NODE_KEYS);
+    }
+
+    // Arreglo con lugar para blockCount(keys) nodos completos, relleno con el máximo int
+    private static int[] padded(int keys) {
+        int[] level = new int[blockCount(keys) * NODE_KEYS];
+        Arrays.fill(level, keys, level.length, Integer.MAX_VALUE);
+        return level;
+    }
+
+    /**
+     * Retorna la posición de la clave en el arreglo ordenado, o -1.
+     */
+    public int search(int target) {
+        int node = 0;
+        for (int h = levels.length - 1; h > 0; h--) {
+            node = node * NODE_KEYS + rank(levels[h], node * NODE_KEYS, target);
+        }
+
+        // Si target supera todas las claves la posición queda en size
+        int position = node * NODE_KEYS + rank(levels[0], node * NODE_KEYS, target);
+        if (position >= size || levels[0][position] != target) {
+            return -1;
+        }
+        return position;
+    }
+
+    // Cantidad de claves del nodo menores que target; la resta en long da el signo sin saltos
+    private static int rank(int[] level, int base, int target) {
+        int count = 0;
+        for (int i = base; i < base + NODE_KEYS; i++) {
+            count += (int) (((long) level[i] - target) >>> 63);
+        }
+        return count;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getHeight() {
+        return levels.length;
+    }
+}
@@ -0,0 +1,204 @@
+package model.internal_search;
+
+import java.util.Arrays;
+
+/**
+ * Índice aprendido por tramos lineales (estilo PGM) sobre claves ordenadas.
+ * - Cada segmento aproxima posición = inicio + pendiente * (clave - primeraClave)
+ *   con un error máximo de epsilon posiciones para todas sus claves.
+ * - Los segmentos se construyen en una pasada con el método del cono que se
+ *   estrecha: se extiende el segmento mientras exista una pendiente válida.
+ * - La búsqueda elige el segmento, predice la posición y termina con una
+ *   búsqueda binaria solo dentro de la ventana [predicción - epsilon, predicción + epsilon].
+ */
+public class LearnedIndex {
+
+    public static final int DEFAULT_EPSILON = 32;
+    // Bytes por segmento: primera clave (int), inicio (int) y pendiente (double)
+    private static final int SEGMENT_BYTES = 16;
+
+    private final int[] keys;
+    private final int size;
+    private final int epsilon;
+
+    private int[] segmentKeys;
+    private int[] segmentStarts;
+    private double[] segmentSlopes;
+    private int segmentCount;
+    private double averageError;
+    private double averageWindow;
+
+    private LearnedIndex(int[] keys, int size, int epsilon) {
+        this.keys = keys;
+        this.size = size;
+        this.epsilon = epsilon;
+    }
+
+    public static LearnedIndex build(int[] sortedKeys, int size) {
+        return build(sortedKeys, size, DEFAULT_EPSILON);
+    }
+
+    /**
+     * Construye el modelo sobre las primeras size claves ordenadas; admite claves repetidas.
+     * El índice lee el arreglo recibido, no una copia: debe reconstruirse si cambia.
+     */
+    public static LearnedIndex build(int[] sortedKeys, int size, int epsilon) {
+        if (epsilon < 1) {
+            throw new IllegalArgumentException("El error máximo debe ser al menos 1");
+        }
+        LearnedIndex index = new LearnedIndex(sortedKeys, size, epsilon);
+        index.fitSegments();
+        return index;
+    }
+
+    private void fitSegments() {
+        int capacity = Math.max(1, size / (2 * epsilon) + 1);
+        segmentKeys = new int[capacity];
+        segmentStarts = new int[capacity];
+        segmentSlopes = new double[capacity];
+
+        int start = 0;
+        while (start < size) {
+            // Cono de pendientes que mantiene todas las claves del segmento dentro del error
+            double lowSlope = 0;
+            double highSlope = Double.POSITIVE_INFINITY;
+            long firstKey = keys[start];
+            int end = start + 1;
+
+            while (end < size) {
+                double dx = (double) keys[end] - firstKey;
+                double dy = end - start;
+                if (dx == 0) {
+                    // Copias de la primera clave: se predicen en el inicio, así que caben solo a epsilon posiciones
+                    if (dy > epsilon) {
+                        break;
+                    }
+                    end++;
+                    continue;
+                }
+                double low = Math.max(lowSlope, (dy - epsilon) / dx);
+                double high = Math.min(highSlope, (dy + epsilon) / dx);
+                if (low > high) {
+                    break;
+                }
+                lowSlope = low;
+                highSlope = high;
+                end++;
+            }
+
+            double slope = highSlope == Double.POSITIVE_INFINITY ? 0 : (lowSlope + highSlope) / 2;
+            addSegment(keys[start], start, slope);
+            start = end;
+        }
+
+        measureErrors();
+    }
+
+    private void addSegment(int firstKey, int start, double slope) {
+        if (segmentCount == segmentKeys.length) {
+            int capacity = segmentCount * 2;
+            segmentKeys = Arrays.copyOf(segmentKeys, capacity);
+            segmentStarts = Arrays.copyOf(segmentStarts, capacity);
+            segmentSlopes = Arrays.copyOf(segmentSlopes, capacity);
+        }
+        segmentKeys[segmentCount] = firstKey;
+        segmentStarts[segmentCount] = start;
+        segmentSlopes[segmentCount] = slope;
+        segmentCount++;
+    }
+
+    // Distancia promedio entre la posición predicha y la real, y ventana promedio recorrida
+    private void measureErrors() {
+        if (size == 0) {
+            return;
+        }
+        long totalError = 0;
+        long totalWindow = 0;
+        int segment = 0;
+        for (int i = 0; i < size; i++) {
+            if (segment + 1 < segmentCount && segmentStarts[segment + 1] == i) {
+                segment++;
+            }
+            int predicted = predict(segment, keys[i]);
+            totalError += Math.abs(predicted - i);
+            totalWindow += windowEnd(segment, predicted) - windowStart(segment, predicted);
+        }
+        averageError = (double) totalError / size;
+        averageWindow = (double) totalWindow / size;
+    }
+
+    /**
+     * Retorna la posición de la clave, o -1.
+     */
+    public int search(int target) {
+        if (size == 0 || target < segmentKeys[0]) {
+            return -1;
+        }
+
+        int segment = findSegment(target);
+        int predicted = predict(segment, target);
+
+        int from = windowStart(segment, predicted);
+        int to = windowEnd(segment, predicted);
+        if (from >= to) {
+            return -1;
+        }
+        return SortedSearchEngine.binarySearch(keys, from, to, target);
+    }
+
+    // Ventana de error [predicción - epsilon, predicción + epsilon], recortada al segmento
+    private int windowStart(int segment, int predicted) {
+        return Math.max(segmentStarts[segment], predicted - epsilon);
+    }
+
+    private int windowEnd(int segment, int predicted) {
+        int segmentEnd = segment + 1 < segmentCount ? segmentStarts[segment + 1] : size;
+        return Math.min(segmentEnd, predicted + epsilon + 1);
+    }
+
+    // Último segmento cuya primera clave es <= target
+    private int findSegment(int target) {
+        int low = 0;
+        int high = segmentCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (segmentKeys[mid] <= target) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private int predict(int segment, int target) {
+        double offset = segmentSlopes[segment] * ((double) target - segmentKeys[segment]);
+        return segmentStarts[segment] + (int) Math.round(offset);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getEpsilon() {
+        return epsilon;
+    }
+
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    // Tamaño del modelo, sin contar las claves
+    public long getModelBytes() {
+        return (long) segmentCount * SEGMENT_BYTES;
+    }
+
+    public double getAverageError() {
+        return averageError;
+    }
+
+    // Ventana promedio en la que trabaja la búsqueda binaria final
+    public double getAverageWindow() {
+        return averageWindow;
+    }
+}
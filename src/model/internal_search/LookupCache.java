@@ -0,0 +1,418 @@
+package model.internal_search;
+
+import java.util.Arrays;
+
+/**
+ * Caché acotada clave → posición para poner delante de cualquier motor de
+ * búsqueda cuando unas pocas claves concentran la mayoría de las consultas.
+ * - LRU: desaloja la entrada usada hace más tiempo.
+ * - CLOCK: aproximación de LRU con un bit de referencia y una manecilla que
+ *   da segundas oportunidades; un acierto solo enciende el bit.
+ * - W-TinyLFU: una ventana LRU pequeña (1%) recibe las claves nuevas; al
+ *   salir de ella una clave solo entra a la zona principal (LRU segmentada en
+ *   prueba y protegida) si su frecuencia estimada supera la de la víctima.
+ *   Las frecuencias se estiman con un count-min sketch que se reduce a la
+ *   mitad periódicamente para olvidar el pasado.
+ * Solo se guardan claves encontradas; los contadores de aciertos y fallos
+ * cuentan cada consulta hecha con get.
+ */
+public class LookupCache {
+
+    public static final String LRU = "LRU";
+    public static final String CLOCK = "CLOCK";
+    public static final String W_TINY_LFU = "W-TinyLFU";
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final int NONE = -1;
+    // Segmentos de W-TinyLFU; LRU usa solo el primero como su única lista
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private final String policy;
+    private final int capacity;
+    private final int windowCapacity;
+    private final int protectedCapacity;
+
+    // Entradas por ranura
+    private final int[] keys;
+    private final int[] positions;
+    // Listas doblemente enlazadas por índice de ranura, de la más reciente a la menos reciente
+    private final int[] prev;
+    private final int[] next;
+    private final byte[] segment;
+    private final boolean[] referenced;
+    private final int[] head = new int[3];
+    private final int[] tail = new int[3];
+    private final int[] segmentSize = new int[3];
+    private final int[] freeSlots;
+    private int freeCount;
+    private int hand;
+
+    // Índice clave → ranura + 1 con sondeo lineal; 0 es una celda vacía
+    private final int[] index;
+    private final int indexMask;
+    private final int indexShift;
+    private int count;
+
+    private final FrequencySketch sketch;
+
+    private long hits;
+    private long misses;
+    private boolean lastLookupHit;
+
+    public LookupCache(String policy, int capacity) {
+        if (!LRU.equals(policy) && !CLOCK.equals(policy) && !W_TINY_LFU.equals(policy)) {
+            throw new IllegalArgumentException("Política de desalojo desconocida: " + policy);
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser mayor que cero");
+        }
+        this.policy = policy;
+        this.capacity = capacity;
+        this.windowCapacity = W_TINY_LFU.equals(policy) ? Math.max(1, capacity / 100) : capacity;
+        this.protectedCapacity = (capacity - windowCapacity) * 4 / 5;
+
+        // W-TinyLFU admite una entrada de más mientras decide a quién desalojar
+        int slots = capacity + 1;
+        this.keys = new int[slots];
+        this.positions = new int[slots];
+        this.prev = new int[slots];
+        this.next = new int[slots];
+        this.segment = new byte[slots];
+        this.referenced = new boolean[slots];
+        this.freeSlots = new int[slots];
+
+        int indexSize = Integer.highestOneBit(slots * 2 - 1) << 1;
+        this.index = new int[indexSize];
+        this.indexMask = indexSize - 1;
+        this.indexShift = 32 - Integer.numberOfTrailingZeros(indexSize);
+        this.sketch = W_TINY_LFU.equals(policy) ? new FrequencySketch(capacity) : null;
+        clear();
+    }
+
+    /**
+     * Posición guardada para la clave, o -1 si no está en la caché.
+     */
+    public int get(int key) {
+        if (sketch != null) {
+            sketch.increment(key);
+        }
+
+        int slot = find(key);
+        lastLookupHit = slot != NONE;
+        if (slot == NONE) {
+            misses++;
+            return -1;
+        }
+
+        hits++;
+        onHit(slot);
+        return positions[slot];
+    }
+
+    // Guarda o actualiza la posición de una clave encontrada por el motor
+    public void put(int key, int position) {
+        int slot = find(key);
+        if (slot != NONE) {
+            positions[slot] = position;
+            return;
+        }
+
+        switch (policy) {
+            case LRU:
+                if (count == capacity) {
+                    evict(tail[WINDOW]);
+                }
+                slot = allocate(key, position);
+                pushFront(WINDOW, slot);
+                break;
+            case CLOCK:
+                slot = count == capacity ? sweep() : NONE;
+                if (slot != NONE) {
+                    removeFromIndex(keys[slot]);
+                    count--;
+                    keys[slot] = key;
+                    positions[slot] = position;
+                    addToIndex(key, slot);
+                    count++;
+                } else {
+                    slot = allocate(key, position);
+                }
+                referenced[slot] = false;
+                break;
+            default:
+                slot = allocate(key, position);
+                pushFront(WINDOW, slot);
+                if (segmentSize[WINDOW] > windowCapacity) {
+                    admitFromWindow();
+                }
+        }
+    }
+
+    // Descarta la entrada de una clave insertada, eliminada o reubicada
+    public void invalidate(int key) {
+        int slot = find(key);
+        if (slot != NONE) {
+            evict(slot);
+        }
+    }
+
+    // Descarta todas las entradas; los contadores de aciertos y fallos se conservan
+    public void clear() {
+        Arrays.fill(index, 0);
+        Arrays.fill(head, NONE);
+        Arrays.fill(tail, NONE);
+        Arrays.fill(segmentSize, 0);
+        Arrays.fill(referenced, false);
+        for (int i = 0; i < freeSlots.length; i++) {
+            freeSlots[i] = freeSlots.length - 1 - i;
+        }
+        freeCount = freeSlots.length;
+        count = 0;
+        hand = 0;
+    }
+
+    private void onHit(int slot) {
+        switch (policy) {
+            case LRU:
+                moveToFront(WINDOW, slot);
+                break;
+            case CLOCK:
+                referenced[slot] = true;
+                break;
+            default:
+                if (segment[slot] == PROBATION) {
+                    // Segundo acceso en la zona principal: pasa a la zona protegida
+                    unlink(slot);
+                    pushFront(PROTECTED, slot);
+                    if (segmentSize[PROTECTED] > protectedCapacity) {
+                        int demoted = tail[PROTECTED];
+                        unlink(demoted);
+                        pushFront(PROBATION, demoted);
+                    }
+                } else {
+                    moveToFront(segment[slot], slot);
+                }
+        }
+    }
+
+    // La clave más antigua de la ventana compite con la víctima de la zona principal
+    private void admitFromWindow() {
+        int candidate = tail[WINDOW];
+        unlink(candidate);
+
+        if (count <= capacity) {
+            pushFront(PROBATION, candidate);
+            return;
+        }
+
+        int victim = tail[PROBATION] != NONE ? tail[PROBATION] : tail[PROTECTED];
+        if (victim != NONE && sketch.frequency(keys[candidate]) > sketch.frequency(keys[victim])) {
+            evict(victim);
+            pushFront(PROBATION, candidate);
+        } else {
+            removeFromIndex(keys[candidate]);
+            count--;
+            freeSlots[freeCount++] = candidate;
+        }
+    }
+
+    // Avanza la manecilla apagando bits de referencia hasta hallar una ranura sin uso reciente
+    private int sweep() {
+        while (referenced[hand]) {
+            referenced[hand] = false;
+            hand = (hand + 1) % capacity;
+        }
+        int slot = hand;
+        hand = (hand + 1) % capacity;
+        return slot;
+    }
+
+    private int allocate(int key, int position) {
+        int slot = freeSlots[--freeCount];
+        keys[slot] = key;
+        positions[slot] = position;
+        addToIndex(key, slot);
+        count++;
+        return slot;
+    }
+
+    private void evict(int slot) {
+        if (!CLOCK.equals(policy)) {
+            unlink(slot);
+        }
+        referenced[slot] = false;
+        removeFromIndex(keys[slot]);
+        count--;
+        freeSlots[freeCount++] = slot;
+    }
+
+    private void pushFront(int list, int slot) {
+        segment[slot] = (byte) list;
+        prev[slot] = NONE;
+        next[slot] = head[list];
+        if (head[list] != NONE) {
+            prev[head[list]] = slot;
+        } else {
+            tail[list] = slot;
+        }
+        head[list] = slot;
+        segmentSize[list]++;
+    }
+
+    private void unlink(int slot) {
+        int list = segment[slot];
+        if (prev[slot] != NONE) {
+            next[prev[slot]] = next[slot];
+        } else {
+            head[list] = next[slot];
+        }
+        if (next[slot] != NONE) {
+            prev[next[slot]] = prev[slot];
+        } else {
+            tail[list] = prev[slot];
+        }
+        segmentSize[list]--;
+    }
+
+    private void moveToFront(int list, int slot) {
+        if (head[list] != slot) {
+            unlink(slot);
+            pushFront(list, slot);
+        }
+    }
+
+    private int bucket(int key) {
+        return (key * 0x9E3779B9) >>> indexShift;
+    }
+
+    private int find(int key) {
+        for (int i = bucket(key); index[i] != 0; i = (i + 1) & indexMask) {
+            int slot = index[i] - 1;
+            if (keys[slot] == key) {
+                return slot;
+            }
+        }
+        return NONE;
+    }
+
+    private void addToIndex(int key, int slot) {
+        int i = bucket(key);
+        while (index[i] != 0) {
+            i = (i + 1) & indexMask;
+        }
+        index[i] = slot + 1;
+    }
+
+    // Borrado con desplazamiento hacia atrás: no deja marcas que alarguen los sondeos
+    private void removeFromIndex(int key) {
+        int i = bucket(key);
+        while (keys[index[i] - 1] != key) {
+            i = (i + 1) & indexMask;
+        }
+
+        int hole = i;
+        for (int j = (hole + 1) & indexMask; index[j] != 0; j = (j + 1) & indexMask) {
+            int home = bucket(keys[index[j] - 1]);
+            // La entrada en j puede ocupar el hueco si su celda ideal no está entre el hueco y j
+            if (((j - home) & indexMask) >= ((j - hole) & indexMask)) {
+                index[hole] = index[j];
+                hole = j;
+            }
+        }
+        index[hole] = 0;
+    }
+
+    // Reinicia los contadores de aciertos y fallos
+    public void resetStats() {
+        hits = 0;
+        misses = 0;
+        lastLookupHit = false;
+    }
+
+    public String getPolicy() {
+        return policy;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    // Indica si la última consulta con get fue un acierto
+    public boolean isLastLookupHit() {
+        return lastLookupHit;
+    }
+
+    /**
+     * Count-min sketch de cuatro filas con contadores saturados en 15. Tras
+     * diez veces la capacidad en incrementos todos los contadores se dividen
+     * a la mitad, así las claves que dejan de consultarse pierden peso.
+     */
+    private static final class FrequencySketch {
+
+        private static final int ROWS = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+        private final byte[] counters;
+        private final int rowMask;
+        private final int rowShift;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int capacity) {
+            int width = Integer.highestOneBit(Math.max(16, capacity) * 2 - 1) << 1;
+            this.counters = new byte[ROWS * width];
+            this.rowMask = width - 1;
+            this.rowShift = Integer.numberOfTrailingZeros(width);
+            this.sampleSize = 10 * capacity;
+        }
+
+        private int cell(int row, int key) {
+            int hash = key * SEEDS[row];
+            hash ^= hash >>> 16;
+            return (row << rowShift) | (hash & rowMask);
+        }
+
+        void increment(int key) {
+            for (int row = 0; row < ROWS; row++) {
+                int cell = cell(row, key);
+                if (counters[cell] < MAX_COUNT) {
+                    counters[cell]++;
+                }
+            }
+            if (++additions == sampleSize) {
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] >>= 1;
+                }
+                additions /= 2;
+            }
+        }
+
+        int frequency(int key) {
+            int min = MAX_COUNT;
+            for (int row = 0; row < ROWS; row++) {
+                min = Math.min(min, counters[cell(row, key)]);
+            }
+            return min;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package model.internal_search;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Búsqueda secuencial paralela con Fork/Join.
+ * - El arreglo se divide en segmentos del tamaño de la caché L2.
+ * - En cuanto un segmento encuentra la clave, los segmentos posteriores se descartan
+ *   y los que ya están en curso se detienen en su siguiente tramo de revisión.
+ * - Siempre se retorna la posición más baja, igual que la búsqueda secuencial.
+ */
+public class ParallelSequentialSearch {
+
+    // Por debajo de este tamaño el costo de repartir tareas supera la ganancia
+    public static final int DEFAULT_THRESHOLD = 1 << 20;
+    // 64K claves = 256 KB por segmento
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 16;
+    // Claves recorridas entre dos consultas de la coincidencia compartida (16 KB)
+    private static final int CHECK_INTERVAL = 1 << 12;
+
+    private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int segmentSize;
+
+    public ParallelSequentialSearch(int parallelism) {
+        this(parallelism, DEFAULT_THRESHOLD, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public ParallelSequentialSearch(int parallelism, int threshold, int segmentSize) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("El paralelismo debe ser al menos 1");
+        }
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("El tamaño de segmento debe ser al menos 1");
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.threshold = threshold;
+        this.segmentSize = segmentSize;
+    }
+
+    public int search(int[] keys, int size, int target) {
+        // Arreglos pequeños o un solo hilo: recorrido serial
+        if (size < threshold || pool.getParallelism() == 1) {
+            return SequentialSearchEngine.scalarSearch(keys, size, target);
+        }
+
+        AtomicInteger lowestMatch = new AtomicInteger(NOT_FOUND);
+        pool.invoke(new SegmentTask(keys, 0, size, target, lowestMatch));
+
+        int position = lowestMatch.get();
+        return position == NOT_FOUND ? -1 : position;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    // Libera los hilos del pool
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private class SegmentTask extends RecursiveAction {
+        private final int[] keys;
+        private final int from;
+        private final int to;
+        private final int target;
+        private final AtomicInteger lowestMatch;
+
+        SegmentTask(int[] keys, int from, int to, int target, AtomicInteger lowestMatch) {
+            this.keys = keys;
+            this.from = from;
+            this.to = to;
+            this.target = target;
+            this.lowestMatch = lowestMatch;
+        }
+
+        @Override
+        protected void compute() {
+            // Ya hay una coincidencia anterior a este rango: no hace falta recorrerlo
+            if (from >= lowestMatch.get()) {
+                return;
+            }
+
+            if (to - from <= segmentSize) {
+                // Se abandona el segmento en cuanto otro encontró la clave antes del tramo siguiente
+                for (int start = from; start < to && start < lowestMatch.get(); start += CHECK_INTERVAL) {
+                    int end = Math.min(to, start + CHECK_INTERVAL);
+                    int position = SequentialSearchEngine.scalarSearch(keys, start, end, target);
+                    if (position != -1) {
+                        lowestMatch.accumulateAndGet(position, Math::min);
+                        return;
+                    }
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new SegmentTask(keys, from, mid, target, lowestMatch),
+                    new SegmentTask(keys, mid, to, target, lowestMatch));
+        }
+    }
+}
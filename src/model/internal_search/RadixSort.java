@@ -0,0 +1,140 @@
+package model.internal_search;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Ordenamiento radix LSD para claves int primitivas.
+ * - Cuatro pasadas de 8 bits; en la última se invierte el bit de signo para
+ *   que las claves negativas queden antes que las positivas.
+ * - Las pasadas en las que todas las claves comparten el mismo byte se omiten
+ *   (claves de pocos dígitos se ordenan en una sola pasada).
+ * - Con arreglos grandes cada hilo cuenta su propio histograma y luego
+ *   distribuye su tramo en paralelo en las posiciones que le corresponden.
+ */
+public class RadixSort {
+
+    private static final int RADIX = 256;
+    private static final int PASSES = 4;
+    // Por debajo de este tamaño el costo fijo de los histogramas no compensa
+    private static final int SMALL_ARRAY = 256;
+    // Tamaño mínimo del tramo de cada hilo
+    private static final int MIN_CHUNK = 1 << 16;
+
+    private RadixSort() {
+    }
+
+    public static void sort(int[] keys) {
+        sort(keys, 0, keys.length);
+    }
+
+    // Ordena el rango [from, to)
+    public static void sort(int[] keys, int from, int to) {
+        int n = to - from;
+        if (n < SMALL_ARRAY) {
+            Arrays.sort(keys, from, to);
+            return;
+        }
+
+        int chunks = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), n / MIN_CHUNK));
+        int[] source = keys;
+        int sourceFrom = from;
+        int[] target = new int[n];
+        int targetFrom = 0;
+
+        for (int pass = 0; pass < PASSES; pass++) {
+            int shift = pass * 8;
+            // En la última pasada se invierte el signo para ordenar también negativos
+            int flip = pass == PASSES - 1 ? 0x80 : 0;
+
+            int[][] histograms = countDigits(source, sourceFrom, n, chunks, shift, flip);
+            if (isSingleBucket(histograms, n)) {
+                continue;
+            }
+
+            int[][] offsets = computeOffsets(histograms, targetFrom);
+            scatter(source, sourceFrom, n, chunks, shift, flip, target, offsets);
+
+            int[] swapArray = source;
+            source = target;
+            target = swapArray;
+            int swapFrom = sourceFrom;
+            sourceFrom = targetFrom;
+            targetFrom = swapFrom;
+        }
+
+        if (source != keys) {
+            System.arraycopy(source, sourceFrom, keys, from, n);
+        }
+    }
+
+    // Histograma de cada tramo para el byte indicado
+    private static int[][] countDigits(int[] source, int from, int n, int chunks, int shift, int flip) {
+        int[][] histograms = new int[chunks][RADIX];
+        forEachChunk(chunks, chunk -> {
+            int[] histogram = histograms[chunk];
+            int start = from + chunkStart(chunk, chunks, n);
+            int end = from + chunkStart(chunk + 1, chunks, n);
+            for (int i = start; i < end; i++) {
+                histogram[((source[i] >>> shift) & 0xFF) ^ flip]++;
+            }
+        });
+        return histograms;
+    }
+
+    private static boolean isSingleBucket(int[][] histograms, int n) {
+        for (int digit = 0; digit < RADIX; digit++) {
+            int total = 0;
+            for (int[] histogram : histograms) {
+                total += histogram[digit];
+            }
+            if (total != 0) {
+                return total == n;
+            }
+        }
+        return true;
+    }
+
+    // Posición inicial de cada (tramo, dígito): los dígitos en orden y, dentro de cada uno, los tramos en orden
+    private static int[][] computeOffsets(int[][] histograms, int base) {
+        int[][] offsets = new int[histograms.length][RADIX];
+        int position = base;
+        for (int digit = 0; digit < RADIX; digit++) {
+            for (int chunk = 0; chunk < histograms.length; chunk++) {
+                offsets[chunk][digit] = position;
+                position += histograms[chunk][digit];
+            }
+        }
+        return offsets;
+    }
+
+    // Cada tramo copia sus claves a posiciones disjuntas, por lo que no hay contención
+    private static void scatter(int[] source, int from, int n, int chunks, int shift, int flip,
+                                int[] target, int[][] offsets) {
+        forEachChunk(chunks, chunk -> {
+            int[] offset = offsets[chunk];
+            int start = from + chunkStart(chunk, chunks, n);
+            int end = from + chunkStart(chunk + 1, chunks, n);
+            for (int i = start; i < end; i++) {
+                int key = source[i];
+                target[offset[((key >>> shift) & 0xFF) ^ flip]++] = key;
+            }
+        });
+    }
+
+    private static int chunkStart(int chunk, int chunks, int n) {
+        return (int) ((long) n * chunk / chunks);
+    }
+
+    private interface ChunkAction {
+        void run(int chunk);
+    }
+
+    private static void forEachChunk(int chunks, ChunkAction action) {
+        if (chunks == 1) {
+            action.run(0);
+        } else {
+            IntStream.range(0, chunks).parallel().forEach(action::run);
+        }
+    }
+}
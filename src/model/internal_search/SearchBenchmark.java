@@ -0,0 +1,997 @@
+package model.internal_search;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Mediciones de rendimiento de los motores de búsqueda interna.
+ * Se ejecuta desde consola: java model.internal_search.SearchBenchmark
+ */
+public class SearchBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private interface Search {
+        int find(int target);
+    }
+
+    public static void main(String[] args) {
+        int[] sizes = {1_000, 100_000, 10_000_000};
+        for (int size : sizes) {
+            benchmarkSequential(size);
+        }
+        benchmarkSelfOrganizing(10_000, 1_000_000);
+        benchmarkCracking(10_000_000, 10_000);
+        benchmarkLookupCache(10_000, 1_000_000);
+        for (int size : sizes) {
+            benchmarkSorted(size);
+        }
+        benchmarkLayouts(1_000);
+        benchmarkLayouts(1_000_000);
+        benchmarkLayouts(100_000_000);
+        benchmarkInserts();
+        benchmarkTombstones(1_000_000);
+        benchmarkSkipList(1_000_000);
+        benchmarkHashTable(1_000_000);
+        benchmarkCheckedInserts(1_000_000);
+        benchmarkDisplacedLookups(20_000);
+        benchmarkProbeLengths(100_003);
+        benchmarkProbeLengths(100_000);
+        benchmarkCuckoo(1_000_000);
+        benchmarkSwissTable(1 << 20);
+        benchmarkDigitHashes(1_000_000);
+        benchmarkBatchHashing(1_000_000);
+        benchmarkSort(1_000_000);
+        benchmarkSort(10_000_000);
+    }
+
+    // Radix LSD frente al ordenamiento por comparación de Integer usado antes
+    private static void benchmarkSort(int size) {
+        Random random = new Random(13);
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+        }
+        System.out.println("Ordenamiento, n = " + size);
+
+        List<Integer> boxed = new ArrayList<>(size);
+        for (int value : values) {
+            boxed.add(value);
+        }
+        long start = System.nanoTime();
+        Collections.sort(boxed);
+        System.out.printf("  Collections.sort (Integer): %.1f ms%n", (System.nanoTime() - start) / 1e6);
+
+        int[] copy = values.clone();
+        start = System.nanoTime();
+        Arrays.sort(copy);
+        System.out.printf("  Arrays.sort (int): %.1f ms%n", (System.nanoTime() - start) / 1e6);
+
+        copy = values.clone();
+        start = System.nanoTime();
+        RadixSort.sort(copy);
+        System.out.printf("  radix LSD: %.1f ms%n", (System.nanoTime() - start) / 1e6);
+    }
+
+    // Inserciones aleatorias: lista por bloques frente a reordenar todo el arreglo
+    private static void benchmarkInserts() {
+        System.out.println("Inserciones ordenadas aleatorias");
+
+        Random random = new Random(11);
+        int[] values = new int[1_000_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt();
+        }
+
+        long start = System.nanoTime();
+        SortedBlockList list = new SortedBlockList();
+        for (int value : values) {
+            list.insert(value);
+        }
+        reportInserts("  lista por bloques", values.length, System.nanoTime() - start);
+
+        // El método anterior (agregar y ordenar todo) solo es viable con pocas claves
+        int oldCount = 10_000;
+        IntKeyStore store = new IntKeyStore(oldCount);
+        start = System.nanoTime();
+        for (int i = 0; i < oldCount; i++) {
+            if (!store.contains(values[i])) {
+                store.add(values[i]);
+                Arrays.sort(store.rawKeys(), 0, store.size());
+            }
+        }
+        reportInserts("  agregar y reordenar", oldCount, System.nanoTime() - start);
+    }
+
+    // Inserciones concurrentes en la skip list con 1, 2 y 4 hilos escritores
+    private static void benchmarkSkipList(int total) {
+        System.out.println("Skip list concurrente, " + total + " inserciones, "
+                + Runtime.getRuntime().availableProcessors() + " procesadores");
+
+        for (int threads = 1; threads <= 4; threads *= 2) {
+            ConcurrentIntSkipList list = new ConcurrentIntSkipList();
+            Thread[] writers = new Thread[threads];
+            int perThread = total / threads;
+
+            long start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                long seed = 31 + t;
+                writers[t] = new Thread(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < perThread; i++) {
+                        list.insert(random.nextInt());
+                    }
+                });
+                writers[t].start();
+            }
+            for (Thread writer : writers) {
+                try {
+                    writer.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+
+            System.out.printf("  %d hilo(s): %.2f M inserciones/s (%d claves)%n",
+                    threads, perThread * threads / (elapsed / 1e9) / 1e6, list.size());
+        }
+    }
+
+    // Hashes por dígitos: versión aritmética frente a la anterior sobre cadenas
+    private static void benchmarkDigitHashes(int count) {
+        int tableSize = 1000;
+        int[] positions = {1, 3, 5};
+        System.out.println("Hash por dígitos, " + count + " claves, tabla de " + tableSize + " posiciones");
+
+        Random random = new Random(29);
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = random.nextInt(100_000_000);
+        }
+
+        reportHashes("  plegamiento, cadenas", keys, key -> StringDigitHashes.folding(key, tableSize));
+        reportHashes("  plegamiento, aritmético", keys, key -> DigitHashes.folding(key, tableSize));
+        reportHashes("  truncamiento, cadenas", keys, key -> StringDigitHashes.truncation(key, positions, tableSize));
+        reportHashes("  truncamiento, aritmético", keys, key -> DigitHashes.truncation(key, positions, tableSize));
+        reportHashes("  cuadrado medio, cadenas", keys, key -> StringDigitHashes.middleSquare(key, tableSize));
+        reportHashes("  cuadrado medio, aritmético", keys, key -> DigitHashes.middleSquare(key, tableSize));
+    }
+
+    // Posiciones base clave por clave (homeSlot) frente al lote completo (homeSlots)
+    private static void benchmarkBatchHashing(int count) {
+        int tableSize = 1013;
+        System.out.println("Hash en lote, " + count + " claves, tabla de " + tableSize + " posiciones");
+
+        Random random = new Random(31);
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = random.nextInt(100_000);
+        }
+
+        // Como TruncSearchView: las posiciones se leen del texto en cada consulta
+        String positionsText = "2,4";
+        Supplier<int[]> positions = () -> {
+            String[] parts = positionsText.split(",");
+            int[] result = new int[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                result[i] = Integer.parseInt(parts[i].trim());
+            }
+            return result;
+        };
+
+        String[] names = {"módulo", "plegamiento", "truncamiento", "cuadrado medio"};
+        HashFunction[] functions = {HashFunction.modulo(), HashFunction.folding(),
+                HashFunction.truncation(positions), HashFunction.middleSquare()};
+
+        for (int f = 0; f < functions.length; f++) {
+            IntHashTable table = new IntHashTable(tableSize, functions[f]);
+            reportHashes("  " + names[f] + ", una a una", keys, table::homeSlot);
+            reportHashes("  " + names[f] + ", en lote", keys.length, () -> table.homeSlots(keys)[keys.length - 1]);
+        }
+    }
+
+    // Imprime millones de hashes por segundo y los bytes reservados por hash en el hilo actual
+    private static void reportHashes(String label, int[] keys, Search hash) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long best = Long.MAX_VALUE;
+        long allocated = 0;
+        int sink = 0;
+
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            for (int key : keys) {
+                sink += hash.find(key);
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round >= WARMUP_ROUNDS && elapsed < best) {
+                best = elapsed;
+                allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            }
+        }
+
+        System.out.printf("%s: %.1f M hashes/s, %.1f bytes por hash (%d)%n",
+                label, keys.length / (best / 1e9) / 1e6, (double) allocated / keys.length, sink & 1);
+    }
+
+    // Tabla hash primitiva frente a la lista de filas List<List<Integer>> usada antes (módulo, prueba secuencial)
+    private static void benchmarkHashTable(int size) {
+        int tableSize = size * 2;
+        System.out.println("Tabla hash por módulo, " + size + " claves en " + tableSize + " posiciones");
+
+        Random random = new Random(23);
+        int[] keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+
+        IntHashTable table = new IntHashTable(tableSize, HashFunction.modulo());
+        long start = System.nanoTime();
+        for (int key : keys) {
+            table.insert(key, IntHashTable.LINEAR_PROBING);
+        }
+        reportInserts("  int[]", size, System.nanoTime() - start);
+
+        List<List<Integer>> rows = new ArrayList<>(tableSize);
+        for (int i = 0; i < tableSize; i++) {
+            List<Integer> row = new ArrayList<>();
+            row.add(-1);
+            rows.add(row);
+        }
+        start = System.nanoTime();
+        for (int key : keys) {
+            int position = key % tableSize;
+            while (rows.get(position).get(0) != -1 && rows.get(position).get(0) != key) {
+                position = (position + 1) % tableSize;
+            }
+            rows.get(position).set(0, key);
+        }
+        reportInserts("  List<List<Integer>>", size, System.nanoTime() - start);
+
+        int[] targets = new int[size];
+        for (int i = 0; i < size; i++) {
+            targets[i] = keys[random.nextInt(size)];
+        }
+        reportLookups("  int[]", targets, table::find);
+        reportLookups("  List<List<Integer>>", targets, target -> {
+            int position = target % tableSize;
+            for (int attempts = 0; attempts < tableSize; attempts++) {
+                for (Integer value : rows.get(position)) {
+                    if (value == target) {
+                        return position;
+                    }
+                }
+                position = (position + 1) % tableSize;
+            }
+            return -1;
+        });
+    }
+
+    // Inserciones como en los controladores: contains antes de cada insert para rechazar duplicados
+    private static void benchmarkCheckedInserts(int size) {
+        System.out.println("Inserciones con verificación de duplicados, " + size + " claves");
+
+        Random random = new Random(37);
+        int[] keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+
+        IntHashTable probing = new IntHashTable(size * 2, HashFunction.modulo());
+        long start = System.nanoTime();
+        for (int key : keys) {
+            if (!probing.contains(key)) {
+                probing.insert(key, IntHashTable.LINEAR_PROBING);
+            }
+        }
+        reportInserts("  secuencial, tabla de " + probing.tableSize(), size, System.nanoTime() - start);
+
+        IntHashTable columns = new IntHashTable(Math.max(1, size / 4), HashFunction.modulo());
+        start = System.nanoTime();
+        for (int key : keys) {
+            if (!columns.contains(key)) {
+                columns.insert(key, IntHashTable.EXTRA_COLUMNS);
+            }
+        }
+        reportInserts("  columnas adicionales, tabla de " + columns.tableSize(), size, System.nanoTime() - start);
+
+        // Claves ausentes: antes cada una recorría la tabla completa
+        int[] absent = new int[size];
+        for (int i = 0; i < size; i++) {
+            absent[i] = -2 - random.nextInt(Integer.MAX_VALUE - 2);
+        }
+        reportLookups("  ausentes, secuencial", absent, probing::find);
+    }
+
+    /**
+     * Consultas de claves que ninguna secuencia de prueba alcanza: las del área
+     * de desbordamiento, cuyas posiciones base cambian cada vez que la tabla
+     * crece, y las que quedan tras eliminar la mitad de un grupo secuencial.
+     */
+    private static void benchmarkDisplacedLookups(int size) {
+        System.out.println("Consultas de claves reubicadas, " + size + " claves");
+
+        Random random = new Random(43);
+        int[] keys = new int[size];
+        IntHashTable overflow = new IntHashTable(1000, HashFunction.middleSquare());
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt(100_000);
+            if (!overflow.contains(keys[i])) {
+                overflow.insert(keys[i], IntHashTable.OVERFLOW_AREA);
+            }
+        }
+        reportLookups("  área de desbordamiento, tabla de " + overflow.tableSize(), keys, overflow::find);
+
+        IntHashTable probing = new IntHashTable(size + size / 4, HashFunction.modulo());
+        for (int key : keys) {
+            if (!probing.contains(key)) {
+                probing.insert(key, IntHashTable.LINEAR_PROBING);
+            }
+        }
+        for (int i = 0; i < size; i += 2) {
+            probing.remove(keys[i]);
+        }
+        int[] remaining = new int[size / 2];
+        for (int i = 0; i < remaining.length; i++) {
+            remaining[i] = keys[2 * i + 1];
+        }
+        reportLookups("  secuencial tras eliminar la mitad", remaining, probing::find);
+    }
+
+    // Sondeos máximo y promedio de cada solución de colisión con la tabla casi llena
+    private static void benchmarkProbeLengths(int tableSize) {
+        System.out.println("Longitud de sondeo, tabla de " + tableSize + " posiciones");
+
+        String[] strategies = {IntHashTable.LINEAR_PROBING, IntHashTable.QUADRATIC_PROBING,
+                IntHashTable.ROBIN_HOOD, IntHashTable.DOUBLE_HASHING};
+        for (double loadFactor : new double[]{0.9, 0.95, 0.99}) {
+            int count = (int) (tableSize * loadFactor);
+            Random random = new Random(47);
+            int[] keys = new int[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = random.nextInt(Integer.MAX_VALUE);
+            }
+
+            for (String strategy : strategies) {
+                IntHashTable table = new IntHashTable(tableSize, HashFunction.modulo());
+                int[] positions = new int[count];
+                long start = System.nanoTime();
+                table.insertAll(keys, strategy, positions);
+                long elapsed = System.nanoTime() - start;
+
+                // Con un tamaño no primo la secuencia cuadrática no visita todas las posiciones
+                int unplaced = 0;
+                for (int key : keys) {
+                    if (!table.contains(key)) {
+                        unplaced++;
+                    }
+                }
+                System.out.printf("  carga %.2f, %s: máx %d, promedio %.2f, %.1f ms%s%n", (double) table.size() / tableSize,
+                        strategy, table.maxProbeLength(), table.averageProbeLength(), elapsed / 1e6,
+                        unplaced > 0 ? ", " + unplaced + " sin lugar" : "");
+            }
+        }
+    }
+
+    /**
+     * Cuckoo de cuatro vías frente a sondeo secuencial con la misma carga. Una
+     * búsqueda cuckoo revisa a lo sumo 2 * WAYS celdas; la secuencial, tantas
+     * como su sondeo más largo.
+     */
+    private static void benchmarkCuckoo(int size) {
+        System.out.println("Tabla cuckoo de " + CuckooHashTable.WAYS + " vías, " + size + " claves");
+
+        String[] names = {"módulo", "plegamiento", "cuadrado medio", "truncamiento"};
+        Random random = new Random(53);
+        int[] keys = new int[size];
+        int[] absent = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt(Integer.MAX_VALUE);
+            absent[i] = -2 - random.nextInt(Integer.MAX_VALUE - 2);
+        }
+
+        for (double loadFactor : new double[]{0.5, 0.9}) {
+            int buckets = (int) (size / (CuckooHashTable.WAYS * loadFactor));
+            CuckooHashTable cuckoo = new CuckooHashTable(buckets, HashFunction.modulo(), HashFunction.folding(),
+                    HashFunction.middleSquare(), HashFunction.truncation(() -> new int[]{9, 10}));
+            long start = System.nanoTime();
+            for (int key : keys) {
+                cuckoo.insert(key);
+            }
+            reportInserts(String.format("  cuckoo, carga %.2f", loadFactor), size, System.nanoTime() - start);
+            System.out.printf("    %d desalojos, %d rehash, funciones %s y %s, carga final %.2f, máx %d celdas por búsqueda%n",
+                    cuckoo.getEvictions(), cuckoo.getRehashes(), names[cuckoo.firstFunction()],
+                    names[cuckoo.secondFunction()], cuckoo.loadFactor(), 2 * CuckooHashTable.WAYS);
+            reportLookups("    presentes", keys, cuckoo::find);
+            reportLookups("    ausentes", absent, cuckoo::find);
+
+            IntHashTable probing = new IntHashTable((int) (size / loadFactor), HashFunction.modulo());
+            probing.insertAll(keys, IntHashTable.LINEAR_PROBING, new int[size]);
+            System.out.printf("  secuencial, carga %.2f: máx %d sondeos, promedio %.2f%n",
+                    loadFactor, probing.maxProbeLength(), probing.averageProbeLength());
+            reportLookups("    presentes", keys, probing::find);
+            reportLookups("    ausentes", absent, probing::find);
+        }
+    }
+
+    /**
+     * SwissTable frente a sondeo secuencial a 7/8 de carga, la máxima de la
+     * SwissTable, y con eliminaciones e inserciones alternadas que dejan
+     * lápidas hasta forzar el rehash en el mismo arreglo.
+     */
+    private static void benchmarkSwissTable(int capacity) {
+        int size = capacity - capacity / 8;
+        System.out.println("SwissTable, " + size + " claves en " + capacity + " posiciones");
+
+        Random random = new Random(59);
+        int[] keys = new int[size];
+        int[] absent = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt(Integer.MAX_VALUE);
+            absent[i] = -2 - random.nextInt(Integer.MAX_VALUE - 2);
+        }
+
+        SwissHashTable swiss = new SwissHashTable(size, HashFunction.modulo());
+        long start = System.nanoTime();
+        for (int key : keys) {
+            swiss.insert(key);
+        }
+        reportInserts("  SwissTable, tabla de " + swiss.capacity(), swiss.size(), System.nanoTime() - start);
+        reportLookups("    presentes", keys, swiss::find);
+        reportLookups("    ausentes", absent, swiss::find);
+
+        IntHashTable probing = new IntHashTable(capacity, HashFunction.modulo());
+        start = System.nanoTime();
+        int inserted = probing.insertAll(keys, IntHashTable.LINEAR_PROBING, new int[size]);
+        reportInserts("  secuencial, tabla de " + probing.tableSize(), inserted, System.nanoTime() - start);
+        System.out.printf("    máx %d sondeos, promedio %.2f%n", probing.maxProbeLength(), probing.averageProbeLength());
+        reportLookups("    presentes", keys, probing::find);
+        reportLookups("    ausentes", absent, probing::find);
+
+        // Con 3/4 de carga, eliminar una clave y agregar otra deja lápidas hasta que hace falta
+        // rehacer la tabla; como las claves caben, se rehace en el mismo arreglo sin crecer
+        int live = capacity / 4 * 3;
+        SwissHashTable churned = SwissHashTable.of(Arrays.copyOf(keys, live), capacity - capacity / 8, HashFunction.modulo());
+        int churn = 2 * capacity;
+        start = System.nanoTime();
+        for (int i = 0; i < churn; i++) {
+            int victim = random.nextInt(live);
+            churned.remove(keys[victim]);
+            keys[victim] = random.nextInt(Integer.MAX_VALUE);
+            churned.insert(keys[victim]);
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("  SwissTable a carga %.2f, %d eliminaciones e inserciones: %.1f ms; %d lápidas, %d rehash sin lápidas, %d crecimientos%n",
+                churned.loadFactor(), churn, elapsed / 1e6, churned.tombstones(), churned.getInPlaceRehashes(), churned.getGrowths());
+        reportLookups("    presentes", Arrays.copyOf(keys, live), churned::find);
+        reportLookups("    ausentes", absent, churned::find);
+    }
+
+    // Eliminaciones aleatorias: lápidas con compactación frente a lista por bloques y reordenar
+    private static void benchmarkTombstones(int size) {
+        System.out.println("Eliminaciones aleatorias, n = " + size);
+
+        Random random = new Random(19);
+        int[] keys = sortedKeys(size, random);
+        int[] victims = new int[size / 2];
+        for (int i = 0; i < victims.length; i++) {
+            victims[i] = keys[random.nextInt(size)];
+        }
+
+        TombstoneSortedArray tombstones = new TombstoneSortedArray(keys, size);
+        long start = System.nanoTime();
+        for (int victim : victims) {
+            tombstones.delete(victim);
+        }
+        long elapsed = System.nanoTime() - start;
+        try {
+            tombstones.awaitCompaction();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        tombstones.shutdown();
+        System.out.printf("  lápidas: %d eliminaciones en %.1f ms (%.2f µs por eliminación)%n",
+                victims.length, elapsed / 1e6, elapsed / 1e3 / victims.length);
+        System.out.printf("    umbral %.2f: %d compactaciones, última %.2f ms, total %.2f ms%n",
+                tombstones.getCompactionThreshold(), tombstones.getCompactionCount(),
+                tombstones.getLastCompactionNanos() / 1e6, tombstones.getTotalCompactionNanos() / 1e6);
+
+        SortedBlockList list = SortedBlockList.fromSorted(keys, size);
+        start = System.nanoTime();
+        for (int victim : victims) {
+            list.remove(victim);
+        }
+        elapsed = System.nanoTime() - start;
+        System.out.printf("  lista por bloques: %.1f ms (%.2f µs por eliminación)%n",
+                elapsed / 1e6, elapsed / 1e3 / victims.length);
+
+        // El método anterior (vaciar la posición y reordenar todo) solo es viable con pocas eliminaciones
+        int oldCount = 200;
+        IntKeyStore store = IntKeyStore.fromTable(keys, size);
+        start = System.nanoTime();
+        for (int i = 0; i < oldCount; i++) {
+            int index = store.indexOf(victims[i]);
+            if (index != -1) {
+                store.removeAt(index);
+                Arrays.sort(store.rawKeys(), 0, store.size());
+            }
+        }
+        elapsed = System.nanoTime() - start;
+        System.out.printf("  vaciar y reordenar: %d eliminaciones en %.1f ms (%.2f µs por eliminación)%n",
+                oldCount, elapsed / 1e6, elapsed / 1e3 / oldCount);
+    }
+
+    private static void reportInserts(String label, int count, long elapsed) {
+        System.out.printf("%s: %d inserciones en %.1f ms (%.2f µs por inserción)%n",
+                label, count, elapsed / 1e6, elapsed / 1e3 / count);
+    }
+
+    // Reproduce consultas con distribución Zipf (s = 1) y compara los sondeos promedio
+    private static void benchmarkSelfOrganizing(int size, int lookups) {
+        Random random = new Random(17);
+        int[] keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = i;
+        }
+        // Orden inicial aleatorio: las claves populares no empiezan al frente
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = keys[i];
+            keys[i] = keys[j];
+            keys[j] = swap;
+        }
+
+        // Distribución acumulada de Zipf sobre los rangos 1..size
+        double[] cumulative = new double[size];
+        double total = 0;
+        for (int rank = 0; rank < size; rank++) {
+            total += 1.0 / (rank + 1);
+            cumulative[rank] = total;
+        }
+        int[] trace = new int[lookups];
+        for (int i = 0; i < lookups; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            trace[i] = rank < 0 ? Math.min(-rank - 1, size - 1) : rank;
+        }
+
+        System.out.println("Búsqueda autoorganizada, n = " + size + ", " + lookups + " consultas Zipf");
+
+        long staticProbes = 0;
+        for (int target : trace) {
+            staticProbes += SequentialSearchEngine.scalarSearch(keys, size, target) + 1;
+        }
+        System.out.printf("  sin reorganizar: %.1f sondeos promedio%n", (double) staticProbes / lookups);
+
+        String[] policies = {SelfOrganizingSearch.MOVE_TO_FRONT, SelfOrganizingSearch.TRANSPOSE,
+                SelfOrganizingSearch.FREQUENCY_COUNT};
+        for (String policy : policies) {
+            IntKeyStore store = new IntKeyStore(size);
+            for (int key : keys) {
+                store.add(key);
+            }
+            SelfOrganizingSearch search = new SelfOrganizingSearch(policy);
+            for (int target : trace) {
+                search.search(store, target);
+            }
+            System.out.printf("  %s: %.1f sondeos promedio%n", policy, search.getAverageProbeLength());
+        }
+    }
+
+    // Tasa de aciertos y búsquedas por segundo de cada política de caché frente a un recorrido secuencial
+    private static void benchmarkLookupCache(int size, int lookups) {
+        Random random = new Random(29);
+        int[] keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+
+        // El 20% de las claves (una de cada cinco posiciones) recibe el 80% de las consultas
+        int hotKeys = size / 5;
+        int[] trace = new int[lookups];
+        for (int i = 0; i < lookups; i++) {
+            trace[i] = random.nextInt(10) < 8 ? keys[5 * random.nextInt(hotKeys)] : coldKey(keys, random);
+        }
+        // La misma traza con un recorrido de claves frías cada 10.000 consultas
+        int[] scanned = trace.clone();
+        for (int start = 0; start + hotKeys <= lookups; start += 10_000) {
+            for (int i = 0; i < hotKeys / 2; i++) {
+                scanned[start + i] = coldKey(keys, random);
+            }
+        }
+
+        int capacity = LookupCache.DEFAULT_CAPACITY;
+        System.out.println("Caché de consultas, n = " + size + ", capacidad " + capacity + ", " + lookups
+                + " consultas 80/20");
+        reportLookups("  sin caché", trace, target -> SequentialSearchEngine.scalarSearch(keys, size, target));
+
+        for (String policy : new String[]{LookupCache.LRU, LookupCache.CLOCK, LookupCache.W_TINY_LFU}) {
+            for (int[] targets : new int[][]{trace, scanned}) {
+                LookupCache cache = new LookupCache(policy, capacity);
+                reportLookups(String.format("  %s%s", policy, targets == trace ? "" : " con recorridos"), targets,
+                        target -> {
+                            int position = cache.get(target);
+                            if (position == -1) {
+                                position = SequentialSearchEngine.scalarSearch(keys, size, target);
+                                cache.put(target, position);
+                            }
+                            return position;
+                        });
+                System.out.printf("    aciertos: %.1f%%%n", cache.getHitRatio() * 100);
+            }
+        }
+    }
+
+    // Clave en una posición que no es múltiplo de cinco
+    private static int coldKey(int[] keys, Random random) {
+        return keys[5 * random.nextInt(keys.length / 5) + 1 + random.nextInt(4)];
+    }
+
+    // Claves recorridas y tiempo por consulta a medida que el índice de cracking converge
+    private static void benchmarkCracking(int size, int lookups) {
+        Random random = new Random(23);
+        IntKeyStore store = new IntKeyStore(size);
+        for (int i = 0; i < size; i++) {
+            store.add(random.nextInt());
+        }
+        int[] targets = new int[lookups];
+        for (int i = 0; i < lookups; i++) {
+            targets[i] = store.get(random.nextInt(size));
+        }
+
+        System.out.println("Cracking, n = " + size + ", " + lookups + " consultas aleatorias");
+
+        long start = System.nanoTime();
+        long found = 0;
+        for (int i = 0; i < 100; i++) {
+            found += SequentialSearchEngine.scalarSearch(store.rawKeys(), size, targets[i]);
+        }
+        System.out.printf("  recorrido completo: %.1f us por consulta (%d)%n",
+                (System.nanoTime() - start) / 100 / 1_000.0, found);
+
+        // Cada tramo mide las consultas desde el tramo anterior: de 1 a 10, de 11 a 100, ...
+        CrackerIndex index = new CrackerIndex();
+        int done = 0;
+        for (int stage = 10; stage <= lookups; stage *= 10) {
+            double scannedBefore = index.getAverageScannedKeys() * index.getLookups();
+            int first = done;
+            start = System.nanoTime();
+            for (; done < stage; done++) {
+                found += index.search(store, targets[done]);
+            }
+            long elapsed = System.nanoTime() - start;
+            double scanned = index.getAverageScannedKeys() * index.getLookups() - scannedBefore;
+            System.out.printf("  consultas %d a %d: %.1f us por consulta, %.0f claves recorridas, %d cortes (%d)%n",
+                    first + 1, stage, elapsed / 1_000.0 / (stage - first), scanned / (stage - first),
+                    index.getPivotCount(), found);
+        }
+    }
+
+    // Claves ordenadas sin repetir con separación aleatoria
+    private static int[] sortedKeys(int size, Random random) {
+        int[] keys = new int[size];
+        int value = 0;
+        for (int i = 0; i < size; i++) {
+            value += 1 + random.nextInt(64);
+            keys[i] = value;
+        }
+        return keys;
+    }
+
+    // Compara la búsqueda binaria con las disposiciones alternativas
+    private static void benchmarkSorted(int size) {
+        Random random = new Random(7);
+        int[] keys = sortedKeys(size, random);
+
+        // Mitad aciertos y mitad fallos, en orden aleatorio
+        int[] targets = new int[1_000_000];
+        for (int i = 0; i < targets.length; i++) {
+            int key = keys[random.nextInt(size)];
+            targets[i] = (i & 1) == 0 ? key : key + 1;
+        }
+
+        System.out.println("Búsqueda en claves ordenadas, n = " + size);
+        reportLookups("  binaria", targets, target -> SortedSearchEngine.binarySearch(keys, size, target));
+
+        EytzingerLayout eytzinger = EytzingerLayout.build(keys, size);
+        reportLookups("  eytzinger", targets, eytzinger::search);
+
+        KarySearchTree karyTree = KarySearchTree.build(keys, size);
+        reportLookups("  árbol 16-ario", targets, karyTree::search);
+
+        reportLookups("  interpolación", targets, target -> SortedSearchEngine.interpolationSearch(keys, size, target));
+        reportLookups("  exponencial (desde 0)", targets,
+                target -> SortedSearchEngine.exponentialSearch(keys, size, target, 0));
+
+        SortedSearchSelector selector = new SortedSearchSelector();
+        selector.analyze(keys, size);
+        reportLookups("  automática", targets, target -> selector.search(keys, size, target));
+
+        LearnedIndex learned = LearnedIndex.build(keys, size);
+        reportLookups("  índice aprendido", targets, learned::search);
+        System.out.printf("    %d segmentos, %d bytes de modelo, error promedio %.1f, ventana promedio %.1f%n",
+                learned.getSegmentCount(), learned.getModelBytes(), learned.getAverageError(),
+                learned.getAverageWindow());
+
+        benchmarkBatch(keys, size, targets);
+    }
+
+    // Disposiciones de árbol desde L1 hasta memoria principal; con 100M claves usar -Xmx2g o más
+    private static void benchmarkLayouts(int size) {
+        Random random = new Random(29);
+        int[] keys = new int[size];
+        int value = 0;
+        for (int i = 0; i < size; i++) {
+            // Saltos pequeños para que 100M claves no desborden el int
+            value += 1 + random.nextInt(16);
+            keys[i] = value;
+        }
+        int[] targets = new int[1_000_000];
+        for (int i = 0; i < targets.length; i++) {
+            int key = keys[random.nextInt(size)];
+            targets[i] = (i & 1) == 0 ? key : key + 1;
+        }
+
+        System.out.println("Disposiciones de árbol, n = " + size);
+        reportLookups("  binaria", targets, target -> SortedSearchEngine.binarySearch(keys, size, target));
+
+        // Cada estructura se construye y se libera antes de la siguiente para acotar la memoria
+        EytzingerLayout eytzinger = EytzingerLayout.build(keys, size);
+        reportLookups("  eytzinger", targets, eytzinger::search);
+        eytzinger = null;
+
+        KarySearchTree karyTree = KarySearchTree.build(keys, size);
+        reportLookups("  árbol 16-ario", targets, karyTree::search);
+        karyTree = null;
+
+        VanEmdeBoasLayout veb = VanEmdeBoasLayout.build(keys, size);
+        reportLookups("  van Emde Boas", targets, veb::search);
+    }
+
+    // Resuelve las consultas en lotes de 4096 claves frente a una por una
+    private static void benchmarkBatch(int[] keys, int size, int[] targets) {
+        int batchSize = 4096;
+        int[][] batches = new int[targets.length / batchSize][];
+        for (int b = 0; b < batches.length; b++) {
+            batches[b] = Arrays.copyOfRange(targets, b * batchSize, (b + 1) * batchSize);
+        }
+
+        long best = Long.MAX_VALUE;
+        int sink = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int[] batch : batches) {
+                sink += BatchLookup.lookup(keys, size, batch)[0];
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, elapsed);
+            }
+        }
+
+        BatchLookup.Stats stats = new BatchLookup.Stats();
+        BatchLookup.lookup(keys, size, batches[0], stats);
+
+        double lookupsPerSecond = (double) batches.length * batchSize / (best / 1e9);
+        System.out.printf("  lote de %d: %.1f M búsquedas/s (%d)%n", batchSize, lookupsPerSecond / 1e6, sink & 1);
+        System.out.printf("    por lote: %d comparaciones y %d líneas de caché (una a una: %d y %d)%n",
+                stats.getBatchComparisons(), stats.getBatchCacheLines(),
+                stats.getSingleComparisons(), stats.getSingleCacheLines());
+    }
+
+    // Imprime millones de búsquedas por segundo
+    private static void reportLookups(String label, int[] targets, Search search) {
+        long best = Long.MAX_VALUE;
+        int sink = 0;
+
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int target : targets) {
+                sink += search.find(target);
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, elapsed);
+            }
+        }
+
+        double lookupsPerSecond = targets.length / (best / 1e9);
+        System.out.printf("%s: %.1f M búsquedas/s (%d)%n", label, lookupsPerSecond / 1e6, sink & 1);
+    }
+
+    // Compara el recorrido escalar con el vectorial y el paralelo
+    private static void benchmarkSequential(int size) {
+        Random random = new Random(42);
+        int[] keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+
+        // Búsquedas fallidas: recorren el arreglo completo
+        int[] targets = new int[Math.max(1, 20_000_000 / size)];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = -1 - i;
+        }
+
+        System.out.println("Búsqueda secuencial, n = " + size);
+        report("  escalar", size, targets, target -> SequentialSearchEngine.scalarSearch(keys, size, target));
+        if (VectorSequentialSearch.isAvailable()) {
+            report("  vectorial (" + VectorSequentialSearch.lanes() + " vías)", size, targets,
+                    target -> VectorSequentialSearch.search(keys, size, target));
+        } else {
+            System.out.println("  vectorial: requiere --add-modules jdk.incubator.vector");
+        }
+
+        ParallelSequentialSearch parallel = new ParallelSequentialSearch(Runtime.getRuntime().availableProcessors());
+        report("  paralela (" + parallel.getParallelism() + " hilos)", size, targets,
+                target -> parallel.search(keys, size, target));
+        parallel.shutdown();
+    }
+
+    // Imprime millones de claves comparadas por segundo
+    private static void report(String label, int size, int[] targets, Search search) {
+        long best = Long.MAX_VALUE;
+        int sink = 0;
+
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int target : targets) {
+                sink += search.find(target);
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, elapsed);
+            }
+        }
+
+        double keysPerSecond = (double) size * targets.length / (best / 1e9);
+        System.out.printf("%s: %.1f M claves/s (%d)%n", label, keysPerSecond / 1e6, sink & 1);
+    }
+
+    // Como reportHashes, pero cada ronda es una sola llamada que calcula count hashes
+    private static void reportHashes(String label, int count, IntSupplier batch) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long best = Long.MAX_VALUE;
+        long allocated = 0;
+        int sink = 0;
+
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            sink += batch.getAsInt();
+            long elapsed = System.nanoTime() - start;
+            if (round >= WARMUP_ROUNDS && elapsed < best) {
+                best = elapsed;
+                allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            }
+        }
+
+        System.out.printf("%s: %.1f M hashes/s, %.1f bytes por hash (%d)%n",
+                label, count / (best / 1e9) / 1e6, (double) allocated / count, sink & 1);
+    }
+
+    // Versiones anteriores sobre String.valueOf, solo como referencia de las mediciones
+    private static final class StringDigitHashes {
+
+        /**
+         * Plegamiento: suma los grupos de dos dígitos. Si la suma no cabe en la
+         * tabla se toma su último dígito (o el penúltimo si el último es 0).
+         */
+        public static int folding(int value, int tableSize) {
+            String valueStr = String.valueOf(value);
+            int sum = 0;
+
+            if (valueStr.length() <= 1) {
+                return value % tableSize;
+            }
+
+            // Dividir en grupos de 2 dígitos
+            for (int i = 0; i < valueStr.length(); i += 2) {
+                if (i + 1 < valueStr.length()) {
+                    String chunk = valueStr.substring(i, i + 2);
+                    sum += Integer.parseInt(chunk);
+                } else {
+                    sum += Integer.parseInt(valueStr.substring(i));
+                }
+            }
+
+            if (sum >= tableSize) {
+                String sumStr = String.valueOf(sum);
+                int lastDigit = Integer.parseInt(sumStr.substring(sumStr.length() - 1));
+
+                if (lastDigit == 0 && tableSize > 9) {
+                    if (sumStr.length() > 1) {
+                        lastDigit = Integer.parseInt(sumStr.substring(sumStr.length() - 2, sumStr.length() - 1));
+                    }
+                }
+
+                if (lastDigit < tableSize) {
+                    return lastDigit;
+                }
+            }
+
+            return sum % tableSize;
+        }
+
+        /**
+         * Truncamiento: concatena los dígitos en las posiciones dadas (base 1).
+         * Retorna -1 si alguna posición no existe en la clave.
+         */
+        public static int truncation(int value, int[] positions, int tableSize) {
+            String valueStr = String.valueOf(value);
+
+            // Verificar que todas las posiciones existan en el valor
+            for (int position : positions) {
+                int index = position - 1;
+                if (index >= valueStr.length() || index < 0) {
+                    return -1;
+                }
+            }
+
+            StringBuilder hashBuilder = new StringBuilder();
+            for (int position : positions) {
+                int index = position - 1;
+                hashBuilder.append(valueStr.charAt(index));
+            }
+
+            int hash;
+            try {
+                hash = Integer.parseInt(hashBuilder.toString());
+            } catch (NumberFormatException e) {
+                hash = 0;
+            }
+
+            return hash % tableSize;
+        }
+
+        /**
+         * Cuadrado medio: toma del cuadrado de la clave tantos dígitos centrales
+         * como dígitos tiene el tamaño de la tabla.
+         */
+        public static int middleSquare(int value, int tableSize) {
+            long squared = (long) value * value;
+
+            String squaredStr = String.valueOf(squared);
+            int len = squaredStr.length();
+
+            if (len < 2) {
+                squaredStr = "0" + squaredStr;
+                len = squaredStr.length();
+            }
+
+            int tableSizeDigits = String.valueOf(tableSize).length();
+
+            int mid = len / 2;
+            int digitsToTake = Math.min(tableSizeDigits, len);
+            int start = Math.max(0, mid - (digitsToTake / 2));
+            int end = Math.min(len, start + digitsToTake);
+
+            if (start >= end) {
+                end = start + 1;
+            }
+
+            String middleDigits = squaredStr.substring(start, end);
+
+            int hashValue;
+            try {
+                hashValue = Integer.parseInt(middleDigits);
+            } catch (NumberFormatException e) {
+                hashValue = 0;
+            }
+
+            return hashValue % tableSize;
+        }
+    }
+}
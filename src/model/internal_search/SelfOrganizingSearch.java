@@ -0,0 +1,108 @@
+package model.internal_search;
+
+/**
+ * Búsqueda secuencial autoorganizada: tras cada acierto reordena las claves para
+ * que las más consultadas queden cerca del inicio.
+ * - Mover al frente: la clave encontrada pasa a la posición 0.
+ * - Transponer: la clave encontrada se intercambia con la anterior.
+ * - Por frecuencia: cada clave lleva un contador y el arreglo se mantiene
+ *   ordenado de mayor a menor número de consultas.
+ */
+public class SelfOrganizingSearch {
+
+    public static final String MOVE_TO_FRONT = "Mover al frente";
+    public static final String TRANSPOSE = "Transponer";
+    public static final String FREQUENCY_COUNT = "Por frecuencia";
+
+    private final String policy;
+    // Contador de consultas alineado con las claves (solo política por frecuencia)
+    private int[] counts = new int[0];
+    private long lookups;
+    private long probes;
+
+    public SelfOrganizingSearch(String policy) {
+        if (!MOVE_TO_FRONT.equals(policy) && !TRANSPOSE.equals(policy) && !FREQUENCY_COUNT.equals(policy)) {
+            throw new IllegalArgumentException("Política de reorganización desconocida: " + policy);
+        }
+        this.policy = policy;
+    }
+
+    /**
+     * Busca la clave, reorganiza el almacén y retorna la nueva posición de la clave, o -1.
+     */
+    public int search(IntKeyStore store, int target) {
+        int[] keys = store.rawKeys();
+        int size = store.size();
+        int position = SequentialSearchEngine.scalarSearch(keys, size, target);
+
+        lookups++;
+        probes += position == -1 ? size : position + 1;
+
+        // El primer elemento solo cambia su contador
+        if (position == -1 || (position == 0 && !FREQUENCY_COUNT.equals(policy))) {
+            return position;
+        }
+
+        switch (policy) {
+            case MOVE_TO_FRONT:
+                System.arraycopy(keys, 0, keys, 1, position);
+                keys[0] = target;
+                position = 0;
+                break;
+            case TRANSPOSE:
+                keys[position] = keys[position - 1];
+                keys[position - 1] = target;
+                position--;
+                break;
+            default:
+                position = promoteByFrequency(keys, size, position);
+        }
+
+        store.markUnsorted();
+        return position;
+    }
+
+    // Sube la clave mientras su contador supere al de la anterior
+    private int promoteByFrequency(int[] keys, int size, int position) {
+        if (counts.length < size) {
+            int[] grown = new int[keys.length];
+            System.arraycopy(counts, 0, grown, 0, counts.length);
+            counts = grown;
+        }
+
+        int key = keys[position];
+        int count = ++counts[position];
+        while (position > 0 && counts[position - 1] < count) {
+            keys[position] = keys[position - 1];
+            counts[position] = counts[position - 1];
+            position--;
+        }
+        keys[position] = key;
+        counts[position] = count;
+        return position;
+    }
+
+    // Descarta los contadores cuando las claves cambian de lugar por otra causa
+    public void resetCounts() {
+        counts = new int[0];
+    }
+
+    // Reinicia las estadísticas de sondeos
+    public void resetStats() {
+        lookups = 0;
+        probes = 0;
+    }
+
+    public String getPolicy() {
+        return policy;
+    }
+
+    public long getLookups() {
+        return lookups;
+    }
+
+    // Cantidad promedio de claves comparadas por búsqueda
+    public double getAverageProbeLength() {
+        return lookups == 0 ? 0 : (double) probes / lookups;
+    }
+}
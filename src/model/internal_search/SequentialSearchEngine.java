@@ -0,0 +1,26 @@
+package model.internal_search;
+
+/**
+ * Recorrido escalar sobre las claves de un IntKeyStore; las búsquedas paralela
+ * y vectorial lo usan para sus tramos. Retorna la primera posición de la clave o -1.
+ */
+public class SequentialSearchEngine {
+
+    private SequentialSearchEngine() {
+    }
+
+    // Recorrido clásico, una comparación por clave
+    public static int scalarSearch(int[] keys, int size, int target) {
+        return scalarSearch(keys, 0, size, target);
+    }
+
+    // Recorrido escalar sobre el rango [from, to)
+    public static int scalarSearch(int[] keys, int from, int to, int target) {
+        for (int i = from; i < to; i++) {
+            if (keys[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,254 @@
+package model.internal_search;
+
+import java.util.Arrays;
+
+/**
+ * Lista ordenada por bloques para insertar y eliminar sin reordenar todo el arreglo.
+ * - Las claves se guardan en bloques ordenados de hasta MAX_BLOCK claves.
+ * - Insertar o eliminar solo desplaza claves dentro de un bloque; un bloque lleno
+ *   se divide en dos y uno casi vacío se fusiona con su vecino.
+ * - Un árbol de Fenwick sobre la cantidad de claves por bloque da la posición
+ *   global de una clave en O(log n).
+ */
+public class SortedBlockList {
+
+    // 512 claves = 2 KB por bloque
+    public static final int MAX_BLOCK = 512;
+    // Ocupación inicial al construir desde un arreglo, deja espacio para inserciones
+    private static final int BUILD_FILL = MAX_BLOCK / 2;
+    // Por debajo de esta ocupación se intenta fusionar con el bloque siguiente
+    private static final int MERGE_THRESHOLD = MAX_BLOCK / 4;
+
+    private int[][] blocks;
+    private int[] counts;
+    private int blockCount;
+    private int size;
+    // Árbol de Fenwick (base 1) con la cantidad de claves de cada bloque
+    private int[] fenwick;
+
+    public SortedBlockList() {
+        blocks = new int[4][];
+        counts = new int[4];
+        fenwick = new int[5];
+    }
+
+    /**
+     * Construye la lista a partir de las primeras size claves ya ordenadas y sin repetir.
+     */
+    public static SortedBlockList fromSorted(int[] sortedKeys, int size) {
+        SortedBlockList list = new SortedBlockList();
+        int needed = (size + BUILD_FILL - 1) / BUILD_FILL;
+        list.ensureBlockCapacity(needed);
+
+        for (int from = 0; from < size; from += BUILD_FILL) {
+            int count = Math.min(BUILD_FILL, size - from);
+            int[] block = new int[MAX_BLOCK];
+            System.arraycopy(sortedKeys, from, block, 0, count);
+            list.blocks[list.blockCount] = block;
+            list.counts[list.blockCount] = count;
+            list.blockCount++;
+        }
+        list.size = size;
+        list.rebuildFenwick();
+        return list;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Inserta la clave en orden; retorna false si ya existía
+    public boolean insert(int key) {
+        if (blockCount == 0) {
+            ensureBlockCapacity(1);
+            blocks[0] = new int[MAX_BLOCK];
+            blockCount = 1;
+            rebuildFenwick();
+        }
+
+        int b = findBlock(key);
+        int pos = Arrays.binarySearch(blocks[b], 0, counts[b], key);
+        if (pos >= 0) {
+            return false;
+        }
+        pos = -pos - 1;
+
+        if (counts[b] == MAX_BLOCK) {
+            splitBlock(b);
+            if (pos > counts[b]) {
+                pos -= counts[b];
+                b++;
+            }
+        }
+
+        int[] block = blocks[b];
+        System.arraycopy(block, pos, block, pos + 1, counts[b] - pos);
+        block[pos] = key;
+        counts[b]++;
+        size++;
+        fenwickAdd(b, 1);
+        return true;
+    }
+
+    // Elimina la clave; retorna false si no existía
+    public boolean remove(int key) {
+        if (size == 0) {
+            return false;
+        }
+
+        int b = findBlock(key);
+        int pos = Arrays.binarySearch(blocks[b], 0, counts[b], key);
+        if (pos < 0) {
+            return false;
+        }
+
+        int[] block = blocks[b];
+        System.arraycopy(block, pos + 1, block, pos, counts[b] - pos - 1);
+        counts[b]--;
+        size--;
+
+        if (counts[b] == 0) {
+            removeBlock(b);
+        } else if (counts[b] < MERGE_THRESHOLD && b + 1 < blockCount
+                && counts[b] + counts[b + 1] <= MAX_BLOCK / 2) {
+            mergeWithNext(b);
+        } else {
+            fenwickAdd(b, -1);
+        }
+        return true;
+    }
+
+    public boolean contains(int key) {
+        return indexOf(key) != -1;
+    }
+
+    // Posición global de la clave en el orden ascendente, o -1
+    public int indexOf(int key) {
+        if (size == 0) {
+            return -1;
+        }
+        int b = findBlock(key);
+        int pos = Arrays.binarySearch(blocks[b], 0, counts[b], key);
+        if (pos < 0) {
+            return -1;
+        }
+        return fenwickPrefix(b) + pos;
+    }
+
+    // Clave en la posición global indicada
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Posición fuera de rango: " + index);
+        }
+
+        // Descenso por el árbol de Fenwick hasta el bloque que contiene la posición
+        int b = 0;
+        int remaining = index;
+        for (int step = Integer.highestOneBit(blockCount); step > 0; step >>= 1) {
+            int next = b + step;
+            if (next <= blockCount && fenwick[next] <= remaining) {
+                b = next;
+                remaining -= fenwick[next];
+            }
+        }
+        return blocks[b][remaining];
+    }
+
+    // Copia todas las claves en orden al inicio de dest
+    public void copyTo(int[] dest) {
+        int offset = 0;
+        for (int b = 0; b < blockCount; b++) {
+            System.arraycopy(blocks[b], 0, dest, offset, counts[b]);
+            offset += counts[b];
+        }
+    }
+
+    public int[] toArray() {
+        int[] result = new int[size];
+        copyTo(result);
+        return result;
+    }
+
+    // Primer bloque cuya última clave es >= key (o el último bloque)
+    private int findBlock(int key) {
+        int low = 0;
+        int high = blockCount - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (blocks[mid][counts[mid] - 1] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void splitBlock(int b) {
+        ensureBlockCapacity(blockCount + 1);
+        System.arraycopy(blocks, b + 1, blocks, b + 2, blockCount - b - 1);
+        System.arraycopy(counts, b + 1, counts, b + 2, blockCount - b - 1);
+
+        int half = counts[b] / 2;
+        int[] upper = new int[MAX_BLOCK];
+        System.arraycopy(blocks[b], half, upper, 0, counts[b] - half);
+        blocks[b + 1] = upper;
+        counts[b + 1] = counts[b] - half;
+        counts[b] = half;
+        blockCount++;
+        rebuildFenwick();
+    }
+
+    private void mergeWithNext(int b) {
+        System.arraycopy(blocks[b + 1], 0, blocks[b], counts[b], counts[b + 1]);
+        counts[b] += counts[b + 1];
+        removeBlock(b + 1);
+    }
+
+    private void removeBlock(int b) {
+        System.arraycopy(blocks, b + 1, blocks, b, blockCount - b - 1);
+        System.arraycopy(counts, b + 1, counts, b, blockCount - b - 1);
+        blockCount--;
+        blocks[blockCount] = null;
+        counts[blockCount] = 0;
+        rebuildFenwick();
+    }
+
+    private void ensureBlockCapacity(int needed) {
+        if (needed > blocks.length) {
+            int capacity = Math.max(needed, blocks.length * 2);
+            blocks = Arrays.copyOf(blocks, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+        }
+    }
+
+    // Reconstrucción en O(bloques); solo ocurre al dividir, fusionar o quitar bloques
+    private void rebuildFenwick() {
+        if (fenwick.length < blockCount + 1) {
+            fenwick = new int[blocks.length + 1];
+        }
+        Arrays.fill(fenwick, 0);
+        for (int i = 1; i <= blockCount; i++) {
+            fenwick[i] += counts[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= blockCount) {
+                fenwick[parent] += fenwick[i];
+            }
+        }
+    }
+
+    private void fenwickAdd(int b, int delta) {
+        for (int i = b + 1; i <= blockCount; i += i & -i) {
+            fenwick[i] += delta;
+        }
+    }
+
+    // Cantidad de claves en los bloques anteriores a b
+    private int fenwickPrefix(int b) {
+        int sum = 0;
+        for (int i = b; i > 0; i -= i & -i) {
+            sum += fenwick[i];
+        }
+        return sum;
+    }
+}
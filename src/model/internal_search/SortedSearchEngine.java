@@ -0,0 +1,106 @@
+package model.internal_search;
+
+/**
+ * Núcleos de búsqueda sobre las claves ordenadas de un IntKeyStore.
+ * Todas las variantes retornan la posición de la clave o -1.
+ */
+public class SortedSearchEngine {
+
+    private SortedSearchEngine() {
+    }
+
+    // Búsqueda binaria clásica sobre [0, size)
+    public static int binarySearch(int[] keys, int size, int target) {
+        return binarySearch(keys, 0, size, target);
+    }
+
+    // Búsqueda binaria sobre el rango [from, to)
+    public static int binarySearch(int[] keys, int from, int to, int target) {
+        int left = from;
+        int right = to - 1;
+
+        while (left <= right) {
+            int mid = (left + right) >>> 1;
+
+            if (keys[mid] == target) {
+                return mid;
+            }
+
+            if (keys[mid] < target) {
+                left = mid + 1;
+            } else {
+                right = mid - 1;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Búsqueda por interpolación: estima la posición suponiendo claves repartidas
+     * de forma uniforme. Si tras log2(n) sondeos el rango sigue abierto (claves
+     * poco uniformes) termina con búsqueda binaria para no degradar a O(n).
+     */
+    public static int interpolationSearch(int[] keys, int size, int target) {
+        int low = 0;
+        int high = size - 1;
+        int probesLeft = 32 - Integer.numberOfLeadingZeros(size);
+
+        while (low <= high && target >= keys[low] && target <= keys[high]) {
+            if (probesLeft-- == 0) {
+                return binarySearch(keys, low, high + 1, target);
+            }
+
+            long span = (long) keys[high] - keys[low];
+            if (span == 0) {
+                return keys[low] == target ? low : -1;
+            }
+
+            int pos = low + (int) ((double) ((long) target - keys[low]) / span * (high - low));
+
+            if (keys[pos] == target) {
+                return pos;
+            }
+
+            if (keys[pos] < target) {
+                low = pos + 1;
+            } else {
+                high = pos - 1;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Búsqueda exponencial (galopante) desde una posición de partida: duplica el
+     * salto hasta rebasar la clave y luego busca en binario dentro del último
+     * salto. Cuesta O(log d), donde d es la distancia a la posición de partida.
+     */
+    public static int exponentialSearch(int[] keys, int size, int target, int start) {
+        if (size == 0) {
+            return -1;
+        }
+
+        start = Math.max(0, Math.min(start, size - 1));
+
+        if (keys[start] == target) {
+            return start;
+        }
+
+        int bound = 1;
+        if (keys[start] < target) {
+            // Galopar hacia la derecha
+            while (bound < size - start && keys[start + bound] < target) {
+                bound <<= 1;
+            }
+            return binarySearch(keys, start + bound / 2 + 1, Math.min(start + bound + 1, size), target);
+        }
+
+        // Galopar hacia la izquierda
+        while (bound <= start && keys[start - bound] > target) {
+            bound <<= 1;
+        }
+        return binarySearch(keys, Math.max(start - bound, 0), start - bound / 2, target);
+    }
+}
@@ -0,0 +1,95 @@
+package model.internal_search;
+
+/**
+ * Elige automáticamente el método de búsqueda sobre claves ordenadas.
+ * - Interpolación si una muestra de las claves indica una distribución casi uniforme.
+ * - Exponencial desde la última posición si las consultas recientes caen cerca entre sí.
+ * - Binaria en cualquier otro caso.
+ */
+public class SortedSearchSelector {
+
+    public static final String BINARY = "Binaria";
+    public static final String INTERPOLATION = "Interpolación";
+    public static final String EXPONENTIAL = "Exponencial";
+
+    // Posiciones muestreadas para estimar la uniformidad
+    private static final int SAMPLE_SIZE = 64;
+    // Error máximo de la estimación lineal, como fracción del tamaño
+    private static final int UNIFORM_ERROR_FRACTION = 16;
+    // Distancia máxima entre consultas consecutivas para considerarlas cercanas
+    private static final int LOCALITY_WINDOW = 64;
+    // Consultas cercanas seguidas necesarias para preferir la búsqueda exponencial
+    private static final int LOCALITY_STREAK = 4;
+
+    private boolean uniform;
+    private long maxSampleError;
+    private int lastPosition = -1;
+    private int nearStreak;
+    private String lastMethod = BINARY;
+
+    /**
+     * Muestrea las claves y compara cada una con la posición que predice una
+     * recta entre la primera y la última clave.
+     */
+    public void analyze(int[] keys, int size) {
+        lastPosition = -1;
+        nearStreak = 0;
+        maxSampleError = 0;
+
+        if (size < 2 || keys[size - 1] == keys[0]) {
+            uniform = false;
+            return;
+        }
+
+        double slope = (double) (size - 1) / ((long) keys[size - 1] - keys[0]);
+        int samples = Math.min(SAMPLE_SIZE, size);
+
+        for (int i = 0; i < samples; i++) {
+            int position = (int) ((long) i * (size - 1) / Math.max(samples - 1, 1));
+            long predicted = (long) (((long) keys[position] - keys[0]) * slope);
+            maxSampleError = Math.max(maxSampleError, Math.abs(predicted - position));
+        }
+
+        uniform = maxSampleError * UNIFORM_ERROR_FRACTION <= size;
+    }
+
+    public int search(int[] keys, int size, int target) {
+        int position;
+
+        if (nearStreak >= LOCALITY_STREAK && lastPosition >= 0) {
+            lastMethod = EXPONENTIAL;
+            position = SortedSearchEngine.exponentialSearch(keys, size, target, lastPosition);
+        } else if (uniform) {
+            lastMethod = INTERPOLATION;
+            position = SortedSearchEngine.interpolationSearch(keys, size, target);
+        } else {
+            lastMethod = BINARY;
+            position = SortedSearchEngine.binarySearch(keys, size, target);
+        }
+
+        if (position != -1) {
+            boolean near = lastPosition >= 0 && Math.abs(position - lastPosition) <= LOCALITY_WINDOW;
+            nearStreak = near ? nearStreak + 1 : 0;
+            lastPosition = position;
+        }
+        return position;
+    }
+
+    public boolean isUniform() {
+        return uniform;
+    }
+
+    // Mayor desviación (en posiciones) encontrada en la muestra
+    public long getMaxSampleError() {
+        return maxSampleError;
+    }
+
+    public int getLastPosition() {
+        return lastPosition;
+    }
+
+    // Método usado en la última búsqueda
+    public String getLastMethod() {
+        return lastMethod;
+    }
+}
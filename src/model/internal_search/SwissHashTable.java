@@ -0,0 +1,375 @@
+package model.internal_search;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+/**
+ * Tabla hash con bytes de control y sondeo por grupos de 16 posiciones, al
+ * estilo de SwissTable (Abseil) y hashbrown.
+ * - Cada posición tiene un byte de control aparte de su clave: vacía (0x80),
+ *   borrada (0xFE) u ocupada, con 7 bits de un hash secundario de la clave.
+ * - La función hash de la tabla elige el grupo inicial; los grupos siguientes
+ *   se recorren en saltos triangulares (1, 2, 3...), que con una cantidad de
+ *   grupos potencia de dos visitan todos.
+ * - Un grupo son 16 bytes de control en dos long: una sola operación por
+ *   long marca las 8 posiciones cuyo control coincide (SWAR), y solo esas
+ *   comparan su clave. La búsqueda termina en el primer grupo con una
+ *   posición vacía.
+ * - Eliminar deja una lápida (borrada) si el grupo está lleno, porque
+ *   alguna búsqueda pudo seguir de largo; si no, la posición vuelve a vacía.
+ * - Con 7/8 de las posiciones usadas (claves y lápidas) la tabla se rehace:
+ *   en el mismo arreglo si las lápidas liberan suficiente espacio, o con el
+ *   doble de grupos si no.
+ */
+public class SwissHashTable {
+
+    public static final int NOT_FOUND = -1;
+    public static final int GROUP_SIZE = 16;
+
+    // Bytes de control; una posición ocupada guarda los 7 bits de su hash secundario
+    private static final int EMPTY = 0x80;
+    private static final int DELETED = 0xFE;
+
+    private static final long LSBS = 0x0101010101010101L;
+    private static final long MSBS = 0x8080808080808080L;
+    private static final int WORDS_PER_GROUP = GROUP_SIZE / 8;
+
+    private final HashFunction hashFunction;
+    private int[] keys;
+    // Ocho bytes de control por long, el de la posición 8k + j en los bits 8j..8j+7 del long k
+    private long[] controls;
+    private int groupMask;
+    private int capacity;
+    private int size;
+    private int tombstones;
+    // Posiciones vacías que aún pueden ocuparse antes de rehacer la tabla
+    private int growthLeft;
+
+    private int lastProbeGroups;
+    private int growths;
+    private int inPlaceRehashes;
+
+    public SwissHashTable(int minCapacity, HashFunction hashFunction) {
+        this.hashFunction = hashFunction;
+        // Grupos suficientes para la capacidad pedida sin pasar de 7/8 de carga, en potencia de dos
+        int groups = Math.max(1, (minCapacity * 8 / 7 + GROUP_SIZE - 1) / GROUP_SIZE);
+        allocate(Integer.highestOneBit(groups * 2 - 1));
+    }
+
+    public static SwissHashTable of(int[] keys, int minCapacity, HashFunction hashFunction) {
+        SwissHashTable table = new SwissHashTable(Math.max(minCapacity, keys.length), hashFunction);
+        for (int key : keys) {
+            table.insert(key);
+        }
+        return table;
+    }
+
+    private void allocate(int groups) {
+        capacity = groups * GROUP_SIZE;
+        groupMask = groups - 1;
+        keys = new int[capacity];
+        controls = new long[groups * WORDS_PER_GROUP];
+        Arrays.fill(controls, LSBS * EMPTY);
+        size = 0;
+        tombstones = 0;
+        growthLeft = maxLoad();
+    }
+
+    private int maxLoad() {
+        return capacity - capacity / 8;
+    }
+
+    // Grupo inicial: el de la posición que da la función hash; un valor fuera de rango cae en el residuo
+    private int startGroup(int key) {
+        int home = hashFunction.hash(key, capacity);
+        if (home < 0 || home >= capacity) {
+            home = Math.floorMod(key, capacity);
+        }
+        return home / GROUP_SIZE;
+    }
+
+    // 7 bits de un hash multiplicativo, independiente de la función que elige el grupo
+    private static int secondaryHash(int key) {
+        return (key * 0x9E3779B9) >>> 25;
+    }
+
+    // Bytes del long cuyo control es h2 (el bit alto de cada uno). Puede marcar de
+    // más el byte siguiente a una coincidencia; la clave se compara de todos modos
+    private static long matchControl(long word, int h2) {
+        long x = word ^ (LSBS * h2);
+        return (x - LSBS) & ~x & MSBS;
+    }
+
+    // Vacía es el único control con el bit alto encendido y el bit 1 apagado
+    private static long matchEmpty(long word) {
+        return word & (~word << 6) & MSBS;
+    }
+
+    private static long matchEmptyOrDeleted(long word) {
+        return word & MSBS;
+    }
+
+    private int control(int slot) {
+        return (int) (controls[slot >>> 3] >>> ((slot & 7) << 3)) & 0xFF;
+    }
+
+    private void setControl(int slot, int control) {
+        int shift = (slot & 7) << 3;
+        controls[slot >>> 3] = (controls[slot >>> 3] & ~(0xFFL << shift)) | ((long) control << shift);
+    }
+
+    /**
+     * Posición de la clave, o -1 si no está.
+     */
+    public int find(int key) {
+        int h2 = secondaryHash(key);
+        int group = startGroup(key);
+
+        for (int probe = 1; probe <= groupMask + 1; probe++) {
+            lastProbeGroups = probe;
+            boolean hasEmpty = false;
+            for (int w = 0; w < WORDS_PER_GROUP; w++) {
+                int word = group * WORDS_PER_GROUP + w;
+                long candidates = matchControl(controls[word], h2);
+                while (candidates != 0) {
+                    int slot = (word << 3) + (Long.numberOfTrailingZeros(candidates) >>> 3);
+                    if (keys[slot] == key && control(slot) == h2) {
+                        return slot;
+                    }
+                    candidates &= candidates - 1;
+                }
+                hasEmpty |= matchEmpty(controls[word]) != 0;
+            }
+            if (hasEmpty) {
+                return NOT_FOUND;
+            }
+            group = (group + probe) & groupMask;
+        }
+        return NOT_FOUND;
+    }
+
+    public int[] findAll(int[] keys) {
+        int[] positions = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            positions[i] = find(keys[i]);
+        }
+        return positions;
+    }
+
+    public boolean contains(int key) {
+        return find(key) != NOT_FOUND;
+    }
+
+    // Primera posición vacía o borrada en la secuencia de grupos de la clave
+    private int findInsertSlot(int key) {
+        int group = startGroup(key);
+        for (int probe = 1; probe <= groupMask + 1; probe++) {
+            lastProbeGroups = probe;
+            for (int w = 0; w < WORDS_PER_GROUP; w++) {
+                int word = group * WORDS_PER_GROUP + w;
+                long free = matchEmptyOrDeleted(controls[word]);
+                if (free != 0) {
+                    return (word << 3) + (Long.numberOfTrailingZeros(free) >>> 3);
+                }
+            }
+            group = (group + probe) & groupMask;
+        }
+        // No ocurre: la carga máxima deja siempre posiciones vacías
+        throw new IllegalStateException("Tabla sin posiciones libres");
+    }
+
+    /**
+     * Inserta la clave y retorna su posición, o -1 si ya estaba.
+     */
+    public int insert(int key) {
+        if (contains(key)) {
+            return NOT_FOUND;
+        }
+
+        int slot = findInsertSlot(key);
+        if (growthLeft == 0 && control(slot) == EMPTY) {
+            rehashOrGrow();
+            slot = findInsertSlot(key);
+        }
+
+        if (control(slot) == EMPTY) {
+            growthLeft--;
+        } else {
+            tombstones--;
+        }
+        keys[slot] = key;
+        setControl(slot, secondaryHash(key));
+        size++;
+        return slot;
+    }
+
+    public boolean remove(int key) {
+        int slot = find(key);
+        if (slot == NOT_FOUND) {
+            return false;
+        }
+
+        // Si el grupo tiene una posición vacía ninguna búsqueda pasó de largo por él
+        int word = (slot / GROUP_SIZE) * WORDS_PER_GROUP;
+        boolean groupHasEmpty = false;
+        for (int w = 0; w < WORDS_PER_GROUP; w++) {
+            groupHasEmpty |= matchEmpty(controls[word + w]) != 0;
+        }
+
+        if (groupHasEmpty) {
+            setControl(slot, EMPTY);
+            growthLeft++;
+        } else {
+            setControl(slot, DELETED);
+            tombstones++;
+        }
+        size--;
+        return true;
+    }
+
+    // Si las lápidas ocupan buena parte de la tabla basta con quitarlas; si no, se duplica
+    private void rehashOrGrow() {
+        if (size <= (long) capacity * 25 / 32) {
+            rehashInPlace();
+        } else {
+            grow();
+        }
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        long[] oldControls = controls;
+        int oldCapacity = capacity;
+
+        allocate((groupMask + 1) * 2);
+        growths++;
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            int control = (int) (oldControls[slot >>> 3] >>> ((slot & 7) << 3)) & 0xFF;
+            if (control < EMPTY) {
+                int target = findInsertSlot(oldKeys[slot]);
+                keys[target] = oldKeys[slot];
+                setControl(target, control);
+                size++;
+                growthLeft--;
+            }
+        }
+    }
+
+    /**
+     * Quita las lápidas sin otro arreglo: las ocupadas pasan a borradas y las
+     * borradas a vacías; luego cada clave marcada vuelve a insertarse. Si cae
+     * en su mismo grupo se queda; si cae en una vacía se muda; si cae en otra
+     * marcada intercambia con ella y se procesa la clave que llega.
+     */
+    private void rehashInPlace() {
+        inPlaceRehashes++;
+        for (int word = 0; word < controls.length; word++) {
+            // Vacía o borrada (bit alto encendido) -> 0x80; ocupada -> 0xFE
+            long special = controls[word] & MSBS;
+            controls[word] = (~special + (special >>> 7)) & ~LSBS;
+        }
+
+        for (int slot = 0; slot < capacity; slot++) {
+            if (control(slot) != DELETED) {
+                continue;
+            }
+
+            int key = keys[slot];
+            int target = findInsertSlot(key);
+            int h2 = secondaryHash(key);
+            if (target / GROUP_SIZE == slot / GROUP_SIZE) {
+                setControl(slot, h2);
+            } else if (control(target) == EMPTY) {
+                keys[target] = key;
+                setControl(target, h2);
+                setControl(slot, EMPTY);
+            } else {
+                keys[slot] = keys[target];
+                keys[target] = key;
+                setControl(target, h2);
+                // La clave que llegó a esta posición todavía no se reubica
+                slot--;
+            }
+        }
+
+        tombstones = 0;
+        growthLeft = maxLoad() - size;
+    }
+
+    public int get(int slot) {
+        return keys[slot];
+    }
+
+    public boolean isOccupied(int slot) {
+        return control(slot) < EMPTY;
+    }
+
+    public boolean isDeleted(int slot) {
+        return control(slot) == DELETED;
+    }
+
+    // Byte de control de la posición en hexadecimal (80 vacía, FE borrada)
+    public String controlByte(int slot) {
+        return String.format("%02X", control(slot));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    // Claves de la tabla en el orden de sus posiciones
+    public int[] keys() {
+        int[] occupied = new int[size];
+        int count = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            if (isOccupied(slot)) {
+                occupied[count++] = keys[slot];
+            }
+        }
+        return occupied;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int tombstones() {
+        return tombstones;
+    }
+
+    public double loadFactor() {
+        return (double) size / capacity;
+    }
+
+    // Grupos revisados por la última búsqueda o inserción
+    public int getLastProbeGroups() {
+        return lastProbeGroups;
+    }
+
+    public int getGrowths() {
+        return growths;
+    }
+
+    public int getInPlaceRehashes() {
+        return inPlaceRehashes;
+    }
+
+    // Una línea por posición; vacías y borradas se guardan como [-1]
+    public void writeRows(File file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new BufferedWriter(new FileWriter(file)))) {
+            for (int slot = 0; slot < capacity; slot++) {
+                writer.print('[');
+                writer.print(isOccupied(slot) ? keys[slot] : IntHashTable.EMPTY_SLOT);
+                writer.println(']');
+            }
+
+            writer.println("# Formato: cada línea representa una fila de la tabla hash");
+            writer.println("# [valor1, valor2, ...] para múltiples valores en la misma posición");
+            writer.println("# [-1] para posiciones vacías");
+        }
+    }
+}
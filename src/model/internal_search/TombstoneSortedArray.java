@@ -0,0 +1,256 @@
+package model.internal_search;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Arreglo ordenado con eliminación por lápidas.
+ * - Eliminar solo enciende un bit en un mapa de bits: O(log n), sin mover claves.
+ * - Las búsquedas siguen siendo binarias sobre todas las posiciones y descartan
+ *   las que tienen lápida. Si la clave se repite y la copia encontrada tiene
+ *   lápida, se revisan sus vecinas iguales en busca de una copia viva.
+ * - Cuando la proporción de lápidas supera el umbral, un hilo en segundo plano
+ *   compacta una copia del arreglo; solo el intercambio final toma el candado,
+ *   y las eliminaciones ocurridas mientras tanto se vuelven a marcar en la copia.
+ */
+public class TombstoneSortedArray {
+
+    public static final double DEFAULT_COMPACTION_THRESHOLD = 0.25;
+
+    private int[] keys;
+    private int size;
+    private long[] tombstones;
+    private int tombstoneCount;
+    private double compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+
+    // Compactación en curso y claves eliminadas desde que tomó su copia
+    private final ExecutorService compactor;
+    private Future<?> pendingCompaction;
+    private int[] deletedDuringCompaction = new int[16];
+    private int deletedDuringCount;
+    private Runnable compactionListener;
+
+    private int compactionCount;
+    private long lastCompactionNanos;
+    private long totalCompactionNanos;
+    private int lastCompactionRemoved;
+
+    /**
+     * Copia las primeras size claves ya ordenadas; puede haber claves repetidas.
+     */
+    public TombstoneSortedArray(int[] sortedKeys, int size) {
+        this.keys = Arrays.copyOf(sortedKeys, size);
+        this.size = size;
+        this.tombstones = new long[(size + 63) >>> 6];
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "compactacion-lapidas");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Posición de una copia viva de la clave, o -1 si no existe o todas tienen lápida
+    public synchronized int search(int target) {
+        return livePosition(target);
+    }
+
+    // Marca una copia de la clave como eliminada; retorna false si no quedaba ninguna viva
+    public synchronized boolean delete(int key) {
+        int position = livePosition(key);
+        if (position == -1) {
+            return false;
+        }
+
+        tombstones[position >>> 6] |= 1L << position;
+        tombstoneCount++;
+
+        if (pendingCompaction != null) {
+            recordDeletedDuringCompaction(key);
+        } else if (getTombstoneRatio() > compactionThreshold) {
+            pendingCompaction = compactor.submit(this::compact);
+        }
+        return true;
+    }
+
+    /**
+     * Búsqueda binaria; si la posición encontrada tiene lápida, recorre hacia
+     * ambos lados las copias iguales de la clave hasta dar con una viva.
+     */
+    private int livePosition(int key) {
+        int position = SortedSearchEngine.binarySearch(keys, size, key);
+        if (position == -1 || !isTombstone(position)) {
+            return position;
+        }
+
+        for (int i = position - 1; i >= 0 && keys[i] == key; i--) {
+            if (!isTombstone(i)) {
+                return i;
+            }
+        }
+        for (int i = position + 1; i < size && keys[i] == key; i++) {
+            if (!isTombstone(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void recordDeletedDuringCompaction(int key) {
+        if (deletedDuringCount == deletedDuringCompaction.length) {
+            deletedDuringCompaction = Arrays.copyOf(deletedDuringCompaction, deletedDuringCount * 2);
+        }
+        deletedDuringCompaction[deletedDuringCount++] = key;
+    }
+
+    // Se ejecuta en el hilo de compactación
+    private void compact() {
+        long start = System.nanoTime();
+        int[] snapshotKeys;
+        long[] snapshotTombstones;
+        int snapshotSize;
+        synchronized (this) {
+            snapshotKeys = keys;
+            snapshotSize = size;
+            snapshotTombstones = tombstones.clone();
+            deletedDuringCount = 0;
+        }
+
+        // Copia sin candado: búsquedas y eliminaciones siguen sobre el arreglo actual
+        int[] compacted = new int[snapshotSize];
+        int live = 0;
+        for (int i = 0; i < snapshotSize; i++) {
+            if ((snapshotTombstones[i >>> 6] & (1L << i)) == 0) {
+                compacted[live++] = snapshotKeys[i];
+            }
+        }
+
+        Runnable listener;
+        synchronized (this) {
+            keys = compacted;
+            size = live;
+            tombstones = new long[(live + 63) >>> 6];
+            tombstoneCount = 0;
+            for (int i = 0; i < deletedDuringCount; i++) {
+                // Cada eliminación marca una copia distinta si la clave se repite
+                int position = livePosition(deletedDuringCompaction[i]);
+                tombstones[position >>> 6] |= 1L << position;
+                tombstoneCount++;
+            }
+            deletedDuringCount = 0;
+            pendingCompaction = null;
+
+            lastCompactionRemoved = snapshotSize - live;
+            lastCompactionNanos = System.nanoTime() - start;
+            totalCompactionNanos += lastCompactionNanos;
+            compactionCount++;
+            listener = compactionListener;
+        }
+
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    // Espera a que termine la compactación en curso, si la hay
+    public void awaitCompaction() throws InterruptedException {
+        Future<?> pending;
+        synchronized (this) {
+            pending = pendingCompaction;
+        }
+        if (pending != null) {
+            try {
+                pending.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Falló la compactación", e.getCause());
+            }
+        }
+    }
+
+    private boolean isTombstone(int position) {
+        return (tombstones[position >>> 6] & (1L << position)) != 0;
+    }
+
+    // Posiciones físicas, incluidas las que tienen lápida
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized int get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Posición fuera de rango: " + position);
+        }
+        return keys[position];
+    }
+
+    public synchronized boolean isDeleted(int position) {
+        return isTombstone(position);
+    }
+
+    public synchronized int liveCount() {
+        return size - tombstoneCount;
+    }
+
+    public synchronized int getTombstoneCount() {
+        return tombstoneCount;
+    }
+
+    public synchronized double getTombstoneRatio() {
+        return size == 0 ? 0 : (double) tombstoneCount / size;
+    }
+
+    // Claves vivas en orden
+    public synchronized int[] toLiveArray() {
+        int[] live = new int[size - tombstoneCount];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (!isTombstone(i)) {
+                live[count++] = keys[i];
+            }
+        }
+        return live;
+    }
+
+    public synchronized double getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    // Proporción de lápidas (entre 0 y 1) a partir de la cual se compacta
+    public synchronized void setCompactionThreshold(double compactionThreshold) {
+        if (compactionThreshold <= 0 || compactionThreshold > 1) {
+            throw new IllegalArgumentException("El umbral debe estar entre 0 y 1");
+        }
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    // Se invoca desde el hilo de compactación al terminar cada una
+    public synchronized void setCompactionListener(Runnable compactionListener) {
+        this.compactionListener = compactionListener;
+    }
+
+    public synchronized boolean isCompacting() {
+        return pendingCompaction != null;
+    }
+
+    public synchronized int getCompactionCount() {
+        return compactionCount;
+    }
+
+    public synchronized long getLastCompactionNanos() {
+        return lastCompactionNanos;
+    }
+
+    public synchronized long getTotalCompactionNanos() {
+        return totalCompactionNanos;
+    }
+
+    public synchronized int getLastCompactionRemoved() {
+        return lastCompactionRemoved;
+    }
+
+    public void shutdown() {
+        compactor.shutdown();
+    }
+}
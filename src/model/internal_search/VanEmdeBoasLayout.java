@@ -0,0 +1,128 @@
+package model.internal_search;
+
+/**
+ * Copia de las claves ordenadas en disposición van Emde Boas: el árbol binario
+ * completo se parte por la mitad de su altura en un árbol superior y varios
+ * inferiores, cada uno guardado de forma contigua y con la misma partición
+ * aplicada recursivamente. Cualquier subárbol de altura h ocupa un tramo
+ * contiguo de 2^h - 1 claves, por lo que la búsqueda aprovecha todos los
+ * niveles de caché sin conocer sus tamaños (cache-oblivious).
+ */
+public class VanEmdeBoasLayout {
+
+    private final int[] tree;
+    private final int size;
+    private final int height;
+
+    // Por profundidad d de la raíz de un árbol inferior: tamaño del árbol superior
+    // que la precede, tamaño de cada árbol inferior y profundidad de la raíz del bloque
+    private final int[] topSize;
+    private final int[] bottomSize;
+    private final int[] blockDepth;
+    // Posición en el arreglo de cada nodo del camino actual; evita reservar memoria por búsqueda
+    private final int[] pathPositions;
+
+    private VanEmdeBoasLayout(int size) {
+        this.size = size;
+        this.height = size == 0 ? 0 : 32 - Integer.numberOfLeadingZeros(size);
+        this.tree = new int[(1 << height) - 1];
+        this.topSize = new int[height + 1];
+        this.bottomSize = new int[height + 1];
+        this.blockDepth = new int[height + 1];
+        this.pathPositions = new int[height + 1];
+        computeSplits(0, height);
+    }
+
+    /**
+     * Construye la disposición a partir de las primeras size claves ya ordenadas.
+     * El árbol se completa hasta 2^altura - 1 nodos con el máximo int.
+     */
+    public static VanEmdeBoasLayout build(int[] sortedKeys, int size) {
+        VanEmdeBoasLayout layout = new VanEmdeBoasLayout(size);
+        if (size > 0) {
+            layout.place(sortedKeys, 1, 0, layout.height, 0);
+        }
+        return layout;
+    }
+
+    // Registra dónde cae cada raíz de árbol inferior al partir un bloque de la altura dada
+    private void computeSplits(int depth, int blockHeight) {
+        if (blockHeight <= 1) {
+            return;
+        }
+        int top = blockHeight / 2;
+        int bottom = blockHeight - top;
+        topSize[depth + top] = (1 << top) - 1;
+        bottomSize[depth + top] = (1 << bottom) - 1;
+        blockDepth[depth + top] = depth;
+
+        computeSplits(depth, top);
+        computeSplits(depth + top, bottom);
+    }
+
+    // Copia el bloque con raíz en el nodo node (índice por niveles, base 1) a partir de position
+    private void place(int[] sortedKeys, int node, int depth, int blockHeight, int position) {
+        if (blockHeight == 1) {
+            int rank = inorderRank(node, depth);
+            tree[position] = rank < size ? sortedKeys[rank] : Integer.MAX_VALUE;
+            return;
+        }
+
+        int top = blockHeight / 2;
+        int bottom = blockHeight - top;
+        place(sortedKeys, node, depth, top, position);
+
+        int bottomStart = position + (1 << top) - 1;
+        int bottomLength = (1 << bottom) - 1;
+        for (int j = 0; j < 1 << top; j++) {
+            place(sortedKeys, (node << top) + j, depth + top, bottom, bottomStart + j * bottomLength);
+        }
+    }
+
+    // Posición en orden del nodo dentro del árbol completo de altura height
+    private int inorderRank(int node, int depth) {
+        int offset = node - (1 << depth);
+        return ((2 * offset + 1) << (height - 1 - depth)) - 1;
+    }
+
+    /**
+     * Retorna la posición de la clave en el arreglo ordenado, o -1.
+     * Como en Eytzinger, se desciende hasta el fondo sin salir antes y luego se
+     * vuelve al último nodo >= target del camino.
+     */
+    public int search(int target) {
+        if (height == 0) {
+            return -1;
+        }
+
+        int[] t = tree;
+        int[] positions = pathPositions;
+        // La raíz está siempre en la posición 0
+        positions[0] = 0;
+        int node = 2 + (t[0] < target ? 1 : 0);
+
+        for (int depth = 1; depth < height; depth++) {
+            int position = positions[blockDepth[depth]] + topSize[depth] + (node & topSize[depth]) * bottomSize[depth];
+            positions[depth] = position;
+            node = 2 * node + (t[position] < target ? 1 : 0);
+        }
+
+        // Quitar los giros a la derecha finales para volver al último nodo >= target
+        node >>>= Integer.numberOfTrailingZeros(~node) + 1;
+        if (node == 0) {
+            return -1;
+        }
+
+        int depth = 31 - Integer.numberOfLeadingZeros(node);
+        int rank = inorderRank(node, depth);
+        // Los nodos de relleno valen el máximo int y quedan después de todas las claves reales
+        if (rank >= size || t[positions[depth]] != target) {
+            return -1;
+        }
+        return rank;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,109 @@
+package model.internal_search;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Búsqueda secuencial con la Vector API (IntVector): compara un registro
+ * completo de claves por instrucción y solo ramifica una vez por bloque.
+ * - La Vector API es un módulo incubador: solo está disponible si la JVM se
+ *   inicia con --add-modules jdk.incubator.vector (JDK 16 o superior).
+ * - Las clases se resuelven con MethodHandles, así el proyecto compila sin
+ *   ese módulo; sin él, search recorre las claves de forma escalar.
+ * - Los MethodHandles son constantes: el JIT los integra y aplica los
+ *   intrínsecos de IntVector igual que si se llamaran directamente.
+ */
+public final class VectorSequentialSearch {
+
+    private VectorSequentialSearch() {
+    }
+
+    public static boolean isAvailable() {
+        return Kernel.AVAILABLE;
+    }
+
+    // Claves comparadas por bloque (ancho preferido del procesador), o 1 sin Vector API
+    public static int lanes() {
+        return Kernel.LANES;
+    }
+
+    /**
+     * Retorna la primera posición de la clave entre las primeras size, o -1.
+     */
+    public static int search(int[] keys, int size, int target) {
+        if (!Kernel.AVAILABLE) {
+            return SequentialSearchEngine.scalarSearch(keys, size, target);
+        }
+
+        int limit = size - size % Kernel.LANES;
+        int i = 0;
+        try {
+            for (; i < limit; i += Kernel.LANES) {
+                Object block = (Object) Kernel.FROM_ARRAY.invokeExact(keys, i);
+                Object matches = (Object) Kernel.EQUALS.invokeExact(block, target);
+                if ((boolean) Kernel.ANY_TRUE.invokeExact(matches)) {
+                    // La clave está en este bloque: se ubica la primera coincidencia
+                    return SequentialSearchEngine.scalarSearch(keys, i, i + Kernel.LANES, target);
+                }
+            }
+        } catch (Throwable e) {
+            throw new IllegalStateException("Falló la búsqueda vectorial", e);
+        }
+
+        // Resto final que no completa un bloque
+        return SequentialSearchEngine.scalarSearch(keys, i, size, target);
+    }
+
+    // Se carga en la primera búsqueda; si el módulo no está, queda marcado como no disponible
+    private static final class Kernel {
+        static final boolean AVAILABLE;
+        static final int LANES;
+        // (int[] claves, int desde) -> IntVector
+        static final MethodHandle FROM_ARRAY;
+        // (IntVector bloque, int clave) -> VectorMask de las vías iguales
+        static final MethodHandle EQUALS;
+        // (VectorMask) -> boolean
+        static final MethodHandle ANY_TRUE;
+
+        static {
+            boolean available = false;
+            int lanes = 1;
+            MethodHandle fromArray = null;
+            MethodHandle equals = null;
+            MethodHandle anyTrue = null;
+
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                Class<?> intVector = Class.forName("jdk.incubator.vector.IntVector");
+                Class<?> species = Class.forName("jdk.incubator.vector.VectorSpecies");
+                Class<?> mask = Class.forName("jdk.incubator.vector.VectorMask");
+                Class<?> operators = Class.forName("jdk.incubator.vector.VectorOperators");
+                Class<?> comparison = Class.forName("jdk.incubator.vector.VectorOperators$Comparison");
+
+                Object preferred = intVector.getField("SPECIES_PREFERRED").get(null);
+                Object equalOperator = operators.getField("EQ").get(null);
+
+                fromArray = lookup.findStatic(intVector, "fromArray",
+                                MethodType.methodType(intVector, species, int[].class, int.class))
+                        .bindTo(preferred)
+                        .asType(MethodType.methodType(Object.class, int[].class, int.class));
+                equals = MethodHandles.insertArguments(lookup.findVirtual(intVector, "compare",
+                                MethodType.methodType(mask, comparison, int.class)), 1, equalOperator)
+                        .asType(MethodType.methodType(Object.class, Object.class, int.class));
+                anyTrue = lookup.findVirtual(mask, "anyTrue", MethodType.methodType(boolean.class))
+                        .asType(MethodType.methodType(boolean.class, Object.class));
+                lanes = (int) species.getMethod("length").invoke(preferred);
+                available = true;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Sin jdk.incubator.vector: se usa el recorrido escalar
+            }
+
+            AVAILABLE = available;
+            LANES = lanes;
+            FROM_ARRAY = fromArray;
+            EQUALS = equals;
+            ANY_TRUE = anyTrue;
+        }
+    }
+}
@@ -10,6 +10,8 @@ public class ColisionView extends JFrame {
     private JButton btnSequentialSolution;
     private JButton btnExponentialSolution;
     private JButton btnTableSolution;
+    private JButton btnRobinHoodSolution;
+    private JButton btnDoubleHashSolution;
     private JButton btnCancel;
     private int collidingValue;
     private int hashPosition;
@@ -17,7 +19,7 @@ public class ColisionView extends JFrame {
     public ColisionView() {
         // Basic window configuration
         setTitle("Soluciones de Colisión");
-        setSize(500, 350);
+        setSize(500, 420);
         setLocationRelativeTo(null);
         setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE); // Cambio a DISPOSE_ON_CLOSE
         setLayout(new BorderLayout(15, 15));
@@ -54,18 +56,22 @@ public class ColisionView extends JFrame {
         centerPanel.setBorder(new EmptyBorder(20, 20, 20, 20));
 
         JPanel buttonPanel = new JPanel();
-        buttonPanel.setLayout(new GridLayout(2, 2, 20, 20));
+        buttonPanel.setLayout(new GridLayout(3, 2, 20, 20));
         buttonPanel.setBackground(new Color(240, 248, 255));
 
         // Custom styled buttons
         btnSequentialSolution = createStyledButton("Solución Secuencial", new Color(41, 128, 185));
         btnExponentialSolution = createStyledButton("Solución Exponencial", new Color(46, 134, 193));
         btnTableSolution = createStyledButton("Solución Tablas", new Color(46, 134, 193));
+        btnRobinHoodSolution = createStyledButton("Solución Robin Hood", new Color(46, 134, 193));
+        btnDoubleHashSolution = createStyledButton("Solución Doble Hash", new Color(46, 134, 193));
         btnCancel = createStyledButton("Cancelar", new Color(231, 76, 60));
 
         buttonPanel.add(btnSequentialSolution);
         buttonPanel.add(btnExponentialSolution);
         buttonPanel.add(btnTableSolution);
+        buttonPanel.add(btnRobinHoodSolution);
+        buttonPanel.add(btnDoubleHashSolution);
         buttonPanel.add(btnCancel);
 
         centerPanel.add(buttonPanel);
@@ -115,6 +121,14 @@ public class ColisionView extends JFrame {
         btnTableSolution.addActionListener(listener);
     }
 
+    public void addRobinHoodSolutionListener(ActionListener listener) {
+        btnRobinHoodSolution.addActionListener(listener);
+    }
+
+    public void addDoubleHashSolutionListener(ActionListener listener) {
+        btnDoubleHashSolution.addActionListener(listener);
+    }
+
     public void addCancelListener(ActionListener listener) {
         btnCancel.addActionListener(listener);
     }
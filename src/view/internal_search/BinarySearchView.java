@@ -23,6 +23,9 @@ public class BinarySearchView extends JFrame {
     private JTextField txtValueToDelete;
     private JTextField txtDigitLimit;
     private JCheckBox chkVisualizeProcess;
+    private OptionComboPanel cachePolicyPanel;
+    private JCheckBox chkTombstoneDelete;
+    private JComboBox<String> cmbSearchMode;
     private JLabel lblResult;
     private int currentSearchIndex = -1;
     private int foundIndex = -1;
@@ -234,6 +237,28 @@ public class BinarySearchView extends JFrame {
         verticalControlPanel.add(visualizationPanel);
         verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
 
+        // Panel for search mode (used when the process is not visualized)
+        JPanel searchModePanel = createControlPanel();
+        JLabel lblSearchMode = new JLabel("Modo de búsqueda:");
+        lblSearchMode.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        lblSearchMode.setForeground(VERY_DARK);
+
+        cmbSearchMode = new JComboBox<>();
+        cmbSearchMode.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        cmbSearchMode.setBackground(SOFT_WHITE);
+        cmbSearchMode.setForeground(VERY_DARK);
+
+        searchModePanel.add(lblSearchMode);
+        searchModePanel.add(cmbSearchMode);
+
+        verticalControlPanel.add(searchModePanel);
+        verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
+        // Panel for the lookup cache policy (key -> position)
+        cachePolicyPanel = new OptionComboPanel("Caché de consultas:");
+        verticalControlPanel.add(cachePolicyPanel);
+        verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
         // Panel to delete value
         JPanel deletePanel = createControlPanel();
         JLabel lblDelete = new JLabel("Eliminar una clave:");
@@ -252,6 +277,19 @@ public class BinarySearchView extends JFrame {
         verticalControlPanel.add(deletePanel);
         verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
 
+        // Panel for tombstone deletes (compacted in the background)
+        JPanel tombstonePanel = createControlPanel();
+        chkTombstoneDelete = new JCheckBox("Eliminar con lápidas (compactación en segundo plano)");
+        chkTombstoneDelete.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        chkTombstoneDelete.setBackground(CREAM);
+        chkTombstoneDelete.setForeground(VERY_DARK);
+        chkTombstoneDelete.setCursor(new Cursor(Cursor.HAND_CURSOR));
+
+        tombstonePanel.add(chkTombstoneDelete);
+
+        verticalControlPanel.add(tombstonePanel);
+        verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
         // Result label
         lblResult = new JLabel("");
         lblResult.setFont(new Font("Segoe UI", Font.BOLD, 14));
@@ -351,6 +389,10 @@ public class BinarySearchView extends JFrame {
         btnSearch.addActionListener(listener);
     }
 
+    public void addCachePolicyListener(ActionListener listener) {
+        cachePolicyPanel.addSelectionListener(listener);
+    }
+
     public void addDeleteValueListener(ActionListener listener) {
         btnDeleteValue.addActionListener(listener);
     }
@@ -402,6 +444,13 @@ public class BinarySearchView extends JFrame {
         }
     }
 
+    // Reemplaza la columna de claves desde la fila indicada sin reconstruir la tabla
+    public void setKeyRows(int fromRow, Object[] keys) {
+        for (int i = 0; i < keys.length; i++) {
+            tableModel.setValueAt(keys[i], fromRow + i, 1);
+        }
+    }
+
     // Method to highlight a specific row in the table (para compatibilidad)
     public void highlightRow(int rowIndex) {
         if (rowIndex >= 0 && rowIndex < dataTable.getRowCount()) {
@@ -451,6 +500,31 @@ public class BinarySearchView extends JFrame {
         return chkVisualizeProcess.isSelected();
     }
 
+    // Method to set the available cache policies
+    public void setCachePolicies(String[] policies) {
+        cachePolicyPanel.setOptions(policies);
+    }
+
+    // Method to get the selected cache policy
+    public String getCachePolicy() {
+        return cachePolicyPanel.getSelectedOption();
+    }
+
+    // Method to check if deletes should leave tombstones
+    public boolean isTombstoneDeleteEnabled() {
+        return chkTombstoneDelete.isSelected();
+    }
+
+    // Method to set the available search modes
+    public void setSearchModes(String[] modes) {
+        cmbSearchMode.setModel(new DefaultComboBoxModel<>(modes));
+    }
+
+    // Method to get the selected search mode
+    public String getSearchMode() {
+        return (String) cmbSearchMode.getSelectedItem();
+    }
+
     // Method to show the window
     public void showWindow() {
         setVisible(true);
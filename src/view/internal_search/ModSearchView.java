@@ -23,6 +23,8 @@ public class ModSearchView extends JFrame {
     private JTextField txtValueToDelete;
     private JTextField txtDigitLimit;
     private JCheckBox chkVisualizeProcess;
+    private OptionComboPanel cachePolicyPanel;
+    private OptionComboPanel tableModePanel;
     private JLabel lblResult;
     private int currentSearchIndex = -1;
     private int foundIndex = -1;
@@ -230,6 +232,16 @@ public class ModSearchView extends JFrame {
         verticalControlPanel.add(visualizationPanel);
         verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
 
+        // Panel para la política de la caché de consultas (clave -> posición)
+        cachePolicyPanel = new OptionComboPanel("Caché de consultas:");
+        verticalControlPanel.add(cachePolicyPanel);
+        verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
+        // Panel para la organización de la tabla (direccionamiento abierto o cuckoo)
+        tableModePanel = new OptionComboPanel("Tabla:");
+        verticalControlPanel.add(tableModePanel);
+        verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
         // Panel para eliminar valores
         JPanel deletePanel = createControlPanel();
         JLabel lblDelete = new JLabel("Eliminar una clave:");
@@ -347,6 +359,14 @@ public class ModSearchView extends JFrame {
         btnSearch.addActionListener(listener);
     }
 
+    public void addCachePolicyListener(ActionListener listener) {
+        cachePolicyPanel.addSelectionListener(listener);
+    }
+
+    public void addTableModeListener(ActionListener listener) {
+        tableModePanel.addSelectionListener(listener);
+    }
+
     public void addDeleteValueListener(ActionListener listener) {
         btnDeleteValue.addActionListener(listener);
     }
@@ -497,6 +517,26 @@ public class ModSearchView extends JFrame {
         return chkVisualizeProcess.isSelected();
     }
 
+    // Method to set the available cache policies
+    public void setCachePolicies(String[] policies) {
+        cachePolicyPanel.setOptions(policies);
+    }
+
+    // Method to get the selected cache policy
+    public String getCachePolicy() {
+        return cachePolicyPanel.getSelectedOption();
+    }
+
+    // Method to set the available table modes
+    public void setTableModes(String[] modes) {
+        tableModePanel.setOptions(modes);
+    }
+
+    // Method to get the selected table mode
+    public String getTableMode() {
+        return tableModePanel.getSelectedOption();
+    }
+
     // Method to show the window
     public void showWindow() {
         setVisible(true);
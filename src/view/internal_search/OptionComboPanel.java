@@ -0,0 +1,47 @@
+package view.internal_search;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionListener;
+
+/**
+ * Fila de controles con una etiqueta y un combo de opciones, con los colores y
+ * fuentes de los paneles de las vistas de búsqueda interna.
+ */
+class OptionComboPanel extends JPanel {
+
+    private static final Color CREAM = new Color(242, 202, 153);      // #F2CA99
+    private static final Color VERY_DARK = new Color(13, 13, 13);     // #0D0D0D
+    private static final Color SOFT_WHITE = new Color(248, 248, 248); // Blanco suave para contraste
+
+    private final JComboBox<String> cmbOptions;
+
+    OptionComboPanel(String label) {
+        super(new FlowLayout(FlowLayout.RIGHT, 10, 5));
+        setBackground(CREAM);
+
+        JLabel lblOptions = new JLabel(label);
+        lblOptions.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        lblOptions.setForeground(VERY_DARK);
+
+        cmbOptions = new JComboBox<>();
+        cmbOptions.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        cmbOptions.setBackground(SOFT_WHITE);
+        cmbOptions.setForeground(VERY_DARK);
+
+        add(lblOptions);
+        add(cmbOptions);
+    }
+
+    void setOptions(String[] options) {
+        cmbOptions.setModel(new DefaultComboBoxModel<>(options));
+    }
+
+    String getSelectedOption() {
+        return (String) cmbOptions.getSelectedItem();
+    }
+
+    void addSelectionListener(ActionListener listener) {
+        cmbOptions.addActionListener(listener);
+    }
+}
@@ -24,6 +24,10 @@ public class SequentialSearchView extends JFrame {
     private JTextField txtValueToDelete;
     private JTextField txtDigitLimit;
     private JCheckBox chkVisualizeProcess;
+    private OptionComboPanel cachePolicyPanel;
+    private JComboBox<String> cmbSearchMode;
+    private JTextField txtParallelThreads;
+    private JButton btnApplyThreads;
     private JLabel lblResult;
     private int currentSearchIndex = -1;
     private int foundIndex = -1;
@@ -228,6 +232,47 @@ public class SequentialSearchView extends JFrame {
         verticalControlPanel.add(visualizationPanel);
         verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
 
+        // Panel for search mode (used when the process is not visualized)
+        JPanel searchModePanel = createControlPanel();
+        JLabel lblSearchMode = new JLabel("Modo de búsqueda:");
+        lblSearchMode.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        lblSearchMode.setForeground(VERY_DARK);
+
+        cmbSearchMode = new JComboBox<>();
+        cmbSearchMode.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        cmbSearchMode.setBackground(SOFT_WHITE);
+        cmbSearchMode.setForeground(VERY_DARK);
+
+        searchModePanel.add(lblSearchMode);
+        searchModePanel.add(cmbSearchMode);
+
+        verticalControlPanel.add(searchModePanel);
+        verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
+        // Panel for the thread count of the parallel search mode
+        JPanel parallelThreadsPanel = createControlPanel();
+        JLabel lblParallelThreads = new JLabel("Hilos (paralela):");
+        lblParallelThreads.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        lblParallelThreads.setForeground(VERY_DARK);
+
+        txtParallelThreads = createStyledTextField();
+        txtParallelThreads.setText(String.valueOf(Runtime.getRuntime().availableProcessors())); // Valor por defecto
+
+        btnApplyThreads = createStyledButton("Aplicar", LIGHT_BROWN);
+
+        parallelThreadsPanel.add(lblParallelThreads);
+        parallelThreadsPanel.add(txtParallelThreads);
+        parallelThreadsPanel.add(Box.createHorizontalStrut(10));
+        parallelThreadsPanel.add(btnApplyThreads);
+
+        verticalControlPanel.add(parallelThreadsPanel);
+        verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
+        // Panel for the lookup cache policy (key -> position)
+        cachePolicyPanel = new OptionComboPanel("Caché de consultas:");
+        verticalControlPanel.add(cachePolicyPanel);
+        verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
         // Panel to delete value
         JPanel deletePanel = createControlPanel();
         JLabel lblDelete = new JLabel("Eliminar una clave:");
@@ -345,6 +390,14 @@ public class SequentialSearchView extends JFrame {
         btnSearch.addActionListener(listener);
     }
 
+    public void addParallelThreadsListener(ActionListener listener) {
+        btnApplyThreads.addActionListener(listener);
+    }
+
+    public void addCachePolicyListener(ActionListener listener) {
+        cachePolicyPanel.addSelectionListener(listener);
+    }
+
     public void addDeleteValueListener(ActionListener listener) {
         btnDeleteValue.addActionListener(listener);
     }
@@ -381,6 +434,11 @@ public class SequentialSearchView extends JFrame {
         return txtValueToDelete.getText().trim();
     }
 
+    // Method to get the thread count for the parallel search
+    public String getParallelThreads() {
+        return txtParallelThreads.getText().trim();
+    }
+
     // Method to get digit limit
     public String getDigitLimit() {
         return txtDigitLimit.getText().trim();
@@ -442,6 +500,26 @@ public class SequentialSearchView extends JFrame {
         return chkVisualizeProcess.isSelected();
     }
 
+    // Method to set the available cache policies
+    public void setCachePolicies(String[] policies) {
+        cachePolicyPanel.setOptions(policies);
+    }
+
+    // Method to get the selected cache policy
+    public String getCachePolicy() {
+        return cachePolicyPanel.getSelectedOption();
+    }
+
+    // Method to set the available search modes
+    public void setSearchModes(String[] modes) {
+        cmbSearchMode.setModel(new DefaultComboBoxModel<>(modes));
+    }
+
+    // Method to get the selected search mode
+    public String getSearchMode() {
+        return (String) cmbSearchMode.getSelectedItem();
+    }
+
     // Method to show the window
     public void showWindow() {
         setVisible(true);
@@ -0,0 +1,382 @@
+package view.internal_search;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.DefaultTableModel;
+import javax.swing.table.DefaultTableCellRenderer;
+import java.awt.*;
+import java.awt.event.ActionListener;
+
+public class SkipListView extends JFrame {
+
+    private JButton btnSearch;
+    private JButton btnGenerateKeys;
+    private JButton btnDeleteValue;
+    private JButton btnInsertValue;
+    private JButton btnBack;
+    private JTable dataTable;
+    private DefaultTableModel tableModel;
+    private JTextField txtValueToSearch;
+    private JTextField txtKeyCount;
+    private JTextField txtInsertValue;
+    private JTextField txtValueToDelete;
+    private JTextField txtWriterThreads;
+    private JLabel lblResult;
+    private int foundFrom = -1;
+    private int foundTo = -1;
+
+    // Paleta de colores personalizada
+    private static final Color DARK_NAVY = new Color(0, 1, 13);      // #0001DD
+    private static final Color WARM_BROWN = new Color(115, 73, 22);   // #734916
+    private static final Color LIGHT_BROWN = new Color(166, 133, 93); // #A6855D
+    private static final Color CREAM = new Color(242, 202, 153);      // #F2CA99
+    private static final Color VERY_DARK = new Color(13, 13, 13);     // #0D0D0D
+    private static final Color SOFT_WHITE = new Color(248, 248, 248); // Blanco suave para contraste
+
+    public SkipListView() {
+        // Basic window configuration
+        setTitle("Skip List Concurrente");
+        setSize(600, 900);
+        setLocationRelativeTo(null);
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setLayout(new BorderLayout(15, 15));
+
+        // Set background color using cream tone
+        getContentPane().setBackground(CREAM);
+
+        // Top panel with title and subtitle
+        JPanel titlePanel = new JPanel();
+        titlePanel.setLayout(new BoxLayout(titlePanel, BoxLayout.Y_AXIS));
+        titlePanel.setBackground(DARK_NAVY);
+        titlePanel.setBorder(new EmptyBorder(20, 20, 20, 20));
+
+        JLabel lblTitle = new JLabel("Skip List Concurrente");
+        lblTitle.setFont(new Font("Segoe UI", Font.BOLD, 22));
+        lblTitle.setForeground(SOFT_WHITE);
+        lblTitle.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        JLabel lblSubtitle = new JLabel("Inserciones y búsquedas sin bloqueos sobre claves ordenadas");
+        lblSubtitle.setFont(new Font("Segoe UI", Font.ITALIC, 14));
+        lblSubtitle.setForeground(CREAM);
+        lblSubtitle.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        titlePanel.add(lblTitle);
+        titlePanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        titlePanel.add(lblSubtitle);
+
+        add(titlePanel, BorderLayout.NORTH);
+
+        // Center panel with table and search components
+        JPanel centerPanel = new JPanel(new BorderLayout(10, 10));
+        centerPanel.setBackground(CREAM);
+        centerPanel.setBorder(new EmptyBorder(15, 15, 15, 15));
+
+        // Table panel
+        JPanel tablePanel = new JPanel(new BorderLayout());
+        tablePanel.setBackground(CREAM);
+
+        // Create table model with two columns: position and value
+        tableModel = new DefaultTableModel(new Object[]{"Posición", "Clave"}, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false; // Make table non-editable
+            }
+        };
+
+        dataTable = new JTable(tableModel);
+        dataTable.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        dataTable.setRowHeight(25);
+        dataTable.getTableHeader().setFont(new Font("Segoe UI", Font.BOLD, 14));
+        dataTable.getTableHeader().setBackground(WARM_BROWN);
+        dataTable.getTableHeader().setForeground(SOFT_WHITE);
+
+        // Custom cell renderer for highlighting
+        dataTable.setDefaultRenderer(Object.class, new DefaultTableCellRenderer() {
+            @Override
+            public Component getTableCellRendererComponent(JTable table, Object value,
+                                                           boolean isSelected, boolean hasFocus, int row, int column) {
+                Component c = super.getTableCellRendererComponent(table, value,
+                        isSelected, hasFocus, row, column);
+
+                if (row >= foundFrom && row < foundTo) {
+                    // Verde suave para las claves encontradas
+                    c.setBackground(new Color(144, 238, 144));
+                    c.setForeground(VERY_DARK);
+                } else {
+                    c.setBackground(SOFT_WHITE);
+                    c.setForeground(VERY_DARK);
+                }
+
+                return c;
+            }
+        });
+
+        JScrollPane scrollPane = new JScrollPane(dataTable);
+        scrollPane.setBorder(BorderFactory.createLineBorder(WARM_BROWN, 2));
+
+        tablePanel.add(scrollPane, BorderLayout.CENTER);
+        centerPanel.add(tablePanel, BorderLayout.CENTER);
+
+        JPanel controlPanel = new JPanel(new BorderLayout(10, 10));
+        controlPanel.setBackground(CREAM);
+        controlPanel.setBorder(new EmptyBorder(15, 0, 0, 0));
+
+        JPanel verticalControlPanel = new JPanel();
+        verticalControlPanel.setLayout(new BoxLayout(verticalControlPanel, BoxLayout.Y_AXIS));
+        verticalControlPanel.setBackground(CREAM);
+
+        // Panel for the number of writer threads
+        JPanel threadsPanel = createControlPanel();
+        JLabel lblWriterThreads = new JLabel("Hilos escritores:");
+        lblWriterThreads.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        lblWriterThreads.setForeground(VERY_DARK);
+
+        txtWriterThreads = createStyledTextField();
+        txtWriterThreads.setText("4"); // Valor por defecto
+
+        threadsPanel.add(lblWriterThreads);
+        threadsPanel.add(txtWriterThreads);
+
+        verticalControlPanel.add(threadsPanel);
+        verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
+        JPanel generatePanel = createControlPanel();
+        JLabel lblKeyCount = new JLabel("Cantidad de claves:");
+        lblKeyCount.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        lblKeyCount.setForeground(VERY_DARK);
+
+        txtKeyCount = createStyledTextField();
+
+        btnGenerateKeys = createStyledButton("Generar", WARM_BROWN);
+
+        generatePanel.add(lblKeyCount);
+        generatePanel.add(txtKeyCount);
+        generatePanel.add(Box.createHorizontalStrut(10));
+        generatePanel.add(btnGenerateKeys);
+
+        verticalControlPanel.add(generatePanel);
+        verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
+        // Panel to insert value
+        JPanel insertPanel = createControlPanel();
+        JLabel lblInsert = new JLabel("Insertar una clave:");
+        lblInsert.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        lblInsert.setForeground(VERY_DARK);
+
+        txtInsertValue = createStyledTextField();
+
+        btnInsertValue = createStyledButton("Insertar", LIGHT_BROWN);
+
+        insertPanel.add(lblInsert);
+        insertPanel.add(txtInsertValue);
+        insertPanel.add(Box.createHorizontalStrut(10));
+        insertPanel.add(btnInsertValue);
+
+        verticalControlPanel.add(insertPanel);
+        verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
+        // Panel to search value
+        JPanel searchPanel = createControlPanel();
+        JLabel lblSearch = new JLabel("Clave o rango (desde..hasta):");
+        lblSearch.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        lblSearch.setForeground(VERY_DARK);
+
+        txtValueToSearch = createStyledTextField();
+
+        btnSearch = createStyledButton("Buscar", DARK_NAVY);
+
+        searchPanel.add(lblSearch);
+        searchPanel.add(txtValueToSearch);
+        searchPanel.add(Box.createHorizontalStrut(10));
+        searchPanel.add(btnSearch);
+
+        verticalControlPanel.add(searchPanel);
+        verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
+        // Panel to delete value
+        JPanel deletePanel = createControlPanel();
+        JLabel lblDelete = new JLabel("Eliminar una clave:");
+        lblDelete.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        lblDelete.setForeground(VERY_DARK);
+
+        txtValueToDelete = createStyledTextField();
+
+        btnDeleteValue = createStyledButton("Eliminar", new Color(180, 67, 67)); // Rojo más suave
+
+        deletePanel.add(lblDelete);
+        deletePanel.add(txtValueToDelete);
+        deletePanel.add(Box.createHorizontalStrut(10));
+        deletePanel.add(btnDeleteValue);
+
+        verticalControlPanel.add(deletePanel);
+        verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
+        // Result label
+        lblResult = new JLabel("");
+        lblResult.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        lblResult.setHorizontalAlignment(SwingConstants.CENTER);
+        lblResult.setBorder(new EmptyBorder(10, 0, 10, 0));
+
+        JPanel resultPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        resultPanel.setBackground(CREAM);
+        resultPanel.add(lblResult);
+
+        verticalControlPanel.add(resultPanel);
+        verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
+        // Button panel for back button
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.setBackground(CREAM);
+
+        btnBack = createStyledButton("Volver", VERY_DARK);
+        buttonPanel.add(btnBack);
+
+        verticalControlPanel.add(buttonPanel);
+
+        controlPanel.add(verticalControlPanel, BorderLayout.CENTER);
+        centerPanel.add(controlPanel, BorderLayout.SOUTH);
+
+        add(centerPanel, BorderLayout.CENTER);
+
+        // Bottom panel with information
+        JPanel bottomPanel = new JPanel();
+        bottomPanel.setBackground(LIGHT_BROWN);
+        bottomPanel.setBorder(new EmptyBorder(10, 10, 10, 10));
+
+        JLabel lblInfo = new JLabel("© 2025 - Search Algorithms v1.0");
+        lblInfo.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        lblInfo.setForeground(SOFT_WHITE);
+
+        bottomPanel.add(lblInfo);
+        add(bottomPanel, BorderLayout.SOUTH);
+    }
+
+    private JPanel createControlPanel() {
+        JPanel panel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 5));
+        panel.setBackground(CREAM);
+        return panel;
+    }
+
+    // Method to create a styled text field
+    private JTextField createStyledTextField() {
+        JTextField textField = new JTextField(10);
+        textField.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        textField.setBackground(SOFT_WHITE);
+        textField.setForeground(VERY_DARK);
+        textField.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(LIGHT_BROWN, 1),
+                BorderFactory.createEmptyBorder(5, 8, 5, 8)
+        ));
+        return textField;
+    }
+
+    // Method to create a styled button
+    private JButton createStyledButton(String text, Color backgroundColor) {
+        JButton button = new JButton(text);
+        button.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        button.setBackground(backgroundColor);
+        button.setForeground(SOFT_WHITE);
+        button.setFocusPainted(false);
+        button.setBorderPainted(false);
+        button.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        button.setPreferredSize(new Dimension(150, 35));
+
+        // Efecto hover
+        button.addMouseListener(new java.awt.event.MouseAdapter() {
+            Color originalColor = backgroundColor;
+
+            public void mouseEntered(java.awt.event.MouseEvent evt) {
+                button.setBackground(originalColor.brighter());
+            }
+
+            public void mouseExited(java.awt.event.MouseEvent evt) {
+                button.setBackground(originalColor);
+            }
+        });
+
+        return button;
+    }
+
+    // Methods to assign external actions to buttons
+    public void addGenerateKeysListener(ActionListener listener) {
+        btnGenerateKeys.addActionListener(listener);
+    }
+
+    public void addInsertValueListener(ActionListener listener) {
+        btnInsertValue.addActionListener(listener);
+    }
+
+    public void addSearchListener(ActionListener listener) {
+        btnSearch.addActionListener(listener);
+    }
+
+    public void addDeleteValueListener(ActionListener listener) {
+        btnDeleteValue.addActionListener(listener);
+    }
+
+    public void addBackListener(ActionListener listener) {
+        btnBack.addActionListener(listener);
+    }
+
+    // Method to get search value
+    public String getSearchValue() {
+        return txtValueToSearch.getText().trim();
+    }
+
+    // Method to get the number of keys to generate
+    public String getKeyCount() {
+        return txtKeyCount.getText().trim();
+    }
+
+    // Method to get insert value
+    public String getInsertValue() {
+        return txtInsertValue.getText().trim();
+    }
+
+    // Method to get delete value
+    public String getDeleteValue() {
+        return txtValueToDelete.getText().trim();
+    }
+
+    // Method to get the number of writer threads
+    public String getWriterThreads() {
+        return txtWriterThreads.getText().trim();
+    }
+
+    // Method to display search result
+    public void setResultMessage(String message, boolean isSuccess) {
+        lblResult.setText(message);
+        lblResult.setForeground(isSuccess ? new Color(76, 175, 80) : new Color(183, 28, 28));
+    }
+
+    // Method to populate the table with values
+    public void setTableData(Object[][] data) {
+        tableModel.setRowCount(0);
+        for (Object[] row : data) {
+            tableModel.addRow(row);
+        }
+    }
+
+    // Method to highlight the found rows [fromIndex, toIndex)
+    public void highlightFoundRange(int fromIndex, int toIndex) {
+        foundFrom = fromIndex;
+        foundTo = toIndex;
+        dataTable.repaint();
+
+        if (fromIndex >= 0 && fromIndex < dataTable.getRowCount()) {
+            dataTable.scrollRectToVisible(dataTable.getCellRect(fromIndex, 0, true));
+        }
+    }
+
+    // Method to clear highlights
+    public void clearHighlights() {
+        foundFrom = -1;
+        foundTo = -1;
+        dataTable.repaint();
+    }
+
+    // Method to show the window
+    public void showWindow() {
+        setVisible(true);
+    }
+}
\ No newline at end of file
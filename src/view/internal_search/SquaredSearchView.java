@@ -23,6 +23,8 @@ public class SquaredSearchView extends JFrame {
     private final JTextField txtValueToDelete;
     private final JTextField txtDigitLimit;
     private final JCheckBox chkVisualizeProcess;
+    private final OptionComboPanel cachePolicyPanel;
+    private final OptionComboPanel tableModePanel;
     private final JLabel lblResult;
 
     // Variables para el highlighting
@@ -232,6 +234,16 @@ public class SquaredSearchView extends JFrame {
         verticalControlPanel.add(visualizationPanel);
         verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
 
+        // Panel para la política de la caché de consultas (clave -> posición)
+        cachePolicyPanel = new OptionComboPanel("Caché de consultas:");
+        verticalControlPanel.add(cachePolicyPanel);
+        verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
+        // Panel para la organización de la tabla (direccionamiento abierto o cuckoo)
+        tableModePanel = new OptionComboPanel("Tabla:");
+        verticalControlPanel.add(tableModePanel);
+        verticalControlPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
         // Panel para eliminar valores
         JPanel deletePanel = createControlPanel();
         JLabel lblDelete = new JLabel("Eliminar un valor:");
@@ -349,6 +361,14 @@ public class SquaredSearchView extends JFrame {
         btnSearch.addActionListener(listener);
     }
 
+    public void addCachePolicyListener(ActionListener listener) {
+        cachePolicyPanel.addSelectionListener(listener);
+    }
+
+    public void addTableModeListener(ActionListener listener) {
+        tableModePanel.addSelectionListener(listener);
+    }
+
     public void addDeleteValueListener(ActionListener listener) {
         btnDeleteValue.addActionListener(listener);
     }
@@ -442,6 +462,26 @@ public class SquaredSearchView extends JFrame {
         return chkVisualizeProcess.isSelected();
     }
 
+    // Method to set the available cache policies
+    public void setCachePolicies(String[] policies) {
+        cachePolicyPanel.setOptions(policies);
+    }
+
+    // Method to get the selected cache policy
+    public String getCachePolicy() {
+        return cachePolicyPanel.getSelectedOption();
+    }
+
+    // Method to set the available table modes
+    public void setTableModes(String[] modes) {
+        tableModePanel.setOptions(modes);
+    }
+
+    // Method to get the selected table mode
+    public String getTableMode() {
+        return tableModePanel.getSelectedOption();
+    }
+
     // Method to show the window
     public void showWindow() {
         setVisible(true);
@@ -11,12 +11,13 @@ public class AlgorithmMenuView extends JFrame {
     private JButton btnBinarySearch;
     private JButton btnHashSearch;
     private JButton btnTreeSearch;
+    private JButton btnSkipList;
     private JButton btnBack;
 
     public AlgorithmMenuView() {
         // Basic window configuration
         setTitle("Algoritmos de Búsqueda Interna");
-        setSize(700, 500);
+        setSize(700, 580);
         setLocationRelativeTo(null);
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLayout(new BorderLayout(10, 10));
@@ -79,15 +80,17 @@ public class AlgorithmMenuView extends JFrame {
         btnBinarySearch = createStyledButton("Búsqueda Binaria", level2Color);
         btnHashSearch = createStyledButton("Funciones Hash", level2Color);
         btnTreeSearch = createStyledButton("Árboles de Búsqueda", level2Color);
+        btnSkipList = createStyledButton("Skip List Concurrente", level2Color);
         btnBack = createStyledButton("Volver", new Color(0, 1, 13)); // Color especial para botón volver
 
-        // Main buttons grid (2x2)
-        JPanel gridPanel = new JPanel(new GridLayout(2, 2, 20, 20));
+        // Main buttons grid (3x2)
+        JPanel gridPanel = new JPanel(new GridLayout(3, 2, 20, 20));
         gridPanel.setBackground(new Color(250, 248, 245));
         gridPanel.add(btnSequentialSearch);
         gridPanel.add(btnBinarySearch);
         gridPanel.add(btnHashSearch);
         gridPanel.add(btnTreeSearch);
+        gridPanel.add(btnSkipList);
 
         // Back button panel (centered)
         JPanel backPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
@@ -203,6 +206,10 @@ public class AlgorithmMenuView extends JFrame {
         btnTreeSearch.addActionListener(listener);
     }
 
+    public void addSkipListListener(ActionListener listener) {
+        btnSkipList.addActionListener(listener);
+    }
+
     public void addBackListener(ActionListener listener) {
         btnBack.addActionListener(listener);
     }